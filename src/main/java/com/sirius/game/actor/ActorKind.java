@@ -0,0 +1,36 @@
+package com.sirius.game.actor;
+
+import akka.actor.typed.DispatcherSelector;
+import akka.actor.typed.MailboxSelector;
+import akka.actor.typed.Props;
+
+/**
+ * 按actor类别选择application.conf中game.dispatchers下对应的dispatcher及game.mailboxes下的邮箱，玩法actor与内部管理actor互不干扰
+ */
+public enum ActorKind {
+    PLAYER("game.dispatchers.player", "game.mailboxes.player"),
+    ROOM("game.dispatchers.room", null),
+    SYSTEM("game.dispatchers.system", null);
+
+    private final String dispatcher;
+    private final String mailbox;
+
+    ActorKind(String dispatcher, String mailbox) {
+        this.dispatcher = dispatcher;
+        this.mailbox = mailbox;
+    }
+
+    public Props props() {
+        return props(dispatcher);
+    }
+
+    /**
+     * 使用指定的dispatcher，邮箱仍按类别选择
+     */
+    public Props props(String dispatcher) {
+        if (mailbox == null) {
+            return DispatcherSelector.fromConfig(dispatcher);
+        }
+        return MailboxSelector.fromConfig(mailbox).withDispatcherFromConfig(dispatcher);
+    }
+}
@@ -0,0 +1,201 @@
+package com.sirius.game.actor;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+import akka.cluster.sharding.typed.javadsl.ClusterSharding;
+import akka.cluster.sharding.typed.javadsl.EntityTypeKey;
+import com.sirius.game.common.GameClock;
+import com.sirius.game.common.MessageIds;
+import com.sirius.game.gateway.ClientHandle;
+import com.sirius.game.gateway.GameConnection;
+import com.sirius.game.gateway.GameMessageCodec;
+import com.sirius.game.proto.CSChannelMessage;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import com.sirius.game.proto.SCJoinChannelResult;
+import com.sirius.game.proto.SCLeaveChannelResult;
+import com.sirius.game.proto.SCReceiveMessage;
+import io.netty.buffer.ByteBuf;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Slf4j
+public class ChannelActor extends AbstractBehavior<Object> {
+
+    public static final EntityTypeKey<Object> TYPE_KEY = EntityTypeKey.create(Object.class, "Channel");
+
+    /**
+     * client为null时无法回复也无法接收广播，忽略该请求
+     */
+    public record Join(String playerId, ClientHandle client) {
+    }
+
+    /**
+     * client为null时表示玩家断线，不需要回复
+     */
+    public record Leave(String playerId, ClientHandle client) {
+    }
+
+    public record Publish(String playerId, CSChannelMessage message) {
+    }
+
+    /**
+     * 钝化的停止消息，由shard或RootActor在开始缓冲该频道的命令之后发来
+     */
+    public enum Stop {
+        INSTANCE
+    }
+
+    private enum Idle {
+        INSTANCE
+    }
+
+    private final String channel;
+    private final Duration idleTimeout;
+    private final GameClock clock;
+    private final ActorRef<ClusterSharding.ShardCommand> shard;
+    private final Consumer<Object> router;
+    private final Map<String, ClientHandle> members = new HashMap<>();
+    private boolean passivating;
+
+    /**
+     * @param shard  接收Passivate请求的一方，集群分片模式下为实体所在的shard，本地模式为RootActor
+     * @param router 钝化期间收到的命令交回router重新路由，由shard或RootActor缓冲到频道重新启动后投递
+     */
+    public static Behavior<Object> create(String channel, GameClock clock, ActorRef<ClusterSharding.ShardCommand> shard,
+                                          Consumer<Object> router) {
+        return Behaviors.setup(context -> new ChannelActor(context, channel, clock, shard, router));
+    }
+
+    private ChannelActor(ActorContext<Object> context, String channel, GameClock clock,
+                         ActorRef<ClusterSharding.ShardCommand> shard, Consumer<Object> router) {
+        super(context);
+        this.channel = channel;
+        this.clock = clock;
+        this.shard = shard;
+        this.router = router;
+        this.idleTimeout = context.getSystem().settings().config().getDuration("game.channel.idle-timeout");
+        context.setReceiveTimeout(idleTimeout, Idle.INSTANCE);
+        log.info("ChannelActor created for channel: {}", channel);
+    }
+
+    @Override
+    public Receive<Object> createReceive() {
+        return newReceiveBuilder()
+                .onMessage(Join.class, join -> passivating ? reroute(join) : onJoin(join))
+                .onMessage(Leave.class, leave -> passivating ? reroute(leave) : onLeave(leave))
+                .onMessage(Publish.class, publish -> passivating ? reroute(publish) : onPublish(publish))
+                .onMessageEquals(Idle.INSTANCE, this::onIdle)
+                .onMessageEquals(Stop.INSTANCE, Behaviors::stopped)
+                .build();
+    }
+
+    private Behavior<Object> onJoin(Join join) throws IOException {
+        if (join.client() == null) {
+            log.warn("Player {} tried to join channel {} without a client", join.playerId(), channel);
+            return this;
+        }
+        members.put(join.playerId(), join.client());
+        getContext().cancelReceiveTimeout();
+
+        SCJoinChannelResult scJoinChannelResult = SCJoinChannelResult.newBuilder()
+                .setChannel(channel)
+                .setSuccess(true)
+                .setMemberCount(members.size())
+                .build();
+        join.client().send(GameMessage.newBuilder()
+                .setType(MessageType.SC_JOIN_CHANNEL_RESULT)
+                .setScJoinChannelResult(scJoinChannelResult)
+                .build());
+        return this;
+    }
+
+    private Behavior<Object> onLeave(Leave leave) throws IOException {
+        boolean removed = members.remove(leave.playerId()) != null;
+        if (members.isEmpty()) {
+            getContext().setReceiveTimeout(idleTimeout, Idle.INSTANCE);
+        }
+
+        if (leave.client() != null) {
+            SCLeaveChannelResult scLeaveChannelResult = SCLeaveChannelResult.newBuilder()
+                    .setChannel(channel)
+                    .setSuccess(removed)
+                    .build();
+            leave.client().send(GameMessage.newBuilder()
+                    .setType(MessageType.SC_LEAVE_CHANNEL_RESULT)
+                    .setScLeaveChannelResult(scLeaveChannelResult)
+                    .build());
+        }
+        return this;
+    }
+
+    private Behavior<Object> onPublish(Publish publish) throws IOException {
+        if (!members.containsKey(publish.playerId())) {
+            log.warn("Player {} is not a member of channel {}", publish.playerId(), channel);
+            return this;
+        }
+
+        SCReceiveMessage scReceiveMessage = SCReceiveMessage.newBuilder()
+                .setFrom(publish.playerId())
+                .setChannel(channel)
+                .setContent(publish.message().getContent())
+                .setTimestamp(clock.millis())
+                .setMessageId(MessageIds.next())
+                .build();
+
+        GameMessage gameMessage = GameMessage.newBuilder()
+                .setType(MessageType.SC_CHANNEL_MESSAGE)
+                .setScChannelMessage(scReceiveMessage)
+                .build();
+
+        // 只编码一次，本节点的成员拿到共享同一块内存的retainedDuplicate，写出后由传输层各自释放；
+        // 连接在其他节点的成员交给其ConnectionActor
+        ByteBuf frame = null;
+        try {
+            for (ClientHandle member : members.values()) {
+                GameConnection connection = member.localConnection();
+                if (connection == null) {
+                    member.ref().tell(gameMessage);
+                    continue;
+                }
+                if (frame == null) {
+                    frame = GameMessageCodec.encode(gameMessage);
+                }
+                connection.sendFrame(MessageType.SC_CHANNEL_MESSAGE, frame.retainedDuplicate());
+            }
+        } finally {
+            if (frame != null) {
+                frame.release();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 发出Passivate之前已经投递到邮箱的命令，在这里处理会随频道停止而丢失
+     */
+    private Behavior<Object> reroute(Object command) {
+        router.accept(command);
+        return this;
+    }
+
+    private Behavior<Object> onIdle() {
+        if (members.isEmpty() && !passivating) {
+            log.info("ChannelActor passivating for idle channel: {}", channel);
+            // 由shard或RootActor缓冲之后发来的命令并回复Stop，频道停止后重新启动并投递
+            passivating = true;
+            getContext().cancelReceiveTimeout();
+            shard.tell(new ClusterSharding.Passivate<>(getContext().getSelf()));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,54 @@
+package com.sirius.game.actor;
+
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AbstractBehavior;
+import akka.actor.typed.javadsl.ActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.actor.typed.javadsl.Receive;
+import com.sirius.game.gateway.GameConnection;
+import com.sirius.game.proto.GameMessage;
+
+import java.io.IOException;
+
+/**
+ * 连接在本节点的代理，其他节点上的actor通过它向连接写消息
+ */
+public class ConnectionActor extends AbstractBehavior<Object> {
+
+    public enum Stop {
+        INSTANCE
+    }
+
+    public record Disconnect(String reason) {
+    }
+
+    private final transient GameConnection connection;
+
+    public static Behavior<Object> create(GameConnection connection) {
+        return Behaviors.setup(context -> new ConnectionActor(context, connection));
+    }
+
+    private ConnectionActor(ActorContext<Object> context, GameConnection connection) {
+        super(context);
+        this.connection = connection;
+    }
+
+    @Override
+    public Receive<Object> createReceive() {
+        return newReceiveBuilder()
+                .onMessage(GameMessage.class, this::onMessage)
+                .onMessage(Disconnect.class, this::onDisconnect)
+                .onMessageEquals(Stop.INSTANCE, Behaviors::stopped)
+                .build();
+    }
+
+    private Behavior<Object> onMessage(GameMessage message) throws IOException {
+        connection.send(message);
+        return this;
+    }
+
+    private Behavior<Object> onDisconnect(Disconnect disconnect) {
+        connection.disconnect(disconnect.reason());
+        return this;
+    }
+}
@@ -0,0 +1,111 @@
+package com.sirius.game.actor;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.Props;
+import akka.actor.typed.RecipientRef;
+import com.sirius.game.actor.dispatch.EventLoopDispatchers;
+import com.sirius.game.common.GameClock;
+import com.sirius.game.gateway.GameConnection;
+import com.sirius.game.persistence.OfflineInbox;
+import com.sirius.game.persistence.PlayerStateStore;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LocalPlayerDirectory implements PlayerDirectory {
+
+    private static final AtomicLong PLAYER_IDS = new AtomicLong();
+
+    /**
+     * 本节点上运行中的玩家actor及其累计登录次数
+     */
+    private record Resident(ActorRef<Object> actor, long logins) {
+    }
+
+    private final ActorSystem<Object> actorSystem;
+    private final Map<String, PlayerSession> players;
+    private final PlayerStateStore state;
+    private final OfflineInbox inbox;
+    private final GameClock clock;
+    private final boolean eventLoopDispatcher;
+    private final Map<String, Resident> residents = new ConcurrentHashMap<>();
+
+    /**
+     * @param eventLoopDispatcher 为true时PlayerActor运行在创建它的那次登录的连接所在的event loop上，
+     *                            之后的登录即使换了event loop也不会迁移
+     */
+    public LocalPlayerDirectory(ActorSystem<Object> actorSystem, Map<String, PlayerSession> players,
+                                PlayerStateStore state, OfflineInbox inbox, GameClock clock, boolean eventLoopDispatcher) {
+        this.actorSystem = actorSystem;
+        this.players = players;
+        this.state = state;
+        this.inbox = inbox;
+        this.clock = clock;
+        this.eventLoopDispatcher = eventLoopDispatcher;
+    }
+
+    @Override
+    public Map<String, PlayerSession> sessions() {
+        return players;
+    }
+
+    @Override
+    public PlayerSession login(String playerId, GameConnection connection) {
+        // 多个实例并发登录同一账号时，保证只创建一个PlayerActor；登录计数与release()配合，空闲停止时不会丢掉已发出的Attach
+        Resident resident = residents.compute(playerId, (id, current) -> current == null
+                ? new Resident(spawn(id, connection), 1)
+                : new Resident(current.actor(), current.logins() + 1));
+        PlayerSession session = new PlayerSession(resident.actor(), connection);
+        players.put(playerId, session);
+        return session;
+    }
+
+    private ActorRef<Object> spawn(String playerId, GameConnection connection) {
+        // 停止中的旧actor可能还占用名字，加上序号避免冲突；玩家ID可能含有actor名不允许的字符，与频道名一样编码
+        return actorSystem.systemActorOf(PlayerActor.create(playerId, this, null),
+                "player-" + URLEncoder.encode(playerId, StandardCharsets.UTF_8) + "-" + PLAYER_IDS.incrementAndGet(), playerProps(connection));
+    }
+
+    private Props playerProps(GameConnection connection) {
+        return eventLoopDispatcher
+                ? ActorKind.PLAYER.props(EventLoopDispatchers.dispatcher(connection.eventLoop()))
+                : ActorKind.PLAYER.props();
+    }
+
+    @Override
+    public RecipientRef<Object> remotePlayer(String playerId) {
+        // 会话已移除但actor还在（断线保留期间或登录交替时），由actor判断是否在线
+        Resident resident = residents.get(playerId);
+        return resident == null ? null : resident.actor();
+    }
+
+    @Override
+    public boolean release(String playerId, ActorRef<Object> actor, long attaches) {
+        return residents.remove(playerId, new Resident(actor, attaches));
+    }
+
+    @Override
+    public PlayerStateStore state() {
+        return state;
+    }
+
+    @Override
+    public OfflineInbox inbox() {
+        return inbox;
+    }
+
+    @Override
+    public GameClock clock() {
+        return clock;
+    }
+
+    @Override
+    public void tellChannel(String channel, Object command) {
+        // ActorSystem即RootActor的引用
+        actorSystem.tell(new RootActor.ChannelCommand(channel, command));
+    }
+}
@@ -1,75 +1,338 @@
 package com.sirius.game.actor;
 
+import akka.actor.typed.ActorRef;
 import akka.actor.typed.Behavior;
+import akka.actor.typed.PostStop;
+import akka.actor.typed.RecipientRef;
 import akka.actor.typed.javadsl.AbstractBehavior;
 import akka.actor.typed.javadsl.ActorContext;
 import akka.actor.typed.javadsl.Behaviors;
 import akka.actor.typed.javadsl.Receive;
-import com.google.protobuf.InvalidProtocolBufferException;
+import akka.actor.typed.javadsl.StashBuffer;
+import akka.cluster.sharding.typed.javadsl.ClusterSharding;
+import akka.cluster.sharding.typed.javadsl.EntityTypeKey;
+import com.sirius.game.actor.dispatch.PlayerMailbox;
+import com.sirius.game.common.MessageIds;
+import com.sirius.game.common.PlayerIds;
+import com.sirius.game.gateway.ClientHandle;
+import com.sirius.game.gateway.GameMessageCodec;
+import com.sirius.game.handler.MessageHandler;
+import com.sirius.game.handler.MessageHandlerRegistry;
+import com.sirius.game.metrics.GameMetrics;
+import com.sirius.game.persistence.PlayerEvent;
+import com.sirius.game.persistence.PlayerSnapshot;
 import com.sirius.game.proto.*;
-import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.ServerWebSocket;
+import io.netty.buffer.ByteBuf;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.UUID;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 public class PlayerActor extends AbstractBehavior<Object> {
 
+    public static final EntityTypeKey<Object> TYPE_KEY = EntityTypeKey.create(Object.class, "Player");
+
+    private static final MessageHandlerRegistry<PlayerActor, Behavior<Object>> HANDLERS =
+            MessageHandlerRegistry.scan(PlayerActor.class, MethodHandles.lookup());
+
+    private static final LongAdder PASSIVATED = GameMetrics.counter("actor.player.passivated");
+    private static final LongAdder REHYDRATED = GameMetrics.counter("actor.player.rehydrated");
+    private static final LongAdder REBOUND = GameMetrics.counter("actor.player.rebound");
+
+    /**
+     * 网关在玩家登录时发送，之后发给客户端的消息都写入该连接
+     *
+     * @param sessionToken 网关分配的会话令牌，断线重连时用于恢复会话
+     * @param resumed      是否恢复了之前的会话
+     */
+    public record Attach(ClientHandle client, String sessionToken, boolean resumed) {
+    }
+
+    /**
+     * 延迟解析模式下网关转交的原始帧，type为网关在event loop上peek出的类型。
+     * payload是入站帧的retainedSlice，由PlayerActor解析后释放，邮箱丢弃时由邮箱释放。
+     * Vert.x 4交给handler的帧已经是非池化的堆内存，进入死信等未释放的情况只由GC回收，不会泄漏池化内存
+     */
+    public record Frame(MessageType type, ByteBuf payload) {
+
+        public void release() {
+            payload.release();
+        }
+    }
+
+    /**
+     * 网关在连接关闭时发送
+     */
+    public record Detach(ClientHandle client) {
+    }
+
+    /**
+     * 接收者连接不在发送者所在节点时，由接收者actor完成投递并回复DeliveryReport。
+     * 接收者邮箱满被丢弃时由邮箱回复DROPPED
+     */
+    public record Deliver(long messageId, String to, GameMessage message, ActorRef<Object> replyTo) {
+    }
+
+    public record DeliveryReport(long messageId, String to, DeliveryStatus status) {
+    }
+
+    private enum Idle {
+        INSTANCE
+    }
+
+    private record Recovered(PlayerSnapshot snapshot, Throwable failure) {
+    }
+
+    private record OfflineMessages(List<SCReceiveMessage> messages, Throwable failure) {
+    }
+
+    private static final int RECOVERY_STASH_CAPACITY = 1000;
+
     private final String playerId;
-    private final transient ServerWebSocket webSocket;
+    private final transient PlayerDirectory directory;
+    private final ActorRef<ClusterSharding.ShardCommand> shard;
+    private final Duration idleTimeout;
+    private final int snapshotEvery;
+    private final Set<String> channels = new LinkedHashSet<>();
+    private int eventsSinceSnapshot;
+    private ClientHandle client;
+    private String sessionToken = "";
+    private boolean resumed;
+    private long attaches;
+    private boolean released;
+
+    /**
+     * @param shard 集群分片模式下实体所在的shard，本地模式为null
+     */
+    public static Behavior<Object> create(String playerId, PlayerDirectory directory,
+                                          ActorRef<ClusterSharding.ShardCommand> shard) {
+        return Behaviors.withStash(RECOVERY_STASH_CAPACITY, stash -> Behaviors.setup(context -> {
+            // 状态异步恢复，期间收到的消息先暂存，恢复完成后按顺序处理
+            context.pipeToSelf(directory.state().recover(playerId), Recovered::new);
+            return recovering(context, stash, playerId, directory, shard);
+        }));
+    }
 
-    public static Behavior<Object> create(String playerId, ServerWebSocket webSocket) {
-        return Behaviors.setup(context -> new PlayerActor(context, playerId, webSocket));
+    private static Behavior<Object> recovering(ActorContext<Object> context, StashBuffer<Object> stash, String playerId,
+                                               PlayerDirectory directory, ActorRef<ClusterSharding.ShardCommand> shard) {
+        return Behaviors.receive(Object.class)
+                .onMessage(Recovered.class, recovered -> {
+                    PlayerSnapshot snapshot = recovered.snapshot();
+                    if (recovered.failure() != null) {
+                        log.error("Failed to recover player {}", playerId, recovered.failure());
+                        snapshot = PlayerSnapshot.EMPTY;
+                    }
+                    return stash.unstashAll(new PlayerActor(context, playerId, directory, shard, snapshot));
+                })
+                .onAnyMessage(message -> {
+                    if (stash.isFull()) {
+                        log.warn("Player {} recovery stash is full, dropping {}", playerId, message.getClass().getSimpleName());
+                        if (message instanceof Frame frame) {
+                            frame.release();
+                        }
+                    } else {
+                        stash.stash(message);
+                    }
+                    return Behaviors.same();
+                })
+                .build();
     }
 
-    private PlayerActor(ActorContext<Object> context, String playerId, ServerWebSocket webSocket) {
+    private PlayerActor(ActorContext<Object> context, String playerId, PlayerDirectory directory,
+                        ActorRef<ClusterSharding.ShardCommand> shard, PlayerSnapshot snapshot) {
         super(context);
         this.playerId = playerId;
-        this.webSocket = webSocket;
+        this.directory = directory;
+        this.shard = shard;
+        this.idleTimeout = context.getSystem().settings().config().getDuration("game.player.idle-timeout");
+        this.snapshotEvery = context.getSystem().settings().config().getInt("game.player.snapshot-every");
+
+        if (!snapshot.isEmpty()) {
+            // 频道在Attach时用新连接重新加入
+            channels.addAll(snapshot.channels());
+            REHYDRATED.increment();
+        }
+        // 没有连接期间收到的消息（如其他节点的投递）也会激活actor，空闲超时后停止
+        context.setReceiveTimeout(idleTimeout, Idle.INSTANCE);
         log.info("PlayerActor created for player: {}", playerId);
     }
 
     @Override
     public Receive<Object> createReceive() {
         return newReceiveBuilder()
-                .onMessage(CSLogin.class, this::onMessage)
-                .onMessage(CSSendMessage.class, this::onMessage)
-                .onMessage(byte[].class, this::onMessage)
+                .onMessage(GameMessage.class, this::onMessage)
+                .onMessage(Frame.class, this::onMessage)
+                .onMessage(Attach.class, this::onAttach)
+                .onMessage(Detach.class, this::onDetach)
+                .onMessage(Deliver.class, this::onDeliver)
+                .onMessage(DeliveryReport.class, this::onDeliveryReport)
+                .onMessage(OfflineMessages.class, this::onOfflineMessages)
+                .onMessageEquals(PlayerMailbox.Overflow.INSTANCE, this::onMailboxOverflow)
+                .onMessageEquals(Idle.INSTANCE, this::onIdle)
+                .onSignal(PostStop.class, signal -> onPostStop())
                 .build();
     }
 
-    private Behavior<Object> onMessage(CSLogin csLogin) {
-        return handleLoginRequest(csLogin);
-    }
-
-    private Behavior<Object> onMessage(CSSendMessage csSendMessage) {
-        return handleSendMessageRequest(csSendMessage);
+    private Behavior<Object> onMessage(Frame frame) throws Exception {
+        GameMessage message;
+        try {
+            message = GameMessageCodec.decode(frame.payload());
+        } finally {
+            frame.release();
+        }
+        return onMessage(message);
     }
 
-    private Behavior<Object> onMessage(byte[] data) throws InvalidProtocolBufferException {
-        GameMessage message = GameMessage.parseFrom(data);
+    private Behavior<Object> onMessage(GameMessage message) throws Exception {
         log.info("Player {} received Message: type={}", playerId, message.getType());
 
         // 根据消息类型处理消息
-        switch (message.getType()) {
-            case CS_LOGIN:
-                return handleLoginRequest(message.getCsLogin());
-            case CS_SEND_MESSAGE:
-                return handleSendMessageRequest(message.getCsSendMessage());
-            default:
-                log.warn("Player {} received unknown message type: {}", playerId, message.getType());
-                return this;
+        Behavior<Object> behavior = HANDLERS.dispatch(this, message);
+        if (behavior == null) {
+            log.warn("Player {} received unsupported message: type={}, payload={}", playerId, message.getType(),
+                    message.getPayloadCase());
+            return this;
+        }
+        return behavior;
+    }
+
+    private Behavior<Object> onAttach(Attach attach) {
+        attaches++;
+        if (client != null && !client.equals(attach.client())) {
+            // 同一账号在新连接上登录，换绑后踢掉旧连接；旧连接随后的Detach不再匹配，会被忽略
+            log.info("Player {} logged in on another connection, kicking the previous one", playerId);
+            client.disconnect("player " + playerId + " logged in on another connection");
+            REBOUND.increment();
+        }
+        client = attach.client();
+        sessionToken = attach.sessionToken();
+        resumed = attach.resumed();
+        getContext().cancelReceiveTimeout();
+        for (String channel : channels) {
+            directory.tellChannel(channel, new ChannelActor.Join(playerId, client));
+        }
+        return this;
+    }
+
+    private Behavior<Object> onDetach(Detach detach) {
+        if (!detach.client().equals(client)) {
+            // 已经绑定了新的连接，忽略旧连接的关闭
+            return this;
+        }
+        client = null;
+        // 断线后先退出频道，频道列表保留到快照中，重新登录时恢复
+        for (String channel : channels) {
+            directory.tellChannel(channel, new ChannelActor.Leave(playerId, null));
+        }
+        getContext().setReceiveTimeout(idleTimeout, Idle.INSTANCE);
+        return this;
+    }
+
+    private Behavior<Object> onIdle() {
+        if (client != null) {
+            return this;
+        }
+        // 先保存快照再释放，之后新登录创建的actor能读到最新状态
+        saveSnapshot();
+        if (!directory.release(playerId, getContext().getSelf(), attaches)) {
+            return this;
+        }
+        released = true;
+        PASSIVATED.increment();
+        if (shard != null) {
+            shard.tell(new ClusterSharding.Passivate<>(getContext().getSelf()));
+            return this;
+        }
+        return Behaviors.stopped();
+    }
+
+    private Behavior<Object> onDeliver(Deliver deliver) throws IOException {
+        DeliveryStatus status;
+        if (client == null) {
+            status = storeOffline(playerId, deliver.message());
+        } else {
+            status = client.send(deliver.message()) ? DeliveryStatus.DELIVERED : DeliveryStatus.DROPPED;
+        }
+        deliver.replyTo().tell(new DeliveryReport(deliver.messageId(), playerId, status));
+        return this;
+    }
+
+    private Behavior<Object> onDeliveryReport(DeliveryReport report) throws IOException {
+        sendResult(report.messageId(), report.to(), report.status());
+        return this;
+    }
+
+    private Behavior<Object> onOfflineMessages(OfflineMessages offline) throws IOException {
+        if (offline.failure() != null) {
+            log.error("Failed to load offline messages of player {}", playerId, offline.failure());
+            return this;
+        }
+        if (offline.messages().isEmpty()) {
+            return this;
+        }
+        GameMessage gameMessage = GameMessage.newBuilder()
+                .setType(MessageType.SC_OFFLINE_MESSAGES)
+                .setScOfflineMessages(SCOfflineMessages.newBuilder().addAllMessages(offline.messages()))
+                .build();
+        if (client == null || !client.send(gameMessage)) {
+            // 取出期间连接已断开，放回信箱等下次登录
+            offline.messages().forEach(message -> directory.inbox().store(playerId, message));
+        }
+        return this;
+    }
+
+    /**
+     * 接收者不在线时存入其离线信箱
+     */
+    private DeliveryStatus storeOffline(String to, GameMessage message) {
+        return directory.inbox().store(to, message.getScReceiveMessage())
+                ? DeliveryStatus.STORED_OFFLINE : DeliveryStatus.RECIPIENT_OFFLINE;
+    }
+
+    private Behavior<Object> onMailboxOverflow() {
+        log.warn("Player {} mailbox overflow, disconnecting", playerId);
+        if (client != null) {
+            client.disconnect("mailbox overflow");
         }
+        return this;
+    }
+
+    /**
+     * 状态先在内存中生效，事件由日志线程异步落盘，不阻塞消息处理
+     */
+    private void persist(PlayerEvent event) {
+        directory.state().persist(playerId, event);
+        if (++eventsSinceSnapshot >= snapshotEvery) {
+            saveSnapshot();
+        }
+    }
+
+    private void saveSnapshot() {
+        directory.state().snapshot(playerId, new PlayerSnapshot(Set.copyOf(channels)));
+        eventsSinceSnapshot = 0;
     }
 
-    private Behavior<Object> handleLoginRequest(CSLogin csLogin) {
+    private void send(GameMessage message) throws IOException {
+        if (client != null) {
+            client.send(message);
+        }
+    }
+
+    @MessageHandler(MessageType.CS_LOGIN)
+    private Behavior<Object> handleLoginRequest(CSLogin csLogin) throws IOException {
         SCLoginResult scLoginResult = SCLoginResult.newBuilder()
                 .setSuccess(true)
                 .setMessage("")
                 .setUserId("")
-                .setSessionToken("")
-                .setTimestamp(System.currentTimeMillis())
+                .setSessionToken(sessionToken)
+                .setTimestamp(directory.clock().millis())
+                .setResumed(resumed)
                 .build();
 
         GameMessage gameMessage = GameMessage.newBuilder()
@@ -77,17 +340,29 @@ public class PlayerActor extends AbstractBehavior<Object> {
                 .setScLoginResult(scLoginResult)
                 .build();
 
-        webSocket.writeBinaryMessage(Buffer.buffer(gameMessage.toByteArray()));
+        send(gameMessage);
+        // 离线消息排在登录结果之后下发
+        getContext().pipeToSelf(directory.inbox().take(playerId), OfflineMessages::new);
         return this;
     }
 
-    private Behavior<Object> handleSendMessageRequest(CSSendMessage csSendMessage) {
+    @MessageHandler(MessageType.CS_SEND_MESSAGE)
+    private Behavior<Object> handleSendMessageRequest(CSSendMessage csSendMessage) throws IOException {
+        long messageId = MessageIds.next();
+        String to = csSendMessage.getTo();
+        if (!PlayerIds.isValid(to) || to.equals(playerId)) {
+            // 不路由，避免为无效ID创建实体、写入离线信箱，或写入自己的离线信箱
+            sendResult(messageId, to, DeliveryStatus.INVALID_RECIPIENT);
+            return this;
+        }
+
+        // 发送者以服务端绑定的playerId为准，不信任客户端填写的from
         SCReceiveMessage scReceiveMessage = SCReceiveMessage.newBuilder()
-                .setFrom(csSendMessage.getFrom())
-                .setTo(csSendMessage.getTo())
+                .setFrom(playerId)
+                .setTo(to)
                 .setContent(csSendMessage.getContent())
-                .setTimestamp(System.currentTimeMillis())
-                .setMessageId(UUID.randomUUID().toString())
+                .setTimestamp(directory.clock().millis())
+                .setMessageId(messageId)
                 .build();
 
         GameMessage gameMessage = GameMessage.newBuilder()
@@ -95,7 +370,99 @@ public class PlayerActor extends AbstractBehavior<Object> {
                 .setScReceiveMessage(scReceiveMessage)
                 .build();
 
-        webSocket.writeBinaryMessage(Buffer.buffer(gameMessage.toByteArray()));
+        PlayerSession session = directory.sessions().get(to);
+        if (session != null && !session.connection().isClosed()) {
+            // 接收者连接在本节点，直接写入其连接，不经过接收者的actor
+            DeliveryStatus status = session.connection().send(gameMessage) ? DeliveryStatus.DELIVERED : DeliveryStatus.DROPPED;
+            sendResult(messageId, to, status);
+            return this;
+        }
+
+        RecipientRef<Object> recipient = directory.remotePlayer(to);
+        if (recipient == null) {
+            sendResult(messageId, to, storeOffline(to, gameMessage));
+            return this;
+        }
+        // 投递结果由接收者以DeliveryReport回复后再通知发送者
+        recipient.tell(new Deliver(messageId, to, gameMessage, getContext().getSelf()));
+        return this;
+    }
+
+    private void sendResult(long messageId, String to, DeliveryStatus status) throws IOException {
+        SCSendMessageResult scSendMessageResult = SCSendMessageResult.newBuilder()
+                .setMessageId(messageId)
+                .setTo(to)
+                .setStatus(status)
+                .setTimestamp(directory.clock().millis())
+                .build();
+
+        send(GameMessage.newBuilder()
+                .setType(MessageType.SC_SEND_MESSAGE_RESULT)
+                .setScSendMessageResult(scSendMessageResult)
+                .build());
+    }
+
+    @MessageHandler(MessageType.CS_JOIN_CHANNEL)
+    private Behavior<Object> handleJoinChannel(CSJoinChannel csJoinChannel) throws IOException {
+        String channel = csJoinChannel.getChannel();
+        if (channel.isEmpty()) {
+            SCJoinChannelResult scJoinChannelResult = SCJoinChannelResult.newBuilder()
+                    .setChannel(channel)
+                    .setSuccess(false)
+                    .build();
+            send(GameMessage.newBuilder()
+                    .setType(MessageType.SC_JOIN_CHANNEL_RESULT)
+                    .setScJoinChannelResult(scJoinChannelResult)
+                    .build());
+            return this;
+        }
+        if (channels.add(channel)) {
+            persist(new PlayerEvent.ChannelJoined(channel));
+        }
+        directory.tellChannel(channel, new ChannelActor.Join(playerId, client));
+        return this;
+    }
+
+    @MessageHandler(MessageType.CS_LEAVE_CHANNEL)
+    private Behavior<Object> handleLeaveChannel(CSLeaveChannel csLeaveChannel) throws IOException {
+        String channel = csLeaveChannel.getChannel();
+        if (channels.remove(channel)) {
+            persist(new PlayerEvent.ChannelLeft(channel));
+            directory.tellChannel(channel, new ChannelActor.Leave(playerId, client));
+            return this;
+        }
+        SCLeaveChannelResult scLeaveChannelResult = SCLeaveChannelResult.newBuilder()
+                .setChannel(channel)
+                .setSuccess(false)
+                .build();
+        send(GameMessage.newBuilder()
+                .setType(MessageType.SC_LEAVE_CHANNEL_RESULT)
+                .setScLeaveChannelResult(scLeaveChannelResult)
+                .build());
+        return this;
+    }
+
+    @MessageHandler(MessageType.CS_CHANNEL_MESSAGE)
+    private Behavior<Object> handleChannelMessage(CSChannelMessage csChannelMessage) {
+        if (!channels.contains(csChannelMessage.getChannel())) {
+            log.warn("Player {} sent message to channel {} without joining", playerId, csChannelMessage.getChannel());
+            return this;
+        }
+        directory.tellChannel(csChannelMessage.getChannel(), new ChannelActor.Publish(playerId, csChannelMessage));
+        return this;
+    }
+
+    private Behavior<Object> onPostStop() {
+        if (client != null) {
+            for (String channel : channels) {
+                directory.tellChannel(channel, new ChannelActor.Leave(playerId, null));
+            }
+        }
+        if (!released) {
+            // 分片迁移、节点关闭等非空闲停止
+            saveSnapshot();
+        }
+        log.info("PlayerActor stopped for player: {}", playerId);
         return this;
     }
-}
\ No newline at end of file
+}
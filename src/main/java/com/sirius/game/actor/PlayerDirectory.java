@@ -0,0 +1,49 @@
+package com.sirius.game.actor;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.RecipientRef;
+import com.sirius.game.common.GameClock;
+import com.sirius.game.gateway.GameConnection;
+import com.sirius.game.persistence.OfflineInbox;
+import com.sirius.game.persistence.PlayerStateStore;
+
+import java.util.Map;
+
+/**
+ * 玩家与频道actor的定位方式，本地模式与集群分片模式各有一个实现
+ */
+public interface PlayerDirectory {
+
+    /**
+     * 连接在本节点的在线玩家
+     */
+    Map<String, PlayerSession> sessions();
+
+    /**
+     * 玩家登录时由网关调用，新连接替换sessions()中该玩家原有的会话
+     *
+     * @return 新的会话，连接关闭时用它按身份移除，不会误删之后登录的连接
+     */
+    PlayerSession login(String playerId, GameConnection connection);
+
+    /**
+     * 本节点没有该玩家的连接时，返回可以投递消息的玩家actor；返回null表示玩家不在线
+     */
+    RecipientRef<Object> remotePlayer(String playerId);
+
+    /**
+     * 玩家actor空闲准备停止时调用
+     *
+     * @param attaches actor已收到的Attach数量
+     * @return false表示期间又有登录，Attach还在路上，actor需要继续运行
+     */
+    boolean release(String playerId, ActorRef<Object> actor, long attaches);
+
+    PlayerStateStore state();
+
+    OfflineInbox inbox();
+
+    GameClock clock();
+
+    void tellChannel(String channel, Object command);
+}
@@ -0,0 +1,10 @@
+package com.sirius.game.actor;
+
+import akka.actor.typed.RecipientRef;
+import com.sirius.game.gateway.GameConnection;
+
+/**
+ * 连接在本节点的在线玩家：玩家actor的引用（集群模式下为分片实体引用）与其连接
+ */
+public record PlayerSession(RecipientRef<Object> actor, GameConnection connection) {
+}
@@ -6,28 +6,105 @@ import akka.actor.typed.javadsl.AbstractBehavior;
 import akka.actor.typed.javadsl.ActorContext;
 import akka.actor.typed.javadsl.Behaviors;
 import akka.actor.typed.javadsl.Receive;
+import akka.cluster.sharding.typed.javadsl.ClusterSharding;
+import com.sirius.game.common.GameClock;
 import lombok.extern.slf4j.Slf4j;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
 public class RootActor extends AbstractBehavior<Object> {
 
-    private final transient Map<String, ActorRef<Object>> players;
+    /**
+     * 转发给指定频道的命令，频道不存在时由Join命令创建
+     */
+    public record ChannelCommand(String channel, Object command) {
+    }
+
+    private record ChannelTerminated(String channel, ActorRef<Object> channelRef) {
+    }
 
-    public static Behavior<Object> create(Map<String, ActorRef<Object>> players) {
-        return Behaviors.setup(context -> new RootActor(context, players));
+    private final transient Map<String, PlayerSession> players;
+    private final GameClock clock;
+    private final Map<String, ActorRef<Object>> channels = new HashMap<>();
+    // 正在钝化的频道，停止前发来的命令先缓冲，停止后重新启动频道再投递
+    private final Map<String, List<Object>> passivating = new HashMap<>();
+
+    public static Behavior<Object> create(Map<String, PlayerSession> players, GameClock clock) {
+        return Behaviors.setup(context -> new RootActor(context, players, clock));
     }
 
-    private RootActor(ActorContext<Object> context, Map<String, ActorRef<Object>> players) {
+    private RootActor(ActorContext<Object> context, Map<String, PlayerSession> players, GameClock clock) {
         super(context);
         this.players = players;
+        this.clock = clock;
         log.info("RootActor created");
     }
 
     @Override
     public Receive<Object> createReceive() {
         return newReceiveBuilder()
+                .onMessage(ChannelCommand.class, this::onChannelCommand)
+                .onMessage(ChannelTerminated.class, this::onChannelTerminated)
+                .onMessage(ClusterSharding.Passivate.class, this::onPassivate)
                 .build();
     }
+
+    private Behavior<Object> onChannelCommand(ChannelCommand command) {
+        List<Object> buffered = passivating.get(command.channel());
+        if (buffered != null) {
+            buffered.add(command.command());
+            return this;
+        }
+        ActorRef<Object> channelRef = channels.get(command.channel());
+        if (channelRef == null) {
+            if (!(command.command() instanceof ChannelActor.Join)) {
+                return this;
+            }
+            channelRef = spawnChannel(command.channel());
+        }
+        channelRef.tell(command.command());
+        return this;
+    }
+
+    private ActorRef<Object> spawnChannel(String channel) {
+        ActorRef<Object> self = getContext().getSelf();
+        ActorRef<Object> channelRef = getContext().spawn(
+                ChannelActor.create(channel, clock, self.narrow(), command -> self.tell(new ChannelCommand(channel, command))),
+                "channel-" + URLEncoder.encode(channel, StandardCharsets.UTF_8), ActorKind.ROOM.props());
+        getContext().watchWith(channelRef, new ChannelTerminated(channel, channelRef));
+        channels.put(channel, channelRef);
+        return channelRef;
+    }
+
+    /**
+     * 与分片模式的shard一致：先缓冲该频道的命令，再让频道停止
+     */
+    private Behavior<Object> onPassivate(ClusterSharding.Passivate<?> passivate) {
+        channels.forEach((channel, channelRef) -> {
+            if (channelRef.equals(passivate.entity())) {
+                passivating.putIfAbsent(channel, new ArrayList<>());
+                channelRef.tell(ChannelActor.Stop.INSTANCE);
+            }
+        });
+        return this;
+    }
+
+    private Behavior<Object> onChannelTerminated(ChannelTerminated terminated) {
+        if (!channels.remove(terminated.channel(), terminated.channelRef())) {
+            return this;
+        }
+        List<Object> buffered = passivating.remove(terminated.channel());
+        if (buffered != null && !buffered.isEmpty()) {
+            // 名字在旧actor停止后才释放，这里重新创建不会冲突
+            ActorRef<Object> channelRef = spawnChannel(terminated.channel());
+            buffered.forEach(channelRef::tell);
+        }
+        return this;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.sirius.game.actor.dispatch;
+
+import com.sirius.game.gateway.VertxInternals;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 为Vert.x的每个event loop生成一个Akka dispatcher，actor使用连接所在event loop对应的dispatcher时，
+ * 入站消息处理与出站写入都在持有该socket的线程上完成，不再跨线程。
+ * <p>
+ * actor的dispatcher在创建时确定，之后不能更换：玩家在其他event loop上的连接重新登录（顶号或断线重连）后，
+ * actor仍留在原来的event loop上，出站写入又会跨线程，直到actor空闲停止、下次登录时在新连接的event loop上重新创建
+ */
+public final class EventLoopDispatchers {
+
+    private static final String PREFIX = "game.dispatchers.event-loop-";
+
+    private static volatile List<EventExecutor> eventLoops = List.of();
+
+    private EventLoopDispatchers() {
+    }
+
+    /**
+     * 需要在ActorSystem创建之前调用
+     */
+    public static Config install(Vertx vertx, int throughput) {
+        List<EventExecutor> loops = VertxInternals.eventLoops(vertx);
+        eventLoops = loops;
+
+        Map<String, Object> config = new HashMap<>();
+        for (int i = 0; i < loops.size(); i++) {
+            config.put(PREFIX + i + ".type", "Dispatcher");
+            config.put(PREFIX + i + ".executor", EventLoopExecutorConfigurator.class.getName());
+            config.put(PREFIX + i + ".event-loop-index", i);
+            config.put(PREFIX + i + ".throughput", throughput);
+        }
+        return ConfigFactory.parseMap(config);
+    }
+
+    /**
+     * @return event loop对应的dispatcher配置路径
+     */
+    public static String dispatcher(EventExecutor eventLoop) {
+        int index = eventLoops.indexOf(eventLoop);
+        if (index < 0) {
+            throw new IllegalStateException("Event loop is not managed by the installed Vertx instance: " + eventLoop);
+        }
+        return PREFIX + index;
+    }
+
+    static EventExecutor eventLoop(int index) {
+        return eventLoops.get(index);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sirius.game.actor.dispatch;
+
+import akka.dispatch.DispatcherPrerequisites;
+import akka.dispatch.ExecutorServiceConfigurator;
+import akka.dispatch.ExecutorServiceFactory;
+import com.typesafe.config.Config;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 把任务提交到指定下标的Vert.x event loop，由EventLoopDispatchers生成的配置引用
+ */
+public class EventLoopExecutorConfigurator extends ExecutorServiceConfigurator {
+
+    private final int eventLoopIndex;
+
+    public EventLoopExecutorConfigurator(Config config, DispatcherPrerequisites prerequisites) {
+        super(config, prerequisites);
+        this.eventLoopIndex = config.getInt("event-loop-index");
+    }
+
+    @Override
+    public ExecutorServiceFactory createExecutorServiceFactory(String id, ThreadFactory threadFactory) {
+        return () -> new EventLoopExecutorService(EventLoopDispatchers.eventLoop(eventLoopIndex));
+    }
+
+    /**
+     * dispatcher空闲时会关闭executor，event loop的生命周期由Vert.x管理，这里忽略关闭
+     */
+    private static final class EventLoopExecutorService extends AbstractExecutorService {
+
+        private final EventExecutor eventLoop;
+
+        private EventLoopExecutorService(EventExecutor eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            eventLoop.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return eventLoop.isShuttingDown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return eventLoop.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return eventLoop.awaitTermination(timeout, unit);
+        }
+    }
+}
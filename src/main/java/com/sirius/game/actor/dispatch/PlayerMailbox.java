@@ -0,0 +1,207 @@
+package com.sirius.game.actor.dispatch;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.dispatch.Envelope;
+import akka.dispatch.MailboxType;
+import akka.dispatch.MessageQueue;
+import akka.dispatch.ProducesMessageQueue;
+import com.sirius.game.actor.PlayerActor;
+import com.sirius.game.metrics.GameMetrics;
+import com.sirius.game.proto.DeliveryStatus;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import com.typesafe.config.Config;
+import scala.Option;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PlayerActor的有界优先级邮箱：登录、会话等控制消息走独立队列，总是先于聊天消息处理；
+ * 聊天消息队列有上限，超过后按overflow-policy处理
+ */
+public class PlayerMailbox implements MailboxType, ProducesMessageQueue<PlayerMailbox.PlayerMessageQueue> {
+
+    public enum OverflowPolicy {
+        /**
+         * 丢弃最早的一条聊天消息
+         */
+        DROP_OLDEST,
+        /**
+         * 丢弃新到的聊天消息
+         */
+        REJECT,
+        /**
+         * 丢弃新到的聊天消息，并通知玩家actor断开连接
+         */
+        DISCONNECT
+    }
+
+    /**
+     * 溢出策略为DISCONNECT时放入控制队列的通知
+     */
+    public enum Overflow {
+        INSTANCE
+    }
+
+    private static final LongAdder ENQUEUED = GameMetrics.counter("actor.player.mailbox.enqueued");
+    private static final LongAdder REMOVED = GameMetrics.counter("actor.player.mailbox.removed");
+    private static final LongAdder DROPPED = GameMetrics.counter("actor.player.mailbox.dropped");
+    private static final LongAdder REJECTED = GameMetrics.counter("actor.player.mailbox.rejected");
+    // 被丢弃的跨节点私聊，已向发送者回复DROPPED
+    private static final LongAdder DELIVERIES_DROPPED = GameMetrics.counter("actor.player.mailbox.deliveries-dropped");
+    private static final LongAdder OVERFLOW_DISCONNECTS = GameMetrics.counter("actor.player.mailbox.overflow-disconnects");
+
+    static {
+        // 所有玩家邮箱中尚未处理的消息总数
+        GameMetrics.register("actor.player.mailbox.depth", () -> ENQUEUED.sum() - REMOVED.sum());
+    }
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+
+    public PlayerMailbox(ActorSystem.Settings settings, Config config) {
+        this.capacity = config.getInt("mailbox-capacity");
+        this.overflowPolicy = OverflowPolicy.valueOf(
+                config.getString("overflow-policy").toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    @Override
+    public MessageQueue create(Option<ActorRef> owner, Option<ActorSystem> system) {
+        return new PlayerMessageQueue(capacity, overflowPolicy, system.isDefined() ? system.get() : null);
+    }
+
+    static boolean isChat(Object message) {
+        if (message instanceof GameMessage gameMessage) {
+            return isChat(gameMessage.getType());
+        }
+        if (message instanceof PlayerActor.Frame frame) {
+            return isChat(frame.type());
+        }
+        return message instanceof PlayerActor.Deliver;
+    }
+
+    /**
+     * 被丢弃的原始帧不会再交给actor，在这里释放；被丢弃的Deliver在这里回复发送者，否则发送者收不到投递结果
+     */
+    private static void discard(Envelope envelope) {
+        if (envelope.message() instanceof PlayerActor.Frame frame) {
+            frame.release();
+        } else if (envelope.message() instanceof PlayerActor.Deliver deliver) {
+            DELIVERIES_DROPPED.increment();
+            deliver.replyTo().tell(new PlayerActor.DeliveryReport(deliver.messageId(), deliver.to(), DeliveryStatus.DROPPED));
+        }
+    }
+
+    private static boolean isChat(MessageType type) {
+        return type == MessageType.CS_SEND_MESSAGE || type == MessageType.CS_CHANNEL_MESSAGE;
+    }
+
+    public static final class PlayerMessageQueue implements MessageQueue {
+
+        private final int capacity;
+        private final OverflowPolicy overflowPolicy;
+        private final ActorSystem system;
+
+        private final Queue<Envelope> control = new ConcurrentLinkedQueue<>();
+        private final Queue<Envelope> chat = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger controlSize = new AtomicInteger();
+        private final AtomicInteger chatSize = new AtomicInteger();
+        private final AtomicBoolean overflowSignalled = new AtomicBoolean();
+
+        private PlayerMessageQueue(int capacity, OverflowPolicy overflowPolicy, ActorSystem system) {
+            this.capacity = capacity;
+            this.overflowPolicy = overflowPolicy;
+            this.system = system;
+        }
+
+        @Override
+        public void enqueue(ActorRef receiver, Envelope handle) {
+            if (!isChat(handle.message())) {
+                offerControl(handle);
+                return;
+            }
+            if (chatSize.incrementAndGet() <= capacity) {
+                chat.offer(handle);
+                ENQUEUED.increment();
+                return;
+            }
+
+            switch (overflowPolicy) {
+                case DROP_OLDEST -> {
+                    Envelope oldest = chat.poll();
+                    if (oldest != null) {
+                        discard(oldest);
+                        chatSize.decrementAndGet();
+                        REMOVED.increment();
+                        DROPPED.increment();
+                    }
+                    chat.offer(handle);
+                    ENQUEUED.increment();
+                }
+                case REJECT -> {
+                    discard(handle);
+                    chatSize.decrementAndGet();
+                    REJECTED.increment();
+                }
+                case DISCONNECT -> {
+                    discard(handle);
+                    chatSize.decrementAndGet();
+                    REJECTED.increment();
+                    if (overflowSignalled.compareAndSet(false, true)) {
+                        OVERFLOW_DISCONNECTS.increment();
+                        offerControl(Envelope.apply(Overflow.INSTANCE, ActorRef.noSender(), system));
+                    }
+                }
+            }
+        }
+
+        private void offerControl(Envelope handle) {
+            control.offer(handle);
+            controlSize.incrementAndGet();
+            ENQUEUED.increment();
+        }
+
+        @Override
+        public Envelope dequeue() {
+            Envelope envelope = control.poll();
+            if (envelope != null) {
+                controlSize.decrementAndGet();
+            } else {
+                envelope = chat.poll();
+                if (envelope == null) {
+                    return null;
+                }
+                if (chatSize.decrementAndGet() == 0) {
+                    // 积压清空后允许再次触发溢出通知
+                    overflowSignalled.set(false);
+                }
+            }
+            REMOVED.increment();
+            return envelope;
+        }
+
+        @Override
+        public int numberOfMessages() {
+            return controlSize.get() + chatSize.get();
+        }
+
+        @Override
+        public boolean hasMessages() {
+            return !control.isEmpty() || !chat.isEmpty();
+        }
+
+        @Override
+        public void cleanUp(ActorRef owner, MessageQueue deadLetters) {
+            Envelope envelope;
+            while ((envelope = dequeue()) != null) {
+                deadLetters.enqueue(owner, envelope);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sirius.game.actor.dispatch;
+
+import akka.dispatch.DispatcherPrerequisites;
+import akka.dispatch.ExecutorServiceConfigurator;
+import akka.dispatch.ExecutorServiceFactory;
+import com.typesafe.config.Config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 每个任务一个虚拟线程的executor，在dispatcher配置中通过 executor = "本类全名" 启用。
+ * 适合处理过程中有阻塞调用的actor；纯计算的actor使用fork-join或affinity-pool更合适
+ */
+public class VirtualThreadExecutorConfigurator extends ExecutorServiceConfigurator {
+
+    public VirtualThreadExecutorConfigurator(Config config, DispatcherPrerequisites prerequisites) {
+        super(config, prerequisites);
+    }
+
+    @Override
+    public ExecutorServiceFactory createExecutorServiceFactory(String id, ThreadFactory threadFactory) {
+        ThreadFactory virtualThreadFactory = Thread.ofVirtual().name(id + "-", 0).factory();
+        return () -> Executors.newThreadPerTaskExecutor(virtualThreadFactory);
+    }
+}
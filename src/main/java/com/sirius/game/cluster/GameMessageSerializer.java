@@ -0,0 +1,351 @@
+package com.sirius.game.cluster;
+
+import akka.actor.ExtendedActorSystem;
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorRefResolver;
+import akka.actor.typed.javadsl.Adapter;
+import akka.serialization.SerializerWithStringManifest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import com.google.protobuf.WireFormat;
+import com.sirius.game.actor.ChannelActor;
+import com.sirius.game.actor.ConnectionActor;
+import com.sirius.game.actor.PlayerActor;
+import com.sirius.game.gateway.ClientHandle;
+import com.sirius.game.proto.CSChannelMessage;
+import com.sirius.game.proto.DeliveryStatus;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.GameProtos;
+import com.sirius.game.proto.MessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 跨节点消息的序列化，替代Java序列化。
+ * com.sirius.game.proto中的消息直接使用protobuf编码，manifest为proto中的消息全名，与Java类名无关；
+ * 内部命令按protobuf线格式手工编码（字段号见各write方法），ActorRef以ActorRefResolver的字符串形式传递。
+ * 新增跨节点命令时需要在这里分配manifest，并在application.conf中绑定
+ */
+public class GameMessageSerializer extends SerializerWithStringManifest {
+
+    private static final String ATTACH = "Attach";
+    private static final String DETACH = "Detach";
+    private static final String DELIVER = "Deliver";
+    private static final String DELIVERY_REPORT = "DeliveryReport";
+    private static final String JOIN = "ChannelJoin";
+    private static final String LEAVE = "ChannelLeave";
+    private static final String PUBLISH = "ChannelPublish";
+    private static final String DISCONNECT = "Disconnect";
+    private static final String STOP = "ConnectionStop";
+    private static final String FRAME = "PlayerFrame";
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final Map<String, Parser<? extends Message>> PROTO_PARSERS = protoParsers();
+
+    private final ExtendedActorSystem system;
+    // 序列化器在actor system启动过程中创建，此时typed扩展还不可用，首次使用时再获取
+    private volatile ActorRefResolver resolver;
+
+    public GameMessageSerializer(ExtendedActorSystem system) {
+        this.system = system;
+    }
+
+    /**
+     * 在集群生命周期内不能修改，0到40为Akka保留
+     */
+    @Override
+    public int identifier() {
+        return 7301;
+    }
+
+    @Override
+    public String manifest(Object o) {
+        if (o instanceof Message message) {
+            return message.getDescriptorForType().getFullName();
+        }
+        if (o instanceof PlayerActor.Attach) {
+            return ATTACH;
+        } else if (o instanceof PlayerActor.Detach) {
+            return DETACH;
+        } else if (o instanceof PlayerActor.Deliver) {
+            return DELIVER;
+        } else if (o instanceof PlayerActor.DeliveryReport) {
+            return DELIVERY_REPORT;
+        } else if (o instanceof ChannelActor.Join) {
+            return JOIN;
+        } else if (o instanceof ChannelActor.Leave) {
+            return LEAVE;
+        } else if (o instanceof ChannelActor.Publish) {
+            return PUBLISH;
+        } else if (o instanceof ConnectionActor.Disconnect) {
+            return DISCONNECT;
+        } else if (o == ConnectionActor.Stop.INSTANCE) {
+            return STOP;
+        } else if (o instanceof PlayerActor.Frame) {
+            return FRAME;
+        }
+        throw new IllegalArgumentException("Can't serialize object of type " + o.getClass().getName());
+    }
+
+    @Override
+    public byte[] toBinary(Object o) {
+        if (o instanceof Message message) {
+            return message.toByteArray();
+        }
+        if (o == ConnectionActor.Stop.INSTANCE) {
+            return EMPTY;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        try {
+            if (o instanceof PlayerActor.Attach attach) {
+                writeClient(output, 1, attach.client());
+                writeString(output, 2, attach.sessionToken());
+                output.writeBool(3, attach.resumed());
+            } else if (o instanceof PlayerActor.Detach detach) {
+                writeClient(output, 1, detach.client());
+            } else if (o instanceof PlayerActor.Deliver deliver) {
+                output.writeFixed64(1, deliver.messageId());
+                output.writeMessage(2, deliver.message());
+                writeString(output, 3, resolver().toSerializationFormat(deliver.replyTo()));
+                writeString(output, 4, deliver.to());
+            } else if (o instanceof PlayerActor.DeliveryReport report) {
+                output.writeFixed64(1, report.messageId());
+                writeString(output, 2, report.to());
+                output.writeEnum(3, report.status().getNumber());
+            } else if (o instanceof ChannelActor.Join join) {
+                writeString(output, 1, join.playerId());
+                writeClient(output, 2, join.client());
+            } else if (o instanceof ChannelActor.Leave leave) {
+                writeString(output, 1, leave.playerId());
+                writeClient(output, 2, leave.client());
+            } else if (o instanceof ChannelActor.Publish publish) {
+                writeString(output, 1, publish.playerId());
+                output.writeMessage(2, publish.message());
+            } else if (o instanceof ConnectionActor.Disconnect disconnect) {
+                writeString(output, 1, disconnect.reason());
+            } else if (o instanceof PlayerActor.Frame frame) {
+                // 未知类型不写字段，读出后为UNKNOWN
+                if (frame.type() != MessageType.UNRECOGNIZED) {
+                    output.writeEnum(1, frame.type().getNumber());
+                }
+                ByteBuf payload = frame.payload();
+                output.writeTag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(payload.readableBytes());
+                output.writeRawBytes(payload.nioBuffer());
+            } else {
+                throw new IllegalArgumentException("Can't serialize object of type " + o.getClass().getName());
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object fromBinary(byte[] bytes, String manifest) throws NotSerializableException {
+        try {
+            Parser<? extends Message> parser = PROTO_PARSERS.get(manifest);
+            if (parser != null) {
+                return parser.parseFrom(bytes);
+            }
+            return switch (manifest) {
+                case ATTACH -> readAttach(CodedInputStream.newInstance(bytes));
+                case DETACH -> new PlayerActor.Detach(readClient(CodedInputStream.newInstance(bytes)));
+                case DELIVER -> readDeliver(CodedInputStream.newInstance(bytes));
+                case DELIVERY_REPORT -> readDeliveryReport(CodedInputStream.newInstance(bytes));
+                case JOIN -> readJoin(CodedInputStream.newInstance(bytes), false);
+                case LEAVE -> readJoin(CodedInputStream.newInstance(bytes), true);
+                case PUBLISH -> readPublish(CodedInputStream.newInstance(bytes));
+                case DISCONNECT -> new ConnectionActor.Disconnect(readFirstString(CodedInputStream.newInstance(bytes)));
+                case STOP -> ConnectionActor.Stop.INSTANCE;
+                case FRAME -> readFrame(CodedInputStream.newInstance(bytes));
+                default -> throw new NotSerializableException("Unknown manifest " + manifest);
+            };
+        } catch (IOException e) {
+            NotSerializableException failure = new NotSerializableException("Failed to deserialize " + manifest);
+            failure.initCause(e);
+            throw failure;
+        }
+    }
+
+    private ActorRefResolver resolver() {
+        ActorRefResolver result = resolver;
+        if (result == null) {
+            result = ActorRefResolver.get(Adapter.toTyped(system));
+            resolver = result;
+        }
+        return result;
+    }
+
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            output.writeString(field, value);
+        }
+    }
+
+    /**
+     * client为null时不写字段，读出后仍为null
+     */
+    private void writeClient(CodedOutputStream output, int field, ClientHandle client) throws IOException {
+        if (client != null) {
+            output.writeString(field, resolver().toSerializationFormat(client.ref()));
+        }
+    }
+
+    private ClientHandle client(String ref) {
+        return ref.isEmpty() ? null : new ClientHandle(resolver().resolveActorRef(ref));
+    }
+
+    private PlayerActor.Attach readAttach(CodedInputStream input) throws IOException {
+        String client = "";
+        String sessionToken = "";
+        boolean resumed = false;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> client = input.readStringRequireUtf8();
+                case 2 -> sessionToken = input.readStringRequireUtf8();
+                case 3 -> resumed = input.readBool();
+                default -> input.skipField(tag);
+            }
+        }
+        return new PlayerActor.Attach(client(client), sessionToken, resumed);
+    }
+
+    private ClientHandle readClient(CodedInputStream input) throws IOException {
+        return client(readFirstString(input));
+    }
+
+    private PlayerActor.Deliver readDeliver(CodedInputStream input) throws IOException {
+        long messageId = 0;
+        GameMessage message = GameMessage.getDefaultInstance();
+        ActorRef<Object> replyTo = null;
+        String to = "";
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> messageId = input.readFixed64();
+                case 2 -> message = input.readMessage(GameMessage.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                case 3 -> replyTo = resolver().resolveActorRef(input.readStringRequireUtf8());
+                case 4 -> to = input.readStringRequireUtf8();
+                default -> input.skipField(tag);
+            }
+        }
+        return new PlayerActor.Deliver(messageId, to, message, replyTo);
+    }
+
+    private static PlayerActor.DeliveryReport readDeliveryReport(CodedInputStream input) throws IOException {
+        long messageId = 0;
+        String to = "";
+        DeliveryStatus status = DeliveryStatus.DELIVERY_UNKNOWN;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> messageId = input.readFixed64();
+                case 2 -> to = input.readStringRequireUtf8();
+                case 3 -> {
+                    status = DeliveryStatus.forNumber(input.readEnum());
+                    if (status == null) {
+                        status = DeliveryStatus.DELIVERY_UNKNOWN;
+                    }
+                }
+                default -> input.skipField(tag);
+            }
+        }
+        return new PlayerActor.DeliveryReport(messageId, to, status);
+    }
+
+    private Object readJoin(CodedInputStream input, boolean leave) throws IOException {
+        String playerId = "";
+        String client = "";
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> playerId = input.readStringRequireUtf8();
+                case 2 -> client = input.readStringRequireUtf8();
+                default -> input.skipField(tag);
+            }
+        }
+        return leave ? new ChannelActor.Leave(playerId, client(client)) : new ChannelActor.Join(playerId, client(client));
+    }
+
+    private static ChannelActor.Publish readPublish(CodedInputStream input) throws IOException {
+        String playerId = "";
+        CSChannelMessage message = CSChannelMessage.getDefaultInstance();
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> playerId = input.readStringRequireUtf8();
+                case 2 -> message = input.readMessage(CSChannelMessage.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                default -> input.skipField(tag);
+            }
+        }
+        return new ChannelActor.Publish(playerId, message);
+    }
+
+    private static PlayerActor.Frame readFrame(CodedInputStream input) throws IOException {
+        MessageType type = MessageType.UNKNOWN;
+        ByteBuf payload = Unpooled.EMPTY_BUFFER;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> {
+                    type = MessageType.forNumber(input.readEnum());
+                    if (type == null) {
+                        type = MessageType.UNRECOGNIZED;
+                    }
+                }
+                case 2 -> payload = Unpooled.wrappedBuffer(input.readByteArray());
+                default -> input.skipField(tag);
+            }
+        }
+        return new PlayerActor.Frame(type, payload);
+    }
+
+    /**
+     * 读取字段1，其余字段跳过
+     */
+    private static String readFirstString(CodedInputStream input) throws IOException {
+        String value = "";
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == 1) {
+                value = input.readStringRequireUtf8();
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * game.proto中所有消息按全名注册，新增的proto消息不需要修改序列化器
+     */
+    private static Map<String, Parser<? extends Message>> protoParsers() {
+        Map<String, Parser<? extends Message>> parsers = new HashMap<>();
+        for (Descriptors.Descriptor descriptor : GameProtos.getDescriptor().getMessageTypes()) {
+            String className = GameProtos.class.getPackageName() + "." + descriptor.getName();
+            try {
+                Message prototype = (Message) Class.forName(className).getMethod("getDefaultInstance").invoke(null);
+                parsers.put(descriptor.getFullName(), prototype.getParserForType());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Missing generated class for " + descriptor.getFullName(), e);
+            }
+        }
+        return parsers;
+    }
+}
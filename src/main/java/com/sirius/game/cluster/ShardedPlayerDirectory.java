@@ -0,0 +1,93 @@
+package com.sirius.game.cluster;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.RecipientRef;
+import akka.cluster.sharding.typed.javadsl.ClusterSharding;
+import akka.cluster.sharding.typed.javadsl.Entity;
+import com.sirius.game.actor.ActorKind;
+import com.sirius.game.actor.ChannelActor;
+import com.sirius.game.actor.PlayerActor;
+import com.sirius.game.actor.PlayerDirectory;
+import com.sirius.game.actor.PlayerSession;
+import com.sirius.game.common.GameClock;
+import com.sirius.game.gateway.GameConnection;
+import com.sirius.game.persistence.OfflineInbox;
+import com.sirius.game.persistence.PlayerStateStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+/**
+ * PlayerActor与ChannelActor作为分片实体运行，按玩家ID、频道ID分布到集群各节点，任意网关节点登录都会路由到同一个实体
+ */
+@Slf4j
+public class ShardedPlayerDirectory implements PlayerDirectory {
+
+    private final ClusterSharding sharding;
+    private final Map<String, PlayerSession> players;
+    private final PlayerStateStore state;
+    private final OfflineInbox inbox;
+    private final GameClock clock;
+
+    public ShardedPlayerDirectory(ActorSystem<Object> actorSystem, Map<String, PlayerSession> players,
+                                  PlayerStateStore state, OfflineInbox inbox, GameClock clock) {
+        this.sharding = ClusterSharding.get(actorSystem);
+        this.players = players;
+        this.state = state;
+        this.inbox = inbox;
+        this.clock = clock;
+        sharding.init(Entity.of(PlayerActor.TYPE_KEY,
+                        context -> PlayerActor.create(context.getEntityId(), this, context.getShard()))
+                .withEntityProps(ActorKind.PLAYER.props()));
+        sharding.init(Entity.of(ChannelActor.TYPE_KEY,
+                        context -> ChannelActor.create(context.getEntityId(), clock, context.getShard(),
+                                command -> tellChannel(context.getEntityId(), command)))
+                .withStopMessage(ChannelActor.Stop.INSTANCE)
+                .withEntityProps(ActorKind.ROOM.props()));
+        log.info("Cluster sharding initialized for PlayerActor and ChannelActor");
+    }
+
+    @Override
+    public Map<String, PlayerSession> sessions() {
+        return players;
+    }
+
+    @Override
+    public PlayerSession login(String playerId, GameConnection connection) {
+        PlayerSession session = new PlayerSession(sharding.entityRefFor(PlayerActor.TYPE_KEY, playerId), connection);
+        players.put(playerId, session);
+        return session;
+    }
+
+    @Override
+    public RecipientRef<Object> remotePlayer(String playerId) {
+        return sharding.entityRefFor(PlayerActor.TYPE_KEY, playerId);
+    }
+
+    @Override
+    public boolean release(String playerId, ActorRef<Object> actor, long attaches) {
+        // 钝化期间发来的消息由shard缓存，实体停止后重新启动并投递
+        return true;
+    }
+
+    @Override
+    public PlayerStateStore state() {
+        return state;
+    }
+
+    @Override
+    public OfflineInbox inbox() {
+        return inbox;
+    }
+
+    @Override
+    public GameClock clock() {
+        return clock;
+    }
+
+    @Override
+    public void tellChannel(String channel, Object command) {
+        sharding.entityRefFor(ChannelActor.TYPE_KEY, channel).tell(command);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sirius.game.common;
+
+/**
+ * 全服统一的"当前时间"。热路径只读一个volatile字段，不做系统调用；
+ * 同一tick内取到的时间相同，各子系统按tick对齐
+ */
+public interface GameClock {
+
+    /**
+     * 墙上时间（毫秒），精度为一个tick
+     */
+    long millis();
+
+    /**
+     * 时钟启动后经过的tick数，单调递增，不受系统时间调整影响
+     */
+    long ticks();
+
+    long tickMillis();
+}
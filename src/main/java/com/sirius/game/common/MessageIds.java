@@ -0,0 +1,66 @@
+package com.sirius.game.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 64位消息ID：41位毫秒时间戳（从EPOCH起）| 10位节点ID | 12位序号。
+ * 同一节点内严格递增，不同节点按时间大致有序，可以直接作为历史消息分页的偏移量。
+ * <p>
+ * 时间戳与序号合并为一个long，一次CAS完成分配，不加锁、不分配对象；
+ * 同一毫秒内序号用完时借用下一毫秒，不等待时钟，时钟回拨时也不会产生重复ID
+ */
+public final class MessageIds {
+
+    /**
+     * 2024-01-01T00:00:00Z，41位时间戳可用约69年
+     */
+    public static final long EPOCH = 1704067200000L;
+
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile long nodeBits;
+    private static volatile GameClock clock;
+    // 高位为时间戳，低SEQUENCE_BITS位为序号
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private MessageIds() {
+    }
+
+    /**
+     * 启动时调用一次，集群内每个节点的nodeId必须不同
+     *
+     * @param clock 时间戳来源，为null时直接读系统时间
+     */
+    public static void configure(int nodeId, GameClock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        nodeBits = (long) nodeId << SEQUENCE_BITS;
+        MessageIds.clock = clock;
+    }
+
+    public static long next() {
+        GameClock source = clock;
+        long now = source != null ? source.millis() : System.currentTimeMillis();
+        long floor = (now - EPOCH) << SEQUENCE_BITS;
+        long prev;
+        long next;
+        do {
+            prev = LAST.get();
+            next = Math.max(prev + 1, floor);
+        } while (!LAST.compareAndSet(prev, next));
+        return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    public static long timestamp(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static int nodeId(long id) {
+        return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
@@ -0,0 +1,28 @@
+package com.sirius.game.common;
+
+/**
+ * 玩家ID格式校验。没有账号注册表，无法判断ID是否真实存在，只拒绝不可能是玩家的ID，
+ * 避免为它们创建会话、实体或写入存储
+ */
+public final class PlayerIds {
+
+    /**
+     * ID会出现在actor名和存储的记录中，限制长度防止单个ID占用过多空间
+     */
+    public static final int MAX_LENGTH = 128;
+
+    private PlayerIds() {
+    }
+
+    public static boolean isValid(String playerId) {
+        if (playerId == null || playerId.isBlank() || playerId.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < playerId.length(); i++) {
+            if (Character.isISOControl(playerId.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
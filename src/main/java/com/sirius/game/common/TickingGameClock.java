@@ -0,0 +1,68 @@
+package com.sirius.game.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 由一个后台线程按固定间隔刷新的时钟
+ */
+@Slf4j
+public class TickingGameClock implements GameClock, Closeable {
+
+    private final long tickMillis;
+    private final long tickNanos;
+    private final long startNanos;
+    private final Thread ticker;
+    private volatile long millis;
+    private volatile long ticks;
+    private volatile boolean running = true;
+
+    public TickingGameClock(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.startNanos = System.nanoTime();
+        this.millis = System.currentTimeMillis();
+        this.ticker = new Thread(this::run, "game-clock");
+        ticker.setDaemon(true);
+        ticker.start();
+        log.info("Game clock started with {} ms ticks", tickMillis);
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public long ticks() {
+        return ticks;
+    }
+
+    @Override
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    private void run() {
+        while (running) {
+            // tick数按起点计算，park的误差不会累积
+            long elapsed = System.nanoTime() - startNanos;
+            long next = (elapsed / tickNanos + 1) * tickNanos;
+            LockSupport.parkNanos(next - elapsed);
+            millis = System.currentTimeMillis();
+            ticks = (System.nanoTime() - startNanos) / tickNanos;
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+}
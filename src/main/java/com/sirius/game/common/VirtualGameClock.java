@@ -0,0 +1,42 @@
+package com.sirius.game.common;
+
+/**
+ * 手动推进的时钟，用于测试和回放
+ */
+public class VirtualGameClock implements GameClock {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private volatile long millis;
+
+    public VirtualGameClock(long startMillis, long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.millis = startMillis;
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public long ticks() {
+        return (millis - startMillis) / tickMillis;
+    }
+
+    @Override
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    public synchronized void advance(long deltaMillis) {
+        if (deltaMillis < 0) {
+            throw new IllegalArgumentException("Virtual clock can't go backwards: " + deltaMillis);
+        }
+        millis += deltaMillis;
+    }
+}
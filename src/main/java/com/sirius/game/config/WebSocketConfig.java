@@ -1,17 +1,34 @@
 package com.sirius.game.config;
 
-import akka.actor.PoisonPill;
-import akka.actor.typed.ActorRef;
 import akka.actor.typed.ActorSystem;
-import akka.actor.typed.Props;
-import com.sirius.game.actor.PlayerActor;
+import com.sirius.game.actor.LocalPlayerDirectory;
+import com.sirius.game.actor.PlayerDirectory;
+import com.sirius.game.actor.PlayerSession;
 import com.sirius.game.actor.RootActor;
-import com.sirius.game.proto.CSLogin;
-import com.sirius.game.proto.GameMessage;
+import com.sirius.game.actor.dispatch.EventLoopDispatchers;
+import com.sirius.game.cluster.ShardedPlayerDirectory;
+import com.sirius.game.common.GameClock;
+import com.sirius.game.common.MessageIds;
+import com.sirius.game.common.TickingGameClock;
+import com.sirius.game.gateway.OutboundOptions;
+import com.sirius.game.gateway.SessionRegistry;
+import com.sirius.game.gateway.SlowConsumerPolicy;
+import com.sirius.game.gateway.WebSocketVerticle;
+import com.sirius.game.persistence.InMemoryPlayerStateStore;
+import com.sirius.game.persistence.JournalOfflineInbox;
+import com.sirius.game.persistence.JournalOptions;
+import com.sirius.game.persistence.JournalPlayerStateStore;
+import com.sirius.game.persistence.OfflineInbox;
+import com.sirius.game.persistence.PlayerStateStore;
+import com.sirius.game.persistence.SegmentedJournal;
+import com.sirius.game.proto.MessageType;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpServer;
-import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpServerOptions;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.SneakyThrows;
@@ -20,8 +37,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Configuration
@@ -30,36 +53,178 @@ public class WebSocketConfig {
     @Value("${vertx.websocket.port:8081}")
     private int websocketPort;
 
+    @Value("${vertx.websocket.instances:0}")
+    private int websocketInstances;
+
+    @Value("${game.cluster.enabled:false}")
+    private boolean clusterEnabled;
+
+    @Value("${game.cluster.port:25520}")
+    private int clusterPort;
+
+    @Value("${game.cluster.seed-nodes:akka://GameSystem@127.0.0.1:25520}")
+    private List<String> seedNodes;
+
+    @Value("${game.cluster.node-id:-1}")
+    private int nodeId;
+
+    @Value("${game.clock.tick-millis:1}")
+    private long clockTickMillis;
+
+    @Value("${game.actor.event-loop-dispatcher:false}")
+    private boolean eventLoopDispatcher;
+
+    @Value("${game.actor.event-loop-throughput:10}")
+    private int eventLoopThroughput;
+
+    @Value("${vertx.native-transport:true}")
+    private boolean nativeTransport;
+
+    @Value("${vertx.websocket.reuse-port:true}")
+    private boolean reusePort;
+
+    @Value("${vertx.websocket.tcp-no-delay:true}")
+    private boolean tcpNoDelay;
+
+    @Value("${vertx.websocket.tcp-quick-ack:true}")
+    private boolean tcpQuickAck;
+
+    @Value("${vertx.websocket.deferred-parse:true}")
+    private boolean deferredParse;
+
+    @Value("${vertx.websocket.outbound.flush-window-micros:0}")
+    private long flushWindowMicros;
+
+    @Value("${vertx.websocket.outbound.immediate-types:SC_LOGIN_RESULT}")
+    private MessageType[] immediateTypes;
+
+    @Value("${vertx.websocket.outbound.max-pending-bytes:262144}")
+    private long maxPendingBytes;
+
+    @Value("${vertx.websocket.outbound.low-priority-types:SC_CHANNEL_MESSAGE}")
+    private MessageType[] lowPriorityTypes;
+
+    @Value("${vertx.websocket.outbound.slow-consumer-policy:DROP}")
+    private SlowConsumerPolicy slowConsumerPolicy;
+
+    @Value("${vertx.websocket.outbound.disconnect-pending-bytes:1048576}")
+    private long disconnectPendingBytes;
+
+    @Value("${vertx.websocket.outbound.disconnect-throttled-millis:10000}")
+    private long disconnectThrottledMillis;
+
+    @Value("${vertx.websocket.outbound.replay-max-frames:256}")
+    private int replayMaxFrames;
+
+    @Value("${vertx.websocket.outbound.replay-max-bytes:32768}")
+    private int replayMaxBytes;
+
+    @Value("${vertx.websocket.outbound.resume-window-millis:60000}")
+    private long resumeWindowMillis;
+
+    @Value("${game.persistence.enabled:true}")
+    private boolean persistenceEnabled;
+
+    @Value("${game.persistence.directory:data/journal}")
+    private String journalDirectory;
+
+    @Value("${game.persistence.segment-size:67108864}")
+    private int journalSegmentSize;
+
+    @Value("${game.persistence.flush-interval-micros:1000}")
+    private long journalFlushIntervalMicros;
+
+    @Value("${game.persistence.max-batch:1024}")
+    private int journalMaxBatch;
+
+    @Value("${game.persistence.max-pending:65536}")
+    private int journalMaxPending;
+
+    @Value("${game.inbox.enabled:true}")
+    private boolean inboxEnabled;
+
+    @Value("${game.inbox.directory:data/inbox}")
+    private String inboxDirectory;
+
+    @Value("${game.inbox.segment-size:16777216}")
+    private int inboxSegmentSize;
+
+    @Value("${game.inbox.ttl-millis:604800000}")
+    private long inboxTtlMillis;
+
+    @Value("${game.inbox.max-per-player:200}")
+    private int inboxMaxPerPlayer;
+
     private Vertx vertx;
-    private HttpServer httpServer;
+    private TickingGameClock clock;
     private ActorSystem<Object> actorSystem;
+    private SegmentedJournal journal;
+    private SegmentedJournal inboxJournal;
 
-    private final Map<String, ActorRef<Object>> players = new ConcurrentHashMap<>();
+    private final Map<String, PlayerSession> players = new ConcurrentHashMap<>();
 
     @SneakyThrows
     @PostConstruct
     public void init() {
+        if (clusterEnabled && nodeId < 0) {
+            // 端口等本机配置在多台主机上可能相同，不能用来推导节点号，否则不同节点生成相同的消息ID
+            throw new IllegalStateException("game.cluster.node-id must be set to a value unique within the cluster (0-"
+                    + MessageIds.MAX_NODE_ID + ")");
+        }
+        int instances = websocketInstances > 0 ? websocketInstances : Runtime.getRuntime().availableProcessors();
+        log.info("Initializing Vertx WebSocket server on port {} with {} verticle instances", websocketPort, instances);
+        vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(nativeTransport));
+        if (vertx.isNativeTransportEnabled()) {
+            log.info("Vertx native transport enabled");
+        } else if (nativeTransport) {
+            log.warn("Vertx native transport unavailable, falling back to NIO", vertx.unavailableNativeTransportCause());
+        }
+
+        int messageIdNode = Math.max(nodeId, 0);
+        clock = new TickingGameClock(clockTickMillis);
+        MessageIds.configure(messageIdNode, clock);
+        log.info("Message id node {}", messageIdNode);
+
         log.info("Initializing Akka Actor System");
-        actorSystem = ActorSystem.create(RootActor.create(players), "GameSystem");
-
-        log.info("Initializing Vertx WebSocket server on port {}", websocketPort);
-        vertx = Vertx.vertx();
-        httpServer = vertx.createHttpServer();
-
-        httpServer.webSocketHandler(webSocket -> {
-                    String[] playerIds = new String[1];
-                    ActorRef<Object>[] actorRefs = new ActorRef[1];
-
-                    webSocket.handler(buffer -> dispatch(webSocket, playerIds, actorRefs, buffer));
-
-                    webSocket.closeHandler(v -> {
-                        if (actorRefs[0] != null) {
-                            actorRefs[0].tell(PoisonPill.getInstance());
-                        }
-                        players.remove(playerIds[0]);
-                    });
-                })
-                .listen(websocketPort, result -> {
+        Config config = akkaConfig();
+        // 集群模式下实体位置由分片决定，与连接所在的event loop无关，只在本地模式下生效
+        boolean useEventLoopDispatcher = eventLoopDispatcher && !clusterEnabled;
+        if (useEventLoopDispatcher) {
+            config = EventLoopDispatchers.install(vertx, eventLoopThroughput).withFallback(config);
+        }
+        actorSystem = ActorSystem.create(RootActor.create(players, clock), "GameSystem", config);
+        PlayerStateStore state = playerStateStore();
+        OfflineInbox inbox = offlineInbox();
+        PlayerDirectory directory = clusterEnabled
+                ? new ShardedPlayerDirectory(actorSystem, players, state, inbox, clock)
+                : new LocalPlayerDirectory(actorSystem, players, state, inbox, clock, useEventLoopDispatcher);
+
+        // reusePort、tcpQuickAck只在原生传输下生效，NIO下Vert.x会忽略
+        HttpServerOptions serverOptions = new HttpServerOptions()
+                .setPort(websocketPort)
+                .setReusePort(reusePort)
+                .setTcpNoDelay(tcpNoDelay)
+                .setTcpQuickAck(tcpQuickAck);
+
+        OutboundOptions outboundOptions = new OutboundOptions()
+                .setFlushWindowMicros(flushWindowMicros)
+                .setImmediateTypes(toEnumSet(immediateTypes))
+                .setMaxPendingBytes(maxPendingBytes)
+                .setLowPriorityTypes(toEnumSet(lowPriorityTypes))
+                .setSlowConsumerPolicy(slowConsumerPolicy)
+                .setDisconnectPendingBytes(disconnectPendingBytes)
+                .setDisconnectThrottledMillis(disconnectThrottledMillis)
+                .setReplayMaxFrames(replayMaxFrames)
+                .setReplayMaxBytes(replayMaxBytes)
+                .setResumeWindowMillis(resumeWindowMillis);
+
+        SessionRegistry sessions = new SessionRegistry(outboundOptions, clock);
+        vertx.setPeriodic(Math.max(1000, resumeWindowMillis / 4), id -> sessions.expire());
+
+        // 每个实例运行在独立的event loop上，由Vert.x在实例间分发连接
+        vertx.deployVerticle(() -> new WebSocketVerticle(serverOptions, actorSystem, directory, sessions, outboundOptions, deferredParse),
+                        new DeploymentOptions().setInstances(instances))
+                .onComplete(result -> {
                     if (result.succeeded()) {
                         log.info("Vertx WebSocket server started successfully on port {}", websocketPort);
                     } else {
@@ -68,38 +233,84 @@ public class WebSocketConfig {
                 });
     }
 
-    @SneakyThrows
-    private void dispatch(ServerWebSocket webSocket, String[] playerIds, ActorRef<Object>[] actorRefs, Buffer buffer) {
-        GameMessage message = GameMessage.parseFrom(buffer.getBytes());
-        switch (message.getType()) {
-            case CS_LOGIN:
-                CSLogin csLogin = message.getCsLogin();
-                playerIds[0] = csLogin.getUsername();
-                log.info("New WebSocket connection from {} with playerId {}", webSocket.remoteAddress(), playerIds[0]);
-                if (players.containsKey(playerIds[0])) {
-                    actorRefs[0] = players.get(playerIds[0]);
-                } else {
-                    actorRefs[0] = actorSystem.systemActorOf(PlayerActor.create(playerIds[0], webSocket), "player-" + playerIds[0], Props.empty());
-                    players.put(playerIds[0], actorRefs[0]);
-                }
-                actorRefs[0].tell(csLogin);
-                break;
-            case CS_SEND_MESSAGE:
-                actorRefs[0].tell(message.getCsSendMessage());
-                break;
+    /**
+     * 集群模式加载cluster.conf，端口与种子节点由Spring配置覆盖，便于在同一台机器上启动多个节点
+     */
+    private Config akkaConfig() {
+        if (!clusterEnabled) {
+            return ConfigFactory.load();
+        }
+        log.info("Akka cluster enabled on port {} with seed nodes {}", clusterPort, seedNodes);
+        return ConfigFactory.empty()
+                .withValue("akka.remote.artery.canonical.port", ConfigValueFactory.fromAnyRef(clusterPort))
+                .withValue("akka.cluster.seed-nodes", ConfigValueFactory.fromIterable(seedNodes))
+                .withFallback(ConfigFactory.load("cluster"));
+    }
+
+    /**
+     * 玩家状态写入本地日志，不依赖外部数据库；集群模式下日志同样只在本节点，实体迁移到其他节点后从空状态开始
+     */
+    private PlayerStateStore playerStateStore() throws IOException {
+        if (!persistenceEnabled) {
+            return new InMemoryPlayerStateStore();
+        }
+        log.info("Player journal enabled in {}", journalDirectory);
+        journal = new SegmentedJournal(Path.of(journalDirectory), new JournalOptions()
+                .setThreadName("player-journal")
+                .setSegmentSize(journalSegmentSize)
+                .setFlushIntervalMicros(journalFlushIntervalMicros)
+                .setMaxBatch(journalMaxBatch)
+                .setMaxPendingRequests(journalMaxPending));
+        return new JournalPlayerStateStore(journal);
+    }
+
+    /**
+     * 离线消息使用独立的日志，按分段整体过期，不影响玩家状态日志的回收
+     */
+    private OfflineInbox offlineInbox() throws IOException {
+        if (!inboxEnabled) {
+            return OfflineInbox.DISABLED;
         }
+        log.info("Offline inbox enabled in {}", inboxDirectory);
+        inboxJournal = new SegmentedJournal(Path.of(inboxDirectory), new JournalOptions()
+                .setThreadName("inbox-journal")
+                .setSegmentSize(inboxSegmentSize)
+                .setFlushIntervalMicros(journalFlushIntervalMicros)
+                .setMaxBatch(journalMaxBatch)
+                .setMaxPendingRequests(journalMaxPending)
+                .setRetentionMillis(inboxTtlMillis)
+                .setMaxEventsPerId(inboxMaxPerPlayer));
+        return new JournalOfflineInbox(inboxJournal);
+    }
+
+    private static EnumSet<MessageType> toEnumSet(MessageType[] types) {
+        EnumSet<MessageType> set = EnumSet.noneOf(MessageType.class);
+        set.addAll(Arrays.asList(types));
+        return set;
     }
 
     @PreDestroy
     public void destroy() {
-        if (httpServer != null) {
-            httpServer.close();
-        }
         if (vertx != null) {
             vertx.close();
         }
         if (actorSystem != null) {
             actorSystem.terminate();
+            // 等玩家actor停止时写入最后的快照，再关闭日志
+            try {
+                actorSystem.getWhenTerminated().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("Akka system did not terminate in time", e);
+            }
+        }
+        if (journal != null) {
+            journal.close();
+        }
+        if (inboxJournal != null) {
+            inboxJournal.close();
+        }
+        if (clock != null) {
+            clock.close();
         }
         log.info("Vertx WebSocket server and Akka system stopped");
     }
@@ -110,12 +321,12 @@ public class WebSocketConfig {
     }
 
     @Bean
-    public HttpServer httpServer() {
-        return httpServer;
+    public ActorSystem<Object> actorSystem() {
+        return actorSystem;
     }
 
     @Bean
-    public ActorSystem<Object> actorSystem() {
-        return actorSystem;
+    public GameClock gameClock() {
+        return clock;
     }
-}
\ No newline at end of file
+}
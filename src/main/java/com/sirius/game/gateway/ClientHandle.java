@@ -0,0 +1,56 @@
+package com.sirius.game.gateway;
+
+import akka.actor.typed.ActorRef;
+import com.sirius.game.actor.ConnectionActor;
+import com.sirius.game.proto.GameMessage;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 可跨节点传递的连接引用。ref指向连接所在节点的ConnectionActor；
+ * 持有方与连接在同一节点时直接写入GameConnection，不经过actor
+ */
+public record ClientHandle(ActorRef<Object> ref) {
+
+    private static final Map<ActorRef<Object>, GameConnection> LOCAL_CONNECTIONS = new ConcurrentHashMap<>();
+
+    public static ClientHandle register(ActorRef<Object> ref, GameConnection connection) {
+        LOCAL_CONNECTIONS.put(ref, connection);
+        return new ClientHandle(ref);
+    }
+
+    /**
+     * @return 连接在本节点时返回连接，否则返回null
+     */
+    public GameConnection localConnection() {
+        return LOCAL_CONNECTIONS.get(ref);
+    }
+
+    public boolean send(GameMessage message) throws IOException {
+        GameConnection connection = LOCAL_CONNECTIONS.get(ref);
+        if (connection != null) {
+            return connection.send(message);
+        }
+        ref.tell(message);
+        return true;
+    }
+
+    public void disconnect(String reason) {
+        GameConnection connection = LOCAL_CONNECTIONS.get(ref);
+        if (connection != null) {
+            connection.disconnect(reason);
+        } else {
+            ref.tell(new ConnectionActor.Disconnect(reason));
+        }
+    }
+
+    /**
+     * 连接关闭时在连接所在节点调用
+     */
+    public void release() {
+        LOCAL_CONNECTIONS.remove(ref);
+        ref.tell(ConnectionActor.Stop.INSTANCE);
+    }
+}
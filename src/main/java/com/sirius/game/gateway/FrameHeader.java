@@ -0,0 +1,13 @@
+package com.sirius.game.gateway;
+
+import com.sirius.game.proto.MessageType;
+
+/**
+ * 只从帧中读出的路由信息：消息类型，以及登录消息中的账号（其余类型为null）和会话恢复参数
+ */
+public record FrameHeader(MessageType type, String routingKey, String resumeToken, long lastSeq) {
+
+    public FrameHeader(MessageType type, String routingKey) {
+        this(type, routingKey, "", 0);
+    }
+}
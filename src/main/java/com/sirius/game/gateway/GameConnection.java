@@ -0,0 +1,340 @@
+package com.sirius.game.gateway;
+
+import com.sirius.game.common.GameClock;
+import com.sirius.game.metrics.GameMetrics;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.http.ServerWebSocket;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class GameConnection {
+
+    private static final AtomicLong THROTTLED_CONNECTIONS = GameMetrics.gauge("gateway.connections.throttled");
+    private static final LongAdder DROPPED_FRAMES = GameMetrics.counter("gateway.frames.dropped");
+    private static final LongAdder CONFLATED_FRAMES = GameMetrics.counter("gateway.frames.conflated");
+    private static final LongAdder SLOW_CONSUMER_DISCONNECTS = GameMetrics.counter("gateway.disconnects.slow-consumer");
+    private static final LongAdder REPLAYED_FRAMES = GameMetrics.counter("gateway.frames.replayed");
+
+    private final ServerWebSocket webSocket;
+    // 绕过Vert.x的写路径直接写Netty帧，依赖Vert.x内部API，见VertxInternals.channelHandlerContext()
+    private final ChannelHandlerContext ctx;
+    private final EventExecutor eventLoop;
+    private final OutboundOptions options;
+    private final GameClock clock;
+
+    private final Queue<ByteBuf> outbound = new ConcurrentLinkedQueue<>();
+    private final Map<MessageType, ByteBuf> conflated = new ConcurrentHashMap<>();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile boolean closed;
+
+    // 以下字段只在event loop上访问
+    private boolean throttled;
+    // 每次进入不可写状态加一，断开定时器只对自己所属的那一次生效
+    private long throttleEpisode;
+    private ReplaySession session;
+    // 等待接管会话期间暂停写出，保证补发的帧排在新消息之前
+    private boolean suspended;
+
+    public GameConnection(ServerWebSocket webSocket, OutboundOptions options, GameClock clock) {
+        this(webSocket, VertxInternals.channelHandlerContext(webSocket), options, clock);
+    }
+
+    GameConnection(ServerWebSocket webSocket, ChannelHandlerContext ctx, OutboundOptions options, GameClock clock) {
+        this.webSocket = webSocket;
+        this.ctx = ctx;
+        this.eventLoop = ctx.executor();
+        this.options = options;
+        this.clock = clock;
+        webSocket.drainHandler(v -> flush());
+    }
+
+    public ServerWebSocket webSocket() {
+        return webSocket;
+    }
+
+    public EventExecutor eventLoop() {
+        return eventLoop;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 可在任意线程调用：在调用线程完成编码，帧在连接所属的event loop上合并写出，一次flush对应一次系统调用
+     *
+     * @return 连接已关闭或消息因积压被丢弃时返回false
+     */
+    public boolean send(GameMessage message) throws IOException {
+        if (closed) {
+            return false;
+        }
+        return sendFrame(message.getType(), GameMessageCodec.encode(message));
+    }
+
+    /**
+     * 发送已编码的帧，接管frame的一个引用计数。广播时对同一份编码结果调用retainedDuplicate()分发给各个连接
+     */
+    public boolean sendFrame(MessageType type, ByteBuf frame) {
+        if (closed) {
+            frame.release();
+            return false;
+        }
+        int size = frame.readableBytes();
+        long pending = pendingBytes.addAndGet(size);
+
+        if (options.getLowPriorityTypes().contains(type)
+                && (pending > options.getMaxPendingBytes() || conflated.containsKey(type))) {
+            pendingBytes.addAndGet(-size);
+            if (options.getSlowConsumerPolicy() == SlowConsumerPolicy.CONFLATE) {
+                ByteBuf previous = conflated.put(type, frame);
+                if (previous != null) {
+                    previous.release();
+                    CONFLATED_FRAMES.increment();
+                }
+            } else {
+                frame.release();
+                DROPPED_FRAMES.increment();
+                return false;
+            }
+        } else {
+            outbound.offer(frame);
+            if (pending > options.getDisconnectPendingBytes()) {
+                eventLoop.execute(() -> disconnectSlowConsumer("pending " + pending + " bytes"));
+                return true;
+            }
+        }
+
+        if (closed) {
+            // 与close()并发时，交给event loop释放残留的帧
+            eventLoop.execute(this::flush);
+        } else if (options.getImmediateTypes().contains(type)) {
+            if (eventLoop.inEventLoop()) {
+                flush();
+            } else {
+                eventLoop.execute(this::flush);
+            }
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            long windowMicros = options.getFlushWindowMicros();
+            if (windowMicros > 0) {
+                eventLoop.schedule(this::flush, windowMicros, TimeUnit.MICROSECONDS);
+            } else {
+                eventLoop.execute(this::flush);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 在event loop上调用
+     */
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    ReplaySession session() {
+        return session;
+    }
+
+    /**
+     * 在本连接的event loop上调用：接管会话，先补发replay中lastSeq之后的帧再写出新消息。
+     * 会话仍属于旧连接时，先在旧连接的event loop上关闭旧连接，把它尚未写出的帧也计入会话，再补上replay之后的部分
+     */
+    void resume(ReplaySession session, GameConnection previous, long lastSeq, List<ReplayBuffer.Frame> replay) {
+        suspended = true;
+        if (previous == null) {
+            adopt(session, replay);
+            return;
+        }
+        long slicedSeq = replay.isEmpty() ? lastSeq : replay.get(replay.size() - 1).seq();
+        previous.eventLoop.execute(() -> {
+            previous.handOver(session);
+            List<ReplayBuffer.Frame> tail = session.buffer().since(slicedSeq);
+            if (tail == null) {
+                // 旧连接交接期间写入的帧超出了缓冲区，无法连续补发，断开后由客户端重新登录
+                replay.forEach(frame -> frame.payload().release());
+                eventLoop.execute(() -> {
+                    suspended = false;
+                    session.park(this, clock.millis());
+                    disconnect("replay gap while taking over session of player " + session.playerId());
+                });
+                return;
+            }
+            List<ReplayBuffer.Frame> frames = new ArrayList<>(replay.size() + tail.size());
+            frames.addAll(replay);
+            frames.addAll(tail);
+            eventLoop.execute(() -> adopt(session, frames));
+        });
+    }
+
+    /**
+     * 在本连接的event loop上调用
+     */
+    void adopt(ReplaySession session, List<ReplayBuffer.Frame> replay) {
+        suspended = false;
+        if (closed || !session.isOwner(this)) {
+            // 等待期间本连接已关闭，或会话又被更新的连接接管
+            session.park(this, clock.millis());
+            replay.forEach(frame -> frame.payload().release());
+            flush();
+            return;
+        }
+        if (this.session != null && this.session != session) {
+            this.session.park(this, clock.millis());
+        }
+        this.session = session;
+        for (ReplayBuffer.Frame frame : replay) {
+            ctx.write(new BinaryWebSocketFrame(GameMessageCodec.withSeq(frame.payload(), frame.seq())), ctx.voidPromise());
+        }
+        if (!replay.isEmpty()) {
+            REPLAYED_FRAMES.add(replay.size());
+            ctx.flush();
+        }
+        flush();
+    }
+
+    /**
+     * 在本连接的event loop上调用，会话已被新连接接管
+     */
+    private void handOver(ReplaySession session) {
+        if (this.session == session) {
+            closed = true;
+            flush();
+        }
+        log.info("Session of player {} resumed on another connection, closing {}", session.playerId(), webSocket.remoteAddress());
+        ctx.channel().close();
+    }
+
+    private void flush() {
+        // 先复位标记再取队列，保证复位之后入队的帧一定会被再次调度
+        flushScheduled.set(false);
+        if (closed) {
+            if (session != null) {
+                // 未写出的帧计入会话，重连后补发
+                releaseAll(session.buffer());
+                session.park(this, clock.millis());
+                session = null;
+            }
+            releaseAll(null);
+            setThrottled(false);
+            return;
+        }
+        if (suspended) {
+            return;
+        }
+
+        // 等价于webSocket.writeQueueFull()，但连接关闭后不会抛异常；不可写时帧留在队列中，等drainHandler继续写
+        int written = 0;
+        ByteBuf frame;
+        while (ctx.channel().isWritable() && (frame = outbound.poll()) != null) {
+            pendingBytes.addAndGet(-frame.readableBytes());
+            ctx.write(new BinaryWebSocketFrame(sequenced(frame)), ctx.voidPromise());
+            written++;
+        }
+        if (!conflated.isEmpty()) {
+            for (MessageType type : conflated.keySet()) {
+                if (!ctx.channel().isWritable()) {
+                    break;
+                }
+                frame = conflated.remove(type);
+                if (frame != null) {
+                    ctx.write(new BinaryWebSocketFrame(sequenced(frame)), ctx.voidPromise());
+                    written++;
+                }
+            }
+        }
+        if (written > 0) {
+            ctx.flush();
+        }
+        setThrottled(!outbound.isEmpty() || !conflated.isEmpty());
+    }
+
+    private ByteBuf sequenced(ByteBuf frame) {
+        if (session == null) {
+            return frame;
+        }
+        return GameMessageCodec.withSeq(frame, session.buffer().append(frame));
+    }
+
+    private void setThrottled(boolean throttled) {
+        if (throttled && !this.throttled) {
+            this.throttled = true;
+            long episode = ++throttleEpisode;
+            THROTTLED_CONNECTIONS.incrementAndGet();
+            eventLoop.schedule(() -> {
+                if (this.throttled && throttleEpisode == episode) {
+                    disconnectSlowConsumer("throttled for " + options.getDisconnectThrottledMillis() + " ms");
+                }
+            }, options.getDisconnectThrottledMillis(), TimeUnit.MILLISECONDS);
+        } else if (!throttled && this.throttled) {
+            this.throttled = false;
+            THROTTLED_CONNECTIONS.decrementAndGet();
+        }
+    }
+
+    /**
+     * 可在任意线程调用，直接关闭底层连接
+     */
+    public void disconnect(String reason) {
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(() -> disconnect(reason));
+            return;
+        }
+        if (closed) {
+            return;
+        }
+        log.warn("Disconnecting {}: {}", webSocket.remoteAddress(), reason);
+        // 不走关闭握手，关闭帧会排在积压的数据之后；连接关闭后由closeHandler释放队列
+        ctx.channel().close();
+    }
+
+    private void disconnectSlowConsumer(String reason) {
+        if (closed) {
+            return;
+        }
+        SLOW_CONSUMER_DISCONNECTS.increment();
+        disconnect("slow consumer, " + reason);
+    }
+
+    /**
+     * @param replay 不为null时先把帧计入补发缓冲
+     */
+    private void releaseAll(ReplayBuffer replay) {
+        ByteBuf frame;
+        while ((frame = outbound.poll()) != null) {
+            pendingBytes.addAndGet(-frame.readableBytes());
+            if (replay != null) {
+                replay.append(frame);
+            }
+            frame.release();
+        }
+        for (MessageType type : conflated.keySet()) {
+            frame = conflated.remove(type);
+            if (frame != null) {
+                if (replay != null) {
+                    replay.append(frame);
+                }
+                frame.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.sirius.game.gateway;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.sirius.game.proto.CSLogin;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+import java.io.IOException;
+
+public final class GameMessageCodec {
+
+    private static final int SEQ_TAG = GameMessage.SEQ_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_VARINT;
+
+    private GameMessageCodec() {
+    }
+
+    /**
+     * 直接在Buffer底层的ByteBuf上解析，不再复制出中间的byte[]。
+     * 未开启aliasing，解析结果不引用原始内存，Buffer在handler返回后可安全回收。
+     */
+    public static GameMessage decode(Buffer buffer) throws IOException {
+        return decode(VertxInternals.byteBuf(buffer));
+    }
+
+    /**
+     * 不修改byteBuf的读写下标，也不释放
+     */
+    public static GameMessage decode(ByteBuf byteBuf) throws IOException {
+        if (byteBuf.nioBufferCount() == 1) {
+            return GameMessage.parseFrom(byteBuf.nioBuffer());
+        }
+        // CompositeByteBuf等多段内存，按流读取以避免合并复制；duplicate()避免移动Buffer自身的读下标
+        return GameMessage.parseFrom(CodedInputStream.newInstance(new ByteBufInputStream(byteBuf.duplicate())));
+    }
+
+    /**
+     * 只读取type字段和登录账号，其余字段直接跳过，不构建任何消息对象
+     */
+    public static FrameHeader peek(Buffer buffer) throws IOException {
+        ByteBuf byteBuf = VertxInternals.byteBuf(buffer);
+        CodedInputStream input = byteBuf.nioBufferCount() == 1
+                ? CodedInputStream.newInstance(byteBuf.nioBuffer())
+                : CodedInputStream.newInstance(new ByteBufInputStream(byteBuf.duplicate()));
+        MessageType type = MessageType.UNKNOWN;
+        FrameHeader login = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int fieldNumber = WireFormat.getTagFieldNumber(tag);
+            if (fieldNumber == GameMessage.TYPE_FIELD_NUMBER
+                    && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_VARINT) {
+                type = MessageType.forNumber(input.readEnum());
+                if (type == null) {
+                    type = MessageType.UNRECOGNIZED;
+                }
+                // 序列化按字段号升序，type总在payload之前；非登录消息读到type即可返回
+                if (type != MessageType.CS_LOGIN || login != null) {
+                    break;
+                }
+            } else if (fieldNumber == GameMessage.CS_LOGIN_FIELD_NUMBER
+                    && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                int oldLimit = input.pushLimit(input.readRawVarint32());
+                login = readLogin(input);
+                input.popLimit(oldLimit);
+                if (type == MessageType.CS_LOGIN) {
+                    break;
+                }
+            } else {
+                input.skipField(tag);
+            }
+        }
+        if (type != MessageType.CS_LOGIN) {
+            return new FrameHeader(type, null);
+        }
+        return login != null ? login : new FrameHeader(type, null);
+    }
+
+    private static FrameHeader readLogin(CodedInputStream input) throws IOException {
+        String username = "";
+        String resumeToken = "";
+        long lastSeq = 0;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            int fieldNumber = WireFormat.getTagFieldNumber(tag);
+            int wireType = WireFormat.getTagWireType(tag);
+            if (fieldNumber == CSLogin.USERNAME_FIELD_NUMBER && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                username = input.readStringRequireUtf8();
+            } else if (fieldNumber == CSLogin.RESUME_TOKEN_FIELD_NUMBER && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                resumeToken = input.readStringRequireUtf8();
+            } else if (fieldNumber == CSLogin.LAST_SEQ_FIELD_NUMBER && wireType == WireFormat.WIRETYPE_VARINT) {
+                lastSeq = input.readUInt64();
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return new FrameHeader(MessageType.CS_LOGIN, username, resumeToken, lastSeq);
+    }
+
+    /**
+     * 按getSerializedSize()从池化直接内存分配ByteBuf，由CodedOutputStream直接写入，不产生堆上的byte[]。
+     * 返回的ByteBuf引用计数为1，调用方负责写出或释放。
+     */
+    public static ByteBuf encode(GameMessage message) throws IOException {
+        int size = message.getSerializedSize();
+        ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.directBuffer(size, size);
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(byteBuf.nioBuffer(0, size));
+            message.writeTo(output);
+            output.flush();
+            output.checkNoSpaceLeft();
+            byteBuf.writerIndex(size);
+            return byteBuf;
+        } catch (IOException | RuntimeException e) {
+            byteBuf.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 在已编码的帧后追加seq字段。protobuf解析时字段顺序无关，广播共享的帧内容不需要为每个连接重新编码。
+     * 返回的组合ByteBuf接管frame的引用计数
+     */
+    public static ByteBuf withSeq(ByteBuf frame, long seq) {
+        ByteBuf trailer = PooledByteBufAllocator.DEFAULT.directBuffer(1 + CodedOutputStream.computeUInt64SizeNoTag(seq));
+        trailer.writeByte(SEQ_TAG);
+        long value = seq;
+        while ((value & ~0x7FL) != 0) {
+            trailer.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        trailer.writeByte((int) value);
+        return Unpooled.wrappedBuffer(frame, trailer);
+    }
+}
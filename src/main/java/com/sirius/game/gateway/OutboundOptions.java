@@ -0,0 +1,60 @@
+package com.sirius.game.gateway;
+
+import com.sirius.game.proto.MessageType;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Data
+@Accessors(chain = true)
+public class OutboundOptions {
+
+    /**
+     * 合并写出的时间窗口（微秒），0表示在当前event loop轮次结束时flush
+     */
+    private long flushWindowMicros;
+
+    /**
+     * 延迟敏感的消息类型，不参与合并，入队后立即flush
+     */
+    private Set<MessageType> immediateTypes = EnumSet.noneOf(MessageType.class);
+
+    /**
+     * 尚未交给Netty的待发送字节上限，超过后低优先级消息按slowConsumerPolicy处理
+     */
+    private long maxPendingBytes = 256 * 1024;
+
+    /**
+     * 积压时可以丢弃或合并的消息类型，默认为频道广播
+     */
+    private Set<MessageType> lowPriorityTypes = EnumSet.of(MessageType.SC_CHANNEL_MESSAGE);
+
+    private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DROP;
+
+    /**
+     * 待发送字节超过该值时断开连接
+     */
+    private long disconnectPendingBytes = 1024 * 1024;
+
+    /**
+     * 连续不可写超过该时长（毫秒）时断开连接
+     */
+    private long disconnectThrottledMillis = 10_000;
+
+    /**
+     * 每个会话保留的最近下行帧条数，用于断线重连后补发
+     */
+    private int replayMaxFrames = 256;
+
+    /**
+     * 每个会话补发缓冲占用的直接内存字节数
+     */
+    private int replayMaxBytes = 32 * 1024;
+
+    /**
+     * 断线后会话的保留时长（毫秒），超时后只能重新登录
+     */
+    private long resumeWindowMillis = 60_000;
+}
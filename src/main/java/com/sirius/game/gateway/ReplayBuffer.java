@@ -0,0 +1,122 @@
+package com.sirius.game.gateway;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 最近发出的下行帧，按条数和字节数双重限制。帧内容按到达顺序写入一块环形的直接内存，
+ * 索引只用两个int数组，不为每帧保留对象。
+ * 由会话当前所属连接的event loop写入；接管会话的连接在另一个event loop上读取，读写在本对象上同步。
+ */
+final class ReplayBuffer {
+
+    record Frame(long seq, ByteBuf payload) {
+    }
+
+    private final int maxFrames;
+    private final int maxBytes;
+    private final int[] offsets;
+    private final int[] lengths;
+
+    private ByteBuf data;
+    private long firstSeq = 1;
+    private long lastSeq;
+    private int head;
+    private int usedBytes;
+
+    ReplayBuffer(int maxFrames, int maxBytes) {
+        this.maxFrames = maxFrames;
+        this.maxBytes = maxBytes;
+        this.offsets = new int[maxFrames];
+        this.lengths = new int[maxFrames];
+    }
+
+    synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * 复制一份帧内容并分配下一个序号
+     */
+    synchronized long append(ByteBuf frame) {
+        long seq = lastSeq + 1;
+        int length = frame.readableBytes();
+        if (length > maxBytes) {
+            // 放不下的帧无法补发，之前的帧也不再连续
+            clear(seq + 1);
+            lastSeq = seq;
+            return seq;
+        }
+        while (lastSeq - firstSeq + 1 >= maxFrames || usedBytes + length > maxBytes) {
+            evictOldest();
+        }
+        if (data == null) {
+            data = PooledByteBufAllocator.DEFAULT.directBuffer(maxBytes, maxBytes);
+        }
+
+        int slot = (int) (seq % maxFrames);
+        offsets[slot] = head;
+        lengths[slot] = length;
+        int first = Math.min(length, maxBytes - head);
+        data.setBytes(head, frame, frame.readerIndex(), first);
+        if (first < length) {
+            data.setBytes(0, frame, frame.readerIndex() + first, length - first);
+        }
+        head = (head + length) % maxBytes;
+        usedBytes += length;
+        lastSeq = seq;
+        return seq;
+    }
+
+    /**
+     * 复制出afterSeq之后的帧，返回的ByteBuf由调用方释放。
+     * 检查与复制在同一把锁内，不会与淘汰交错
+     *
+     * @return afterSeq之后的帧已有被淘汰的，或afterSeq超出已分配的序号时为null
+     */
+    synchronized List<Frame> since(long afterSeq) {
+        if (afterSeq < firstSeq - 1 || afterSeq > lastSeq) {
+            return null;
+        }
+        List<Frame> frames = new ArrayList<>((int) Math.max(0, lastSeq - afterSeq));
+        for (long seq = afterSeq + 1; seq <= lastSeq; seq++) {
+            int slot = (int) (seq % maxFrames);
+            int offset = offsets[slot];
+            int length = lengths[slot];
+            ByteBuf payload = PooledByteBufAllocator.DEFAULT.directBuffer(length, length);
+            int first = Math.min(length, maxBytes - offset);
+            payload.writeBytes(data, offset, first);
+            if (first < length) {
+                payload.writeBytes(data, 0, length - first);
+            }
+            frames.add(new Frame(seq, payload));
+        }
+        return frames;
+    }
+
+    synchronized void release() {
+        clear(lastSeq + 1);
+        if (data != null) {
+            data.release();
+            data = null;
+        }
+    }
+
+    private void evictOldest() {
+        usedBytes -= lengths[(int) (firstSeq % maxFrames)];
+        firstSeq++;
+        if (firstSeq > lastSeq) {
+            head = 0;
+            usedBytes = 0;
+        }
+    }
+
+    private void clear(long nextSeq) {
+        firstSeq = nextSeq;
+        head = 0;
+        usedBytes = 0;
+    }
+}
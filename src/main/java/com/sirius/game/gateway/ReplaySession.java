@@ -0,0 +1,77 @@
+package com.sirius.game.gateway;
+
+/**
+ * 可恢复的会话：一个玩家在本节点的下行序号与补发缓冲。
+ * 同一时刻至多属于一个连接，缓冲区只由该连接的event loop读写；所属权的变更在本对象上同步
+ */
+final class ReplaySession {
+
+    private final String playerId;
+    private final String token;
+    private final ReplayBuffer buffer;
+
+    // 以下字段由this保护
+    private GameConnection owner;
+    private long parkedAt;
+    private boolean released;
+
+    ReplaySession(String playerId, String token, ReplayBuffer buffer, GameConnection owner) {
+        this.playerId = playerId;
+        this.token = token;
+        this.buffer = buffer;
+        this.owner = owner;
+    }
+
+    String playerId() {
+        return playerId;
+    }
+
+    String token() {
+        return token;
+    }
+
+    ReplayBuffer buffer() {
+        return buffer;
+    }
+
+    synchronized boolean isOwner(GameConnection connection) {
+        return owner == connection;
+    }
+
+    /**
+     * 新连接接管会话，调用方需在同一把锁内先确认会话未释放
+     *
+     * @return 之前所属的连接，会话处于保留状态时为null
+     */
+    synchronized GameConnection claim(GameConnection connection) {
+        GameConnection previous = owner;
+        owner = connection;
+        return previous;
+    }
+
+    synchronized boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * 连接关闭后保留会话，等待重连
+     */
+    synchronized void park(GameConnection connection, long now) {
+        if (owner == connection) {
+            owner = null;
+            parkedAt = now;
+        }
+    }
+
+    /**
+     * 无人接管且超过保留时长时释放缓冲区
+     */
+    synchronized boolean expire(long now, long windowMillis) {
+        if (released || owner != null || now - parkedAt < windowMillis) {
+            return false;
+        }
+        released = true;
+        buffer.release();
+        return true;
+    }
+}
@@ -0,0 +1,111 @@
+package com.sirius.game.gateway;
+
+import com.sirius.game.common.GameClock;
+import com.sirius.game.metrics.GameMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 本节点上可恢复的会话。断线后会话保留resumeWindowMillis，客户端带着session_token和最后收到的seq重新登录时，
+ * 只补发缺失的帧，不需要重新同步全部状态
+ */
+@Slf4j
+public class SessionRegistry {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final LongAdder RESUMED = GameMetrics.counter("gateway.sessions.resumed");
+    private static final LongAdder RESUME_FAILED = GameMetrics.counter("gateway.sessions.resume-failed");
+    private static final LongAdder EXPIRED = GameMetrics.counter("gateway.sessions.expired");
+
+    /**
+     * 登录结果中返回给客户端的会话信息
+     */
+    public record Binding(String token, boolean resumed) {
+    }
+
+    private final Map<String, ReplaySession> sessions = new ConcurrentHashMap<>();
+    private final int maxFrames;
+    private final int maxBytes;
+    private final long windowMillis;
+    private final GameClock clock;
+
+    public SessionRegistry(OutboundOptions options, GameClock clock) {
+        this.maxFrames = options.getReplayMaxFrames();
+        this.maxBytes = options.getReplayMaxBytes();
+        this.windowMillis = options.getResumeWindowMillis();
+        this.clock = clock;
+        GameMetrics.register("gateway.sessions", sessions::size);
+    }
+
+    public long windowMillis() {
+        return windowMillis;
+    }
+
+    public GameClock clock() {
+        return clock;
+    }
+
+    /**
+     * 在连接所属的event loop上调用。resumeToken有效且缺失的帧仍在缓冲区中时恢复原会话，否则创建新会话
+     */
+    public Binding bind(GameConnection connection, String playerId, String resumeToken, long lastSeq) {
+        ReplaySession current = connection.session();
+        if (current != null && current.playerId().equals(playerId)) {
+            // 同一连接上重复登录，沿用当前会话
+            return new Binding(current.token(), false);
+        }
+
+        if (!resumeToken.isEmpty()) {
+            ReplaySession session = sessions.get(resumeToken);
+            if (session != null && session.playerId().equals(playerId)) {
+                GameConnection previous = null;
+                List<ReplayBuffer.Frame> replay = null;
+                synchronized (session) {
+                    // 缺失的帧已被淘汰时不能恢复，否则客户端会跳过这段消息
+                    if (!session.isReleased() && (replay = session.buffer().since(lastSeq)) != null) {
+                        previous = session.claim(connection);
+                    }
+                }
+                if (replay != null) {
+                    connection.resume(session, previous, lastSeq, replay);
+                    RESUMED.increment();
+                    return new Binding(session.token(), true);
+                }
+            }
+            RESUME_FAILED.increment();
+            log.debug("Session of player {} cannot be resumed from seq {}", playerId, lastSeq);
+        }
+
+        ReplaySession session = new ReplaySession(playerId, newToken(), new ReplayBuffer(maxFrames, maxBytes), connection);
+        sessions.put(session.token(), session);
+        connection.adopt(session, List.of());
+        return new Binding(session.token(), false);
+    }
+
+    /**
+     * 定期调用，释放超过保留时长仍未恢复的会话
+     */
+    public void expire() {
+        long now = clock.millis();
+        sessions.values().removeIf(session -> {
+            if (session.expire(now, windowMillis)) {
+                EXPIRED.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static String newToken() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sirius.game.gateway;
+
+/**
+ * 待发送数据超过上限时，对低优先级消息的处理方式
+ */
+public enum SlowConsumerPolicy {
+    /**
+     * 直接丢弃
+     */
+    DROP,
+    /**
+     * 同类型只保留最新的一条
+     */
+    CONFLATE
+}
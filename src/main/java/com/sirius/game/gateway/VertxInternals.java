@@ -0,0 +1,59 @@
+package com.sirius.game.gateway;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.impl.WebSocketInternal;
+import io.vertx.core.impl.VertxInternal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 对Vert.x内部API（impl包）的依赖集中在这里，升级Vert.x时只需要核对这一个类。
+ * 4.x中Buffer与ByteBuf互转的公开方法Buffer.getByteBuf()、Buffer.buffer(ByteBuf)已废弃，且getByteBuf()每次都创建slice
+ */
+public final class VertxInternals {
+
+    private VertxInternals() {
+    }
+
+    /**
+     * 返回Buffer底层的ByteBuf本身，调用方只能读取，不能修改读写下标或释放
+     */
+    public static ByteBuf byteBuf(Buffer buffer) {
+        if (buffer instanceof BufferImpl impl) {
+            return impl.byteBuf();
+        }
+        return Unpooled.wrappedBuffer(buffer.getBytes());
+    }
+
+    /**
+     * 包装ByteBuf而不复制，Buffer与ByteBuf共享引用计数
+     */
+    public static Buffer buffer(ByteBuf byteBuf) {
+        return BufferImpl.buffer(byteBuf);
+    }
+
+    /**
+     * WebSocket所在的Netty pipeline。公开的write()每次调用都会flush，也无法写入已编码的ByteBuf帧；
+     * 直接写pipeline时writeQueueFull()和drainHandler仍然有效，二者都基于channel的可写状态
+     */
+    public static ChannelHandlerContext channelHandlerContext(ServerWebSocket webSocket) {
+        return ((WebSocketInternal) webSocket).channelHandlerContext();
+    }
+
+    /**
+     * Vert.x用于网络I/O的全部event loop，与连接的ChannelHandlerContext.executor()是同一批对象
+     */
+    public static List<EventExecutor> eventLoops(Vertx vertx) {
+        List<EventExecutor> loops = new ArrayList<>();
+        ((VertxInternal) vertx).getEventLoopGroup().forEach(loops::add);
+        return List.copyOf(loops);
+    }
+}
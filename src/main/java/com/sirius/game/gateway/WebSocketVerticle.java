@@ -0,0 +1,152 @@
+package com.sirius.game.gateway;
+
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.RecipientRef;
+import com.sirius.game.actor.ActorKind;
+import com.sirius.game.actor.ConnectionActor;
+import com.sirius.game.actor.PlayerActor;
+import com.sirius.game.actor.PlayerDirectory;
+import com.sirius.game.actor.PlayerSession;
+import com.sirius.game.common.PlayerIds;
+import com.sirius.game.proto.CSLogin;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import com.sirius.game.proto.SCLoginResult;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.ServerWebSocket;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class WebSocketVerticle extends AbstractVerticle {
+
+    private static final AtomicLong CONNECTION_IDS = new AtomicLong();
+
+    private final HttpServerOptions serverOptions;
+    private final ActorSystem<Object> actorSystem;
+    private final PlayerDirectory directory;
+    private final SessionRegistry sessions;
+    private final OutboundOptions outboundOptions;
+    private final boolean deferredParse;
+
+    public WebSocketVerticle(HttpServerOptions serverOptions, ActorSystem<Object> actorSystem, PlayerDirectory directory,
+                             SessionRegistry sessions, OutboundOptions outboundOptions, boolean deferredParse) {
+        this.serverOptions = serverOptions;
+        this.actorSystem = actorSystem;
+        this.directory = directory;
+        this.sessions = sessions;
+        this.outboundOptions = outboundOptions;
+        this.deferredParse = deferredParse;
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        vertx.createHttpServer(serverOptions)
+                .webSocketHandler(this::onConnect)
+                .listen()
+                .<Void>mapEmpty()
+                .onComplete(startPromise);
+    }
+
+    /**
+     * 单个连接的登录状态，只在连接所属的event loop上访问
+     */
+    private static final class ConnectionState {
+        private String playerId;
+        private PlayerSession session;
+        private RecipientRef<Object> player;
+        private ClientHandle client;
+    }
+
+    private void onConnect(ServerWebSocket webSocket) {
+        ConnectionState state = new ConnectionState();
+        GameConnection connection = new GameConnection(webSocket, outboundOptions, sessions.clock());
+
+        webSocket.handler(buffer -> dispatch(connection, state, buffer));
+
+        webSocket.closeHandler(v -> {
+            connection.close();
+            if (state.player != null) {
+                state.player.tell(new PlayerActor.Detach(state.client));
+            }
+            if (state.client != null) {
+                state.client.release();
+            }
+            if (state.session != null) {
+                // 只移除本连接登录时建立的会话，同一账号之后在其他连接上的登录不受影响
+                directory.sessions().remove(state.playerId, state.session);
+            }
+        });
+    }
+
+    @SneakyThrows
+    private void dispatch(GameConnection connection, ConnectionState state, Buffer buffer) {
+        if (deferredParse) {
+            // event loop上只读出路由信息，完整解析交给PlayerActor所在的dispatcher
+            FrameHeader header = GameMessageCodec.peek(buffer);
+            if (header.type() == MessageType.CS_LOGIN
+                    && !bind(connection, state, header.routingKey(), header.resumeToken(), header.lastSeq())) {
+                return;
+            }
+            if (state.player != null) {
+                // 不复制帧内容，由actor解析后释放；已读出的type一并带上，邮箱分类时不再重复peek
+                state.player.tell(new PlayerActor.Frame(header.type(), VertxInternals.byteBuf(buffer).retainedSlice()));
+            }
+            return;
+        }
+
+        GameMessage message = GameMessageCodec.decode(buffer);
+        if (message.getType() == MessageType.CS_LOGIN) {
+            CSLogin csLogin = message.getCsLogin();
+            if (!bind(connection, state, csLogin.getUsername(), csLogin.getResumeToken(), csLogin.getLastSeq())) {
+                return;
+            }
+        }
+        // 具体的处理方法由PlayerActor的MessageHandlerRegistry按消息类型分发
+        if (state.player != null) {
+            state.player.tell(message);
+        }
+    }
+
+    /**
+     * @return 用户名不是合法的玩家ID时回复登录失败并返回false，连接保持原来的登录状态
+     */
+    private boolean bind(GameConnection connection, ConnectionState state, String username, String resumeToken,
+                         long lastSeq) throws IOException {
+        if (!PlayerIds.isValid(username)) {
+            log.warn("Rejected login with invalid playerId from {}", connection.webSocket().remoteAddress());
+            connection.send(GameMessage.newBuilder()
+                    .setType(MessageType.SC_LOGIN_RESULT)
+                    .setScLoginResult(SCLoginResult.newBuilder()
+                            .setSuccess(false)
+                            .setMessage("invalid username")
+                            .setTimestamp(sessions.clock().millis()))
+                    .build());
+            return false;
+        }
+        if (state.session != null && !state.playerId.equals(username)) {
+            // 同一连接切换账号，先与原玩家解绑
+            state.player.tell(new PlayerActor.Detach(state.client));
+            directory.sessions().remove(state.playerId, state.session);
+        }
+        state.playerId = username;
+        log.info("New WebSocket connection from {} with playerId {}", connection.webSocket().remoteAddress(), username);
+        if (state.client == null) {
+            ActorRef<Object> connectionActor = actorSystem.systemActorOf(ConnectionActor.create(connection),
+                    "connection-" + CONNECTION_IDS.incrementAndGet(), ActorKind.SYSTEM.props());
+            state.client = ClientHandle.register(connectionActor, connection);
+        }
+        SessionRegistry.Binding binding = sessions.bind(connection, username, resumeToken, lastSeq);
+        state.session = directory.login(username, connection);
+        state.player = state.session.actor();
+        state.player.tell(new PlayerActor.Attach(state.client, binding.token(), binding.resumed()));
+        return true;
+    }
+}
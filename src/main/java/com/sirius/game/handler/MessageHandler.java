@@ -0,0 +1,18 @@
+package com.sirius.game.handler;
+
+import com.sirius.game.proto.MessageType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记消息处理方法，方法只有一个参数，类型为GameMessage中对应的payload，例如CSLogin
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MessageHandler {
+
+    MessageType value();
+}
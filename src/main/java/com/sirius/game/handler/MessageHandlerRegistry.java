@@ -0,0 +1,159 @@
+package com.sirius.game.handler;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * 启动时扫描@MessageHandler方法，通过LambdaMetafactory绑定为直接调用，
+ * 按MessageType的序号（而不是1001、2001这样的协议号）存入紧凑数组，分发时一次数组下标访问即可定位处理方法
+ */
+public final class MessageHandlerRegistry<T, R> {
+
+    private static final MessageType[] TYPES = MessageType.values();
+
+    /**
+     * 一个消息类型对应的payload getter与处理方法；payloadCase为oneof字段号，与MessageType的协议号相同
+     */
+    private record Binding<T, R>(int payloadCase, Function<GameMessage, Object> payload, Invoker<T, R> invoker) {
+    }
+
+    private final Class<T> targetType;
+    private final Binding<T, R>[] bindings;
+
+    private MessageHandlerRegistry(Class<T> targetType) {
+        this.targetType = targetType;
+        // 不能直接创建泛型数组；数组不对外暴露，只存放本实例register()生成的Binding<T, R>
+        @SuppressWarnings("unchecked")
+        Binding<T, R>[] bindings = (Binding<T, R>[]) new Binding<?, ?>[TYPES.length];
+        this.bindings = bindings;
+    }
+
+    /**
+     * @param lookup 需要具备访问targetType私有方法的权限，通常在targetType内部调用MethodHandles.lookup()
+     */
+    public static <T, R> MessageHandlerRegistry<T, R> scan(Class<T> targetType, MethodHandles.Lookup lookup) {
+        MessageHandlerRegistry<T, R> registry = new MessageHandlerRegistry<>(targetType);
+        for (Method method : targetType.getDeclaredMethods()) {
+            MessageHandler annotation = method.getAnnotation(MessageHandler.class);
+            if (annotation != null) {
+                registry.register(annotation.value(), method, lookup);
+            }
+        }
+        return registry;
+    }
+
+    public boolean supports(MessageType type) {
+        return bindings[type.ordinal()] != null;
+    }
+
+    /**
+     * @return 处理方法的返回值，没有对应的处理方法或payload与type不一致时返回null
+     */
+    public R dispatch(T target, GameMessage message) throws Exception {
+        Binding<T, R> binding = bindings[message.getType().ordinal()];
+        if (binding == null || message.getPayloadCase().getNumber() != binding.payloadCase()) {
+            return null;
+        }
+        return binding.invoker().invoke(target, binding.payload().apply(message));
+    }
+
+    private void register(MessageType type, Method method, MethodHandles.Lookup lookup) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+            throw new IllegalStateException("@MessageHandler method must be an instance method with one parameter: " + method);
+        }
+        int slot = type.ordinal();
+        if (bindings[slot] != null) {
+            throw new IllegalStateException("Duplicate @MessageHandler for " + type + " in " + targetType.getName());
+        }
+        Class<?> payloadType = method.getParameterTypes()[0];
+        bindings[slot] = new Binding<>(type.getNumber(), bindPayloadGetter(type, payloadType, lookup),
+                bindInvoker(method, lookup));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Invoker<T, R> bindInvoker(Method method, MethodHandles.Lookup lookup) {
+        try {
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "invoke",
+                    MethodType.methodType(Invoker.class),
+                    MethodType.methodType(Object.class, Object.class, Object.class),
+                    handle, handle.type());
+            return (Invoker<T, R>) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to bind @MessageHandler method " + method, e);
+        }
+    }
+
+    /**
+     * 按与MessageType协议号相同的oneof字段号查找getter，例如CS_LOGIN对应cs_login字段的getCsLogin()。
+     * 不能按返回值类型查找，同一个消息类型可能被多个字段使用，如SCReceiveMessage
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<GameMessage, Object> bindPayloadGetter(MessageType type, Class<?> payloadType,
+                                                                   MethodHandles.Lookup lookup) {
+        FieldDescriptor field = GameMessage.getDescriptor().findFieldByNumber(type.getNumber());
+        if (field == null || field.getContainingOneof() == null) {
+            throw new IllegalStateException("GameMessage has no payload field numbered " + type.getNumber() + " for " + type);
+        }
+        Method getter;
+        try {
+            getter = GameMessage.class.getMethod(getterName(field));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("GameMessage has no getter for payload field " + field.getName(), e);
+        }
+        if (getter.getReturnType() != payloadType) {
+            throw new IllegalStateException("Payload of " + type + " is " + getter.getReturnType().getName()
+                    + ", but @MessageHandler expects " + payloadType.getName());
+        }
+        try {
+            MethodHandle handle = lookup.unreflect(getter);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle, handle.type());
+            return (Function<GameMessage, Object>) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to bind GameMessage getter " + getter, e);
+        }
+    }
+
+    /**
+     * 与protoc生成Java代码的命名规则一致：下划线和数字之后的字母大写，如sc_login_result对应getScLoginResult
+     */
+    private static String getterName(FieldDescriptor field) {
+        String name = field.getName();
+        StringBuilder getter = new StringBuilder("get");
+        boolean upper = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                upper = true;
+            } else if (Character.isDigit(c)) {
+                getter.append(c);
+                upper = true;
+            } else {
+                getter.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return getter.toString();
+    }
+
+    /**
+     * 生成的lambda类与目标类同属一个nest，接口需要对目标类可见
+     */
+    @FunctionalInterface
+    public interface Invoker<T, R> {
+        R invoke(T target, Object payload) throws Exception;
+    }
+}
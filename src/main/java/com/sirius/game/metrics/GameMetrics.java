@@ -0,0 +1,50 @@
+package com.sirius.game.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 进程内指标注册表，网关、Actor等非Spring管理的对象也可以直接上报
+ */
+public final class GameMetrics {
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> GAUGES = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> COMPUTED = new ConcurrentHashMap<>();
+
+    private GameMetrics() {
+    }
+
+    /**
+     * 只增不减的计数，高并发下使用LongAdder减少竞争
+     */
+    public static LongAdder counter(String name) {
+        return COUNTERS.computeIfAbsent(name, k -> new LongAdder());
+    }
+
+    /**
+     * 可增可减的瞬时值
+     */
+    public static AtomicLong gauge(String name) {
+        return GAUGES.computeIfAbsent(name, k -> new AtomicLong());
+    }
+
+    /**
+     * 读取时才计算的值，例如由两个计数相减得到的队列深度
+     */
+    public static void register(String name, LongSupplier supplier) {
+        COMPUTED.put(name, supplier);
+    }
+
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        GAUGES.forEach((name, gauge) -> snapshot.put(name, gauge.get()));
+        COMPUTED.forEach((name, supplier) -> snapshot.put(name, supplier.getAsLong()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sirius.game.metrics;
+
+import com.sirius.game.common.Result;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @GetMapping
+    public Result<Map<String, Long>> metrics() {
+        return Result.success(GameMetrics.snapshot());
+    }
+}
@@ -0,0 +1,43 @@
+package com.sirius.game.persistence;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 不落盘的实现，状态以编码后的快照保存在本节点内存中，进程重启后丢失。game.persistence.enabled=false时使用
+ */
+public class InMemoryPlayerStateStore implements PlayerStateStore {
+
+    private final Map<String, byte[]> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletionStage<PlayerSnapshot> recover(String playerId) {
+        byte[] data = snapshots.get(playerId);
+        return CompletableFuture.completedFuture(data == null ? PlayerSnapshot.EMPTY : PlayerSnapshot.fromBytes(data));
+    }
+
+    @Override
+    public void persist(String playerId, PlayerEvent event) {
+        snapshots.compute(playerId, (id, data) -> {
+            Set<String> channels = new LinkedHashSet<>();
+            if (data != null) {
+                channels.addAll(PlayerSnapshot.fromBytes(data).channels());
+            }
+            event.applyTo(channels);
+            return channels.isEmpty() ? null : new PlayerSnapshot(channels).toBytes();
+        });
+    }
+
+    @Override
+    public void snapshot(String playerId, PlayerSnapshot snapshot) {
+        if (snapshot.isEmpty()) {
+            snapshots.remove(playerId);
+        } else {
+            snapshots.put(playerId, snapshot.toBytes());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.sirius.game.persistence;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.sirius.game.common.PlayerIds;
+import com.sirius.game.metrics.GameMetrics;
+import com.sirius.game.proto.SCReceiveMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 离线消息写入独立的SegmentedJournal，每条消息一条事件，取出时写空快照清空。
+ * 过期与每人上限由日志的保留时长和maxEventsPerId完成，超期的分段整段删除
+ */
+@Slf4j
+public class JournalOfflineInbox implements OfflineInbox {
+
+    private static final LongAdder STORED = GameMetrics.counter("inbox.stored");
+    private static final LongAdder DELIVERED = GameMetrics.counter("inbox.delivered");
+    private static final LongAdder REJECTED = GameMetrics.counter("inbox.rejected");
+
+    private final SegmentedJournal journal;
+
+    public JournalOfflineInbox(SegmentedJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public boolean store(String playerId, SCReceiveMessage message) {
+        if (!PlayerIds.isValid(playerId)) {
+            REJECTED.increment();
+            log.warn("Offline inbox rejected message {} for invalid player id {}", message.getMessageId(), playerId);
+            return false;
+        }
+        CompletableFuture<Void> future = journal.append(SegmentedJournal.EVENT, playerId, message.toByteArray());
+        if (future.isCompletedExceptionally()) {
+            // 日志已关闭或写盘积压，告诉发送者接收者不在线
+            log.warn("Offline inbox rejected message {} for player {}", message.getMessageId(), playerId);
+            return false;
+        }
+        STORED.increment();
+        future.whenComplete((result, failure) -> {
+            if (failure != null) {
+                log.error("Failed to store offline message {} for player {}", message.getMessageId(), playerId, failure);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public CompletionStage<List<SCReceiveMessage>> take(String playerId) {
+        return journal.take(playerId).thenApply(entries -> {
+            List<SCReceiveMessage> messages = new ArrayList<>(entries.events().size());
+            for (byte[] event : entries.events()) {
+                try {
+                    messages.add(SCReceiveMessage.parseFrom(event));
+                } catch (InvalidProtocolBufferException e) {
+                    log.error("Skipping corrupted offline message of player {}", playerId, e);
+                }
+            }
+            DELIVERED.add(messages.size());
+            return messages;
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.sirius.game.persistence;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class JournalOptions {
+
+    /**
+     * 写线程的名称，同一进程中有多个日志时用于区分
+     */
+    private String threadName = "journal";
+
+    /**
+     * 分段文件大小，单条记录不能超过该值
+     */
+    private int segmentSize = 64 * 1024 * 1024;
+
+    /**
+     * 组提交：收到第一条记录后继续等待同一批记录的时长（微秒），0表示只合并已在队列中的记录
+     */
+    private long flushIntervalMicros = 1000;
+
+    /**
+     * 一次fsync最多包含的请求数
+     */
+    private int maxBatch = 1024;
+
+    /**
+     * 记录保留时长（毫秒），最后写入时间早于该时长的分段整段删除；0表示不按时间删除
+     */
+    private long retentionMillis;
+
+    /**
+     * 每个ID在最新快照之后最多保留的事件数，超过后丢弃最早的事件
+     */
+    private int maxEventsPerId = Integer.MAX_VALUE;
+
+    /**
+     * 等待写线程处理的请求上限，超过后新请求直接失败
+     */
+    private int maxPendingRequests = 65536;
+}
@@ -0,0 +1,52 @@
+package com.sirius.game.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 基于本地SegmentedJournal的事件溯源存储：每个变更写一条事件，定期写快照，恢复时从最新快照开始重放
+ */
+@Slf4j
+public class JournalPlayerStateStore implements PlayerStateStore {
+
+    private final SegmentedJournal journal;
+
+    public JournalPlayerStateStore(SegmentedJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public CompletionStage<PlayerSnapshot> recover(String playerId) {
+        return journal.read(playerId).thenApply(entries -> {
+            Set<String> channels = new LinkedHashSet<>();
+            if (entries.snapshot() != null) {
+                channels.addAll(PlayerSnapshot.fromBytes(entries.snapshot()).channels());
+            }
+            for (byte[] event : entries.events()) {
+                PlayerEvent.fromBytes(event).applyTo(channels);
+            }
+            return channels.isEmpty() ? PlayerSnapshot.EMPTY : new PlayerSnapshot(channels);
+        });
+    }
+
+    @Override
+    public void persist(String playerId, PlayerEvent event) {
+        journal.append(SegmentedJournal.EVENT, playerId, event.toBytes()).whenComplete((result, failure) -> {
+            if (failure != null) {
+                log.error("Failed to persist event {} of player {}", event, playerId, failure);
+            }
+        });
+    }
+
+    @Override
+    public void snapshot(String playerId, PlayerSnapshot snapshot) {
+        journal.append(SegmentedJournal.SNAPSHOT, playerId, snapshot.toBytes()).whenComplete((result, failure) -> {
+            if (failure != null) {
+                log.error("Failed to save snapshot of player {}", playerId, failure);
+            }
+        });
+    }
+}
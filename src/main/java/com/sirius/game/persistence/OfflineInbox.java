@@ -0,0 +1,40 @@
+package com.sirius.game.persistence;
+
+import com.sirius.game.proto.SCReceiveMessage;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 接收者不在线时暂存私聊，登录后一次取出
+ */
+public interface OfflineInbox {
+
+    /**
+     * 未开启离线信箱，消息直接按接收者不在线处理
+     */
+    OfflineInbox DISABLED = new OfflineInbox() {
+        @Override
+        public boolean store(String playerId, SCReceiveMessage message) {
+            return false;
+        }
+
+        @Override
+        public CompletionStage<List<SCReceiveMessage>> take(String playerId) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+    };
+
+    /**
+     * 不阻塞调用线程，写入在后台批量完成
+     *
+     * @return 未开启离线信箱或写入被拒绝时返回false
+     */
+    boolean store(String playerId, SCReceiveMessage message);
+
+    /**
+     * 按存入顺序取出并清空该玩家的离线消息，清空标记落盘后完成
+     */
+    CompletionStage<List<SCReceiveMessage>> take(String playerId);
+}
@@ -0,0 +1,61 @@
+package com.sirius.game.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+/**
+ * 玩家状态的变更事件，按发生顺序写入日志
+ */
+public sealed interface PlayerEvent {
+
+    record ChannelJoined(String channel) implements PlayerEvent {
+    }
+
+    record ChannelLeft(String channel) implements PlayerEvent {
+    }
+
+    /**
+     * 把事件应用到正在恢复的状态上
+     */
+    default void applyTo(Set<String> channels) {
+        if (this instanceof ChannelJoined joined) {
+            channels.add(joined.channel());
+        } else if (this instanceof ChannelLeft left) {
+            channels.remove(left.channel());
+        }
+    }
+
+    default byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            if (this instanceof ChannelJoined joined) {
+                output.writeByte(1);
+                output.writeUTF(joined.channel());
+            } else if (this instanceof ChannelLeft left) {
+                output.writeByte(2);
+                output.writeUTF(left.channel());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static PlayerEvent fromBytes(byte[] data) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+            int type = input.readUnsignedByte();
+            return switch (type) {
+                case 1 -> new ChannelJoined(input.readUTF());
+                case 2 -> new ChannelLeft(input.readUTF());
+                default -> throw new IOException("Unknown player event type: " + type);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
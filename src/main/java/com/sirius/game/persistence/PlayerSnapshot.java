@@ -0,0 +1,51 @@
+package com.sirius.game.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 玩家状态快照，加上其后的PlayerEvent即为完整状态
+ */
+public record PlayerSnapshot(Set<String> channels) {
+
+    public static final PlayerSnapshot EMPTY = new PlayerSnapshot(Set.of());
+
+    public boolean isEmpty() {
+        return channels.isEmpty();
+    }
+
+    /**
+     * 按紧凑的二进制格式编码，常驻内存的只有这份字节数组
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeShort(channels.size());
+            for (String channel : channels) {
+                output.writeUTF(channel);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static PlayerSnapshot fromBytes(byte[] data) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+            int count = input.readUnsignedShort();
+            Set<String> channels = new LinkedHashSet<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                channels.add(input.readUTF());
+            }
+            return new PlayerSnapshot(channels);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sirius.game.persistence;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 玩家状态的持久化。所有方法都不阻塞调用线程，写入在后台批量完成
+ */
+public interface PlayerStateStore {
+
+    /**
+     * 读取最新快照并重放其后的事件，没有记录时返回PlayerSnapshot.EMPTY
+     */
+    CompletionStage<PlayerSnapshot> recover(String playerId);
+
+    void persist(String playerId, PlayerEvent event);
+
+    /**
+     * 写入快照，之前的事件不再参与恢复；空快照表示删除该玩家的记录
+     */
+    void snapshot(String playerId, PlayerSnapshot snapshot);
+}
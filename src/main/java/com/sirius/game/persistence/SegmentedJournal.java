@@ -0,0 +1,512 @@
+package com.sirius.game.persistence;
+
+import com.sirius.game.metrics.GameMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 本地追加写日志，按固定大小分段并整段内存映射。
+ * 所有读写都由一个后台线程完成：调用方只是入队，写线程把一批记录写入映射内存后只对新写入的范围做一次force()（组提交），
+ * 再统一完成这一批的future。请求队列有上限，写盘跟不上时新请求直接失败，不阻塞调用方。
+ * <p>
+ * 记录格式：int 记录体长度 | int 记录体CRC32C | byte 类型 | short ID长度 | ID | 内容。
+ * 内存中只为每个ID保留最新快照和其后事件的位置，恢复时只读这些记录；没有任何位置引用的旧分段直接删除，
+ * 配置了保留时长时超期的分段也整段删除。
+ */
+@Slf4j
+public class SegmentedJournal implements Closeable {
+
+    public static final byte EVENT = 1;
+    public static final byte SNAPSHOT = 2;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int BODY_PREFIX_SIZE = 3;
+    private static final String SUFFIX = ".journal";
+
+    private static final LongAdder APPENDS = GameMetrics.counter("journal.appends");
+    private static final LongAdder FSYNCS = GameMetrics.counter("journal.fsyncs");
+    private static final LongAdder REJECTED = GameMetrics.counter("journal.rejected");
+    private static final LongAdder DELETED_SEGMENTS = GameMetrics.counter("journal.segments.deleted");
+    private static final LongAdder TRIMMED_EVENTS = GameMetrics.counter("journal.events.trimmed");
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * 某个ID最新的快照（没有时为null）及其后的事件
+     */
+    public record Entries(byte[] snapshot, List<byte[]> events) {
+    }
+
+    private sealed interface Request permits Append, Read, Take {
+    }
+
+    private record Append(byte kind, String persistenceId, byte[] payload,
+                          CompletableFuture<Void> future) implements Request {
+    }
+
+    private record Read(String persistenceId, CompletableFuture<Entries> future) implements Request {
+    }
+
+    private record Take(String persistenceId, CompletableFuture<Entries> future) implements Request {
+    }
+
+    /**
+     * 落盘后才能交给调用方的结果
+     */
+    private record Completion<T>(CompletableFuture<T> future, T value) {
+
+        private void complete() {
+            future.complete(value);
+        }
+
+        private void fail(Throwable failure) {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int position;
+        // 已经force过的位置，之前的内容都已落盘
+        private int flushed;
+        // 索引中指向本分段的记录数
+        private int live;
+        private long firstWrite;
+        private long lastWrite;
+
+        private Segment(long id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class IndexEntry {
+        private long snapshot = -1;
+        private long[] events = new long[4];
+        private int count;
+
+        private void add(long position) {
+            if (count == events.length) {
+                events = Arrays.copyOf(events, count * 2);
+            }
+            events[count++] = position;
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalNanos;
+    private final int maxBatch;
+    private final long retentionMillis;
+    private final int maxEventsPerId;
+    private final BlockingQueue<Request> requests;
+    private final Thread writer;
+    // 入队与关闭互斥：关闭之后不会再有请求入队，写线程退出前能处理完所有已入队的请求
+    private final ReadWriteLock state = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    // 以下字段只由写线程访问，构造期间的恢复在写线程启动之前完成
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private final Map<String, IndexEntry> index = new HashMap<>();
+    private final CRC32C crc = new CRC32C();
+    private Segment current;
+    private long nextSweep;
+
+    public SegmentedJournal(Path directory, JournalOptions options) throws IOException {
+        this.directory = directory;
+        this.segmentSize = options.getSegmentSize();
+        this.flushIntervalNanos = TimeUnit.MICROSECONDS.toNanos(options.getFlushIntervalMicros());
+        this.maxBatch = options.getMaxBatch();
+        this.retentionMillis = options.getRetentionMillis();
+        this.maxEventsPerId = options.getMaxEventsPerId();
+        this.requests = new LinkedBlockingQueue<>(options.getMaxPendingRequests());
+        Files.createDirectories(directory);
+        recover();
+
+        this.writer = new Thread(this::run, options.getThreadName());
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 可在任意线程调用，不阻塞；返回的future在记录落盘后完成。日志已关闭或请求队列已满时返回已失败的future
+     */
+    public CompletableFuture<Void> append(byte kind, String persistenceId, byte[] payload) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        return submit(new Append(kind, persistenceId, payload, future), future);
+    }
+
+    /**
+     * 可在任意线程调用，不阻塞；能读到之前已入队但尚未落盘的记录
+     */
+    public CompletableFuture<Entries> read(String persistenceId) {
+        CompletableFuture<Entries> future = new CompletableFuture<>();
+        return submit(new Read(persistenceId, future), future);
+    }
+
+    /**
+     * 读出并清空该ID的记录，读与清空之间不会插入其他记录。返回的future在清空标记落盘后完成
+     */
+    public CompletableFuture<Entries> take(String persistenceId) {
+        CompletableFuture<Entries> future = new CompletableFuture<>();
+        return submit(new Take(persistenceId, future), future);
+    }
+
+    private <T> CompletableFuture<T> submit(Request request, CompletableFuture<T> future) {
+        Lock lock = state.readLock();
+        lock.lock();
+        try {
+            if (!running) {
+                future.completeExceptionally(new IllegalStateException("Journal is closed"));
+            } else if (!requests.offer(request)) {
+                REJECTED.increment();
+                future.completeExceptionally(new RejectedExecutionException("Journal request queue is full"));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    /**
+     * 写完已入队的记录后停止写线程，之后的请求直接失败
+     */
+    @Override
+    public void close() {
+        Lock lock = state.writeLock();
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(maxBatch);
+        List<Completion<?>> completions = new ArrayList<>(maxBatch);
+        Set<Segment> dirty = new HashSet<>();
+        while (running || !requests.isEmpty()) {
+            try {
+                Request first = requests.poll(100, TimeUnit.MILLISECONDS);
+                if (retentionMillis > 0 && System.currentTimeMillis() >= nextSweep) {
+                    sweep();
+                }
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    Request next = remaining > 0 ? requests.poll(remaining, TimeUnit.NANOSECONDS) : requests.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                for (Request request : batch) {
+                    if (request instanceof Append append) {
+                        try {
+                            write(append.kind(), append.persistenceId(), append.payload(), dirty);
+                            completions.add(new Completion<>(append.future(), null));
+                        } catch (IOException | RuntimeException e) {
+                            append.future().completeExceptionally(e);
+                        }
+                    } else if (request instanceof Read read) {
+                        read.future().complete(entries(read.persistenceId()));
+                    } else if (request instanceof Take take) {
+                        try {
+                            Entries entries = entries(take.persistenceId());
+                            if (!entries.events().isEmpty()) {
+                                write(SNAPSHOT, take.persistenceId(), EMPTY, dirty);
+                            }
+                            completions.add(new Completion<>(take.future(), entries));
+                        } catch (IOException | RuntimeException e) {
+                            take.future().completeExceptionally(e);
+                        }
+                    }
+                }
+                // 一批只fsync一次，只刷上次force之后写入的范围
+                for (Segment segment : dirty) {
+                    segment.buffer.force(segment.flushed, segment.position - segment.flushed);
+                    segment.flushed = segment.position;
+                    FSYNCS.increment();
+                }
+                APPENDS.add(completions.size());
+                completions.forEach(Completion::complete);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to flush journal batch", e);
+                completions.forEach(completion -> completion.fail(e));
+            } finally {
+                batch.clear();
+                completions.clear();
+                dirty.clear();
+            }
+        }
+    }
+
+    private void write(byte kind, String persistenceId, byte[] payload, Set<Segment> dirty) throws IOException {
+        byte[] id = persistenceId.getBytes(StandardCharsets.UTF_8);
+        int bodySize = BODY_PREFIX_SIZE + id.length + payload.length;
+        if (id.length > 0xFFFF || HEADER_SIZE + bodySize > segmentSize) {
+            throw new IllegalArgumentException("Journal record too large: " + (HEADER_SIZE + bodySize) + " bytes");
+        }
+        if (current.position + HEADER_SIZE + bodySize > segmentSize) {
+            roll();
+        }
+
+        MappedByteBuffer buffer = current.buffer;
+        int offset = current.position;
+        int body = offset + HEADER_SIZE;
+        buffer.put(body, kind);
+        buffer.putShort(body + 1, (short) id.length);
+        buffer.put(body + BODY_PREFIX_SIZE, id);
+        buffer.put(body + BODY_PREFIX_SIZE + id.length, payload);
+        crc.reset();
+        crc.update(buffer.slice(body, bodySize));
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        // 长度最后写入，写到一半的记录长度为0，恢复时在此处停止
+        buffer.putInt(offset, bodySize);
+
+        current.position = body + bodySize;
+        current.lastWrite = System.currentTimeMillis();
+        if (current.firstWrite == 0) {
+            current.firstWrite = current.lastWrite;
+        }
+        dirty.add(current);
+        index(persistenceId, kind, position(current.id, offset));
+    }
+
+    private void index(String persistenceId, byte kind, long position) {
+        IndexEntry entry = index.computeIfAbsent(persistenceId, k -> new IndexEntry());
+        if (kind == SNAPSHOT) {
+            // 空快照也保留引用，避免删除该分段后旧分段中的事件在恢复时重新生效
+            release(entry.snapshot);
+            for (int i = 0; i < entry.count; i++) {
+                release(entry.events[i]);
+            }
+            entry.snapshot = position;
+            entry.count = 0;
+        } else {
+            if (entry.count >= maxEventsPerId) {
+                release(entry.events[0]);
+                System.arraycopy(entry.events, 1, entry.events, 0, --entry.count);
+                TRIMMED_EVENTS.increment();
+            }
+            entry.add(position);
+        }
+        segments.get(segmentId(position)).live++;
+    }
+
+    private void release(long position) {
+        if (position < 0) {
+            return;
+        }
+        Segment segment = segments.get(segmentId(position));
+        if (segment != null && --segment.live == 0 && segment != current) {
+            delete(segment);
+        }
+    }
+
+    private Entries entries(String persistenceId) {
+        IndexEntry entry = index.get(persistenceId);
+        if (entry == null) {
+            return new Entries(null, List.of());
+        }
+        List<byte[]> events = new ArrayList<>(entry.count);
+        for (int i = 0; i < entry.count; i++) {
+            events.add(payload(entry.events[i]));
+        }
+        return new Entries(entry.snapshot >= 0 ? payload(entry.snapshot) : null, events);
+    }
+
+    private byte[] payload(long position) {
+        MappedByteBuffer buffer = segments.get(segmentId(position)).buffer;
+        int body = (int) position + HEADER_SIZE;
+        int bodySize = buffer.getInt((int) position);
+        int idLength = buffer.getShort(body + 1) & 0xFFFF;
+        byte[] payload = new byte[bodySize - BODY_PREFIX_SIZE - idLength];
+        buffer.get(body + BODY_PREFIX_SIZE + idLength, payload);
+        return payload;
+    }
+
+    private void recover() throws IOException {
+        List<Long> ids;
+        try (Stream<Path> files = Files.list(directory)) {
+            ids = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+        for (long id : ids) {
+            Segment segment = open(id);
+            segments.put(id, segment);
+            current = segment;
+            scan(segment);
+            segment.lastWrite = Files.getLastModifiedTime(segment.path).toMillis();
+            segment.firstWrite = segment.position > 0 ? segment.lastWrite : 0;
+        }
+        if (current == null) {
+            roll();
+        }
+        for (Segment segment : List.copyOf(segments.values())) {
+            if (segment.live == 0 && segment != current) {
+                delete(segment);
+            }
+        }
+        if (retentionMillis > 0) {
+            sweep();
+        }
+        log.info("Journal recovered {} entries from {} segments in {}", index.size(), segments.size(), directory);
+    }
+
+    private void scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + HEADER_SIZE <= segmentSize) {
+            int bodySize = buffer.getInt(offset);
+            if (bodySize < BODY_PREFIX_SIZE || offset + HEADER_SIZE + bodySize > segmentSize) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(offset + HEADER_SIZE, bodySize));
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                break;
+            }
+            int body = offset + HEADER_SIZE;
+            byte[] id = new byte[buffer.getShort(body + 1) & 0xFFFF];
+            buffer.get(body + BODY_PREFIX_SIZE, id);
+            index(new String(id, StandardCharsets.UTF_8), buffer.get(body), position(segment.id, offset));
+            offset = body + bodySize;
+        }
+        segment.position = offset;
+        segment.flushed = offset;
+        if (offset + HEADER_SIZE <= segmentSize && buffer.getInt(offset) != 0) {
+            // 上次宕机时写到一半的记录，清零后从这里继续写
+            byte[] zeros = new byte[4096];
+            for (int i = offset; i < segmentSize; i += zeros.length) {
+                buffer.put(i, zeros, 0, Math.min(zeros.length, segmentSize - i));
+            }
+            buffer.force(offset, segmentSize - offset);
+            log.warn("Truncated torn journal record at {}:{}", segment.path, offset);
+        }
+    }
+
+    /**
+     * 删除超过保留时长的分段，并从索引中去掉指向这些分段的位置。分段按写入顺序编号，删除的总是最早的一批
+     */
+    private void sweep() throws IOException {
+        long now = System.currentTimeMillis();
+        nextSweep = now + Math.max(1000, retentionMillis / 4);
+        if (current.firstWrite > 0 && now - current.firstWrite >= retentionMillis / 4) {
+            // 当前分段也要定期滚动，否则其中的记录永远不会过期
+            roll();
+        }
+        boolean deleted = false;
+        for (Segment segment : List.copyOf(segments.values())) {
+            if (segment != current && now - segment.lastWrite >= retentionMillis) {
+                delete(segment);
+                deleted = true;
+            }
+        }
+        if (deleted) {
+            index.values().removeIf(this::dropDeleted);
+        }
+    }
+
+    /**
+     * @return 条目已没有任何记录
+     */
+    private boolean dropDeleted(IndexEntry entry) {
+        if (entry.snapshot >= 0 && !segments.containsKey(segmentId(entry.snapshot))) {
+            entry.snapshot = -1;
+        }
+        int kept = 0;
+        for (int i = 0; i < entry.count; i++) {
+            if (segments.containsKey(segmentId(entry.events[i]))) {
+                entry.events[kept++] = entry.events[i];
+            }
+        }
+        entry.count = kept;
+        return entry.snapshot < 0 && entry.count == 0;
+    }
+
+    private void roll() throws IOException {
+        Segment previous = current;
+        long id = previous == null ? 0 : previous.id + 1;
+        current = open(id);
+        segments.put(id, current);
+        if (previous != null && previous.live == 0) {
+            delete(previous);
+        }
+    }
+
+    private Segment open(long id) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", id, SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 映射在通道关闭后仍然有效
+            return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+    }
+
+    private void delete(Segment segment) {
+        segments.remove(segment.id);
+        try {
+            // 映射在GC回收缓冲区时解除，Linux下删除已映射的文件是安全的
+            Files.deleteIfExists(segment.path);
+            DELETED_SEGMENTS.increment();
+        } catch (IOException e) {
+            log.warn("Failed to delete journal segment {}", segment.path, e);
+        }
+    }
+
+    private static long position(long segmentId, int offset) {
+        return segmentId << 32 | offset;
+    }
+
+    private static long segmentId(long position) {
+        return position >>> 32;
+    }
+}
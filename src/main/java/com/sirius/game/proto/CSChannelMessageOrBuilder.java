@@ -0,0 +1,60 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+public interface CSChannelMessageOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.sirius.game.proto.CSChannelMessage)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 频道ID
+   * </pre>
+   *
+   * <code>string channel = 1;</code>
+   * @return The channel.
+   */
+  java.lang.String getChannel();
+  /**
+   * <pre>
+   * 频道ID
+   * </pre>
+   *
+   * <code>string channel = 1;</code>
+   * @return The bytes for channel.
+   */
+  com.google.protobuf.ByteString
+      getChannelBytes();
+
+  /**
+   * <pre>
+   * 消息内容
+   * </pre>
+   *
+   * <code>string content = 2;</code>
+   * @return The content.
+   */
+  java.lang.String getContent();
+  /**
+   * <pre>
+   * 消息内容
+   * </pre>
+   *
+   * <code>string content = 2;</code>
+   * @return The bytes for content.
+   */
+  com.google.protobuf.ByteString
+      getContentBytes();
+
+  /**
+   * <pre>
+   * 时间戳
+   * </pre>
+   *
+   * <code>int64 timestamp = 3;</code>
+   * @return The timestamp.
+   */
+  long getTimestamp();
+}
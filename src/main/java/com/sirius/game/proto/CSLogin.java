@@ -23,6 +23,7 @@ private static final long serialVersionUID = 0L;
   private CSLogin() {
     username_ = "";
     password_ = "";
+    resumeToken_ = "";
   }
 
   @java.lang.Override
@@ -154,6 +155,68 @@ private static final long serialVersionUID = 0L;
     return timestamp_;
   }
 
+  public static final int RESUME_TOKEN_FIELD_NUMBER = 4;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object resumeToken_ = "";
+  /**
+   * <pre>
+   * 断线重连时填写上次登录返回的session_token
+   * </pre>
+   *
+   * <code>string resume_token = 4;</code>
+   * @return The resumeToken.
+   */
+  @java.lang.Override
+  public java.lang.String getResumeToken() {
+    java.lang.Object ref = resumeToken_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      resumeToken_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * 断线重连时填写上次登录返回的session_token
+   * </pre>
+   *
+   * <code>string resume_token = 4;</code>
+   * @return The bytes for resumeToken.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getResumeTokenBytes() {
+    java.lang.Object ref = resumeToken_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      resumeToken_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int LAST_SEQ_FIELD_NUMBER = 5;
+  private long lastSeq_ = 0L;
+  /**
+   * <pre>
+   * 断线前收到的最后一条消息的seq
+   * </pre>
+   *
+   * <code>uint64 last_seq = 5;</code>
+   * @return The lastSeq.
+   */
+  @java.lang.Override
+  public long getLastSeq() {
+    return lastSeq_;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -177,6 +240,12 @@ private static final long serialVersionUID = 0L;
     if (timestamp_ != 0L) {
       output.writeInt64(3, timestamp_);
     }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(resumeToken_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, resumeToken_);
+    }
+    if (lastSeq_ != 0L) {
+      output.writeUInt64(5, lastSeq_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -196,6 +265,13 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt64Size(3, timestamp_);
     }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(resumeToken_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, resumeToken_);
+    }
+    if (lastSeq_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(5, lastSeq_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -217,6 +293,10 @@ private static final long serialVersionUID = 0L;
         .equals(other.getPassword())) return false;
     if (getTimestamp()
         != other.getTimestamp()) return false;
+    if (!getResumeToken()
+        .equals(other.getResumeToken())) return false;
+    if (getLastSeq()
+        != other.getLastSeq()) return false;
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -235,6 +315,11 @@ private static final long serialVersionUID = 0L;
     hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
     hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
         getTimestamp());
+    hash = (37 * hash) + RESUME_TOKEN_FIELD_NUMBER;
+    hash = (53 * hash) + getResumeToken().hashCode();
+    hash = (37 * hash) + LAST_SEQ_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getLastSeq());
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -373,6 +458,8 @@ private static final long serialVersionUID = 0L;
       username_ = "";
       password_ = "";
       timestamp_ = 0L;
+      resumeToken_ = "";
+      lastSeq_ = 0L;
       return this;
     }
 
@@ -415,6 +502,12 @@ private static final long serialVersionUID = 0L;
       if (((from_bitField0_ & 0x00000004) != 0)) {
         result.timestamp_ = timestamp_;
       }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.resumeToken_ = resumeToken_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.lastSeq_ = lastSeq_;
+      }
     }
 
     @java.lang.Override
@@ -474,6 +567,14 @@ private static final long serialVersionUID = 0L;
       if (other.getTimestamp() != 0L) {
         setTimestamp(other.getTimestamp());
       }
+      if (!other.getResumeToken().isEmpty()) {
+        resumeToken_ = other.resumeToken_;
+        bitField0_ |= 0x00000008;
+        onChanged();
+      }
+      if (other.getLastSeq() != 0L) {
+        setLastSeq(other.getLastSeq());
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -515,6 +616,16 @@ private static final long serialVersionUID = 0L;
               bitField0_ |= 0x00000004;
               break;
             } // case 24
+            case 34: {
+              resumeToken_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 34
+            case 40: {
+              lastSeq_ = input.readUInt64();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 40
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -759,6 +870,142 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private java.lang.Object resumeToken_ = "";
+    /**
+     * <pre>
+     * 断线重连时填写上次登录返回的session_token
+     * </pre>
+     *
+     * <code>string resume_token = 4;</code>
+     * @return The resumeToken.
+     */
+    public java.lang.String getResumeToken() {
+      java.lang.Object ref = resumeToken_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        resumeToken_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 断线重连时填写上次登录返回的session_token
+     * </pre>
+     *
+     * <code>string resume_token = 4;</code>
+     * @return The bytes for resumeToken.
+     */
+    public com.google.protobuf.ByteString
+        getResumeTokenBytes() {
+      java.lang.Object ref = resumeToken_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        resumeToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 断线重连时填写上次登录返回的session_token
+     * </pre>
+     *
+     * <code>string resume_token = 4;</code>
+     * @param value The resumeToken to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResumeToken(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      resumeToken_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 断线重连时填写上次登录返回的session_token
+     * </pre>
+     *
+     * <code>string resume_token = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResumeToken() {
+      resumeToken_ = getDefaultInstance().getResumeToken();
+      bitField0_ = (bitField0_ & ~0x00000008);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 断线重连时填写上次登录返回的session_token
+     * </pre>
+     *
+     * <code>string resume_token = 4;</code>
+     * @param value The bytes for resumeToken to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResumeTokenBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      resumeToken_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+
+    private long lastSeq_ ;
+    /**
+     * <pre>
+     * 断线前收到的最后一条消息的seq
+     * </pre>
+     *
+     * <code>uint64 last_seq = 5;</code>
+     * @return The lastSeq.
+     */
+    @java.lang.Override
+    public long getLastSeq() {
+      return lastSeq_;
+    }
+    /**
+     * <pre>
+     * 断线前收到的最后一条消息的seq
+     * </pre>
+     *
+     * <code>uint64 last_seq = 5;</code>
+     * @param value The lastSeq to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLastSeq(long value) {
+
+      lastSeq_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 断线前收到的最后一条消息的seq
+     * </pre>
+     *
+     * <code>uint64 last_seq = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLastSeq() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      lastSeq_ = 0L;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
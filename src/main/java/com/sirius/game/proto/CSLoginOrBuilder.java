@@ -57,4 +57,34 @@ public interface CSLoginOrBuilder extends
    * @return The timestamp.
    */
   long getTimestamp();
+
+  /**
+   * <pre>
+   * 断线重连时填写上次登录返回的session_token
+   * </pre>
+   *
+   * <code>string resume_token = 4;</code>
+   * @return The resumeToken.
+   */
+  java.lang.String getResumeToken();
+  /**
+   * <pre>
+   * 断线重连时填写上次登录返回的session_token
+   * </pre>
+   *
+   * <code>string resume_token = 4;</code>
+   * @return The bytes for resumeToken.
+   */
+  com.google.protobuf.ByteString
+      getResumeTokenBytes();
+
+  /**
+   * <pre>
+   * 断线前收到的最后一条消息的seq
+   * </pre>
+   *
+   * <code>uint64 last_seq = 5;</code>
+   * @return The lastSeq.
+   */
+  long getLastSeq();
 }
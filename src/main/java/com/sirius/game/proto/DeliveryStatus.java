@@ -0,0 +1,194 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+/**
+ * <pre>
+ * 消息投递状态
+ * </pre>
+ *
+ * Protobuf enum {@code com.sirius.game.proto.DeliveryStatus}
+ */
+public enum DeliveryStatus
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>DELIVERY_UNKNOWN = 0;</code>
+   */
+  DELIVERY_UNKNOWN(0),
+  /**
+   * <pre>
+   * 已写入接收者连接
+   * </pre>
+   *
+   * <code>DELIVERED = 1;</code>
+   */
+  DELIVERED(1),
+  /**
+   * <pre>
+   * 接收者不在线
+   * </pre>
+   *
+   * <code>RECIPIENT_OFFLINE = 2;</code>
+   */
+  RECIPIENT_OFFLINE(2),
+  /**
+   * <pre>
+   * 接收者连接积压，消息被丢弃
+   * </pre>
+   *
+   * <code>DROPPED = 3;</code>
+   */
+  DROPPED(3),
+  /**
+   * <pre>
+   * 接收者ID无效（为空、过长或含控制字符）或是发送者自己，消息未投递
+   * </pre>
+   *
+   * <code>INVALID_RECIPIENT = 4;</code>
+   */
+  INVALID_RECIPIENT(4),
+  /**
+   * <pre>
+   * 接收者不在线，已存入离线信箱，登录后下发
+   * </pre>
+   *
+   * <code>STORED_OFFLINE = 5;</code>
+   */
+  STORED_OFFLINE(5),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>DELIVERY_UNKNOWN = 0;</code>
+   */
+  public static final int DELIVERY_UNKNOWN_VALUE = 0;
+  /**
+   * <pre>
+   * 已写入接收者连接
+   * </pre>
+   *
+   * <code>DELIVERED = 1;</code>
+   */
+  public static final int DELIVERED_VALUE = 1;
+  /**
+   * <pre>
+   * 接收者不在线
+   * </pre>
+   *
+   * <code>RECIPIENT_OFFLINE = 2;</code>
+   */
+  public static final int RECIPIENT_OFFLINE_VALUE = 2;
+  /**
+   * <pre>
+   * 接收者连接积压，消息被丢弃
+   * </pre>
+   *
+   * <code>DROPPED = 3;</code>
+   */
+  public static final int DROPPED_VALUE = 3;
+  /**
+   * <pre>
+   * 接收者ID无效（为空、过长或含控制字符）或是发送者自己，消息未投递
+   * </pre>
+   *
+   * <code>INVALID_RECIPIENT = 4;</code>
+   */
+  public static final int INVALID_RECIPIENT_VALUE = 4;
+  /**
+   * <pre>
+   * 接收者不在线，已存入离线信箱，登录后下发
+   * </pre>
+   *
+   * <code>STORED_OFFLINE = 5;</code>
+   */
+  public static final int STORED_OFFLINE_VALUE = 5;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static DeliveryStatus valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static DeliveryStatus forNumber(int value) {
+    switch (value) {
+      case 0: return DELIVERY_UNKNOWN;
+      case 1: return DELIVERED;
+      case 2: return RECIPIENT_OFFLINE;
+      case 3: return DROPPED;
+      case 4: return INVALID_RECIPIENT;
+      case 5: return STORED_OFFLINE;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<DeliveryStatus>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      DeliveryStatus> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<DeliveryStatus>() {
+          public DeliveryStatus findValueByNumber(int number) {
+            return DeliveryStatus.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.sirius.game.proto.GameProtos.getDescriptor().getEnumTypes().get(1);
+  }
+
+  private static final DeliveryStatus[] VALUES = values();
+
+  public static DeliveryStatus valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private DeliveryStatus(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:com.sirius.game.proto.DeliveryStatus)
+}
+
@@ -54,6 +54,14 @@ private static final long serialVersionUID = 0L;
     SC_LOGIN_RESULT(1002),
     CS_SEND_MESSAGE(2001),
     SC_RECEIVE_MESSAGE(2002),
+    SC_SEND_MESSAGE_RESULT(2003),
+    SC_OFFLINE_MESSAGES(2004),
+    CS_JOIN_CHANNEL(3001),
+    SC_JOIN_CHANNEL_RESULT(3002),
+    CS_LEAVE_CHANNEL(3003),
+    SC_LEAVE_CHANNEL_RESULT(3004),
+    CS_CHANNEL_MESSAGE(3005),
+    SC_CHANNEL_MESSAGE(3006),
     PAYLOAD_NOT_SET(0);
     private final int value;
     private PayloadCase(int value) {
@@ -75,6 +83,14 @@ private static final long serialVersionUID = 0L;
         case 1002: return SC_LOGIN_RESULT;
         case 2001: return CS_SEND_MESSAGE;
         case 2002: return SC_RECEIVE_MESSAGE;
+        case 2003: return SC_SEND_MESSAGE_RESULT;
+        case 2004: return SC_OFFLINE_MESSAGES;
+        case 3001: return CS_JOIN_CHANNEL;
+        case 3002: return SC_JOIN_CHANNEL_RESULT;
+        case 3003: return CS_LEAVE_CHANNEL;
+        case 3004: return SC_LEAVE_CHANNEL_RESULT;
+        case 3005: return CS_CHANNEL_MESSAGE;
+        case 3006: return SC_CHANNEL_MESSAGE;
         case 0: return PAYLOAD_NOT_SET;
         default: return null;
       }
@@ -116,6 +132,21 @@ private static final long serialVersionUID = 0L;
     return result == null ? com.sirius.game.proto.MessageType.UNRECOGNIZED : result;
   }
 
+  public static final int SEQ_FIELD_NUMBER = 2;
+  private long seq_ = 0L;
+  /**
+   * <pre>
+   * 服务端下行消息的序号，登录后从1开始连续递增，断线重连时用于补发
+   * </pre>
+   *
+   * <code>uint64 seq = 2;</code>
+   * @return The seq.
+   */
+  @java.lang.Override
+  public long getSeq() {
+    return seq_;
+  }
+
   public static final int CS_LOGIN_FIELD_NUMBER = 1001;
   /**
    * <code>.com.sirius.game.proto.CSLogin cs_login = 1001;</code>
@@ -240,6 +271,266 @@ private static final long serialVersionUID = 0L;
     return com.sirius.game.proto.SCReceiveMessage.getDefaultInstance();
   }
 
+  public static final int SC_SEND_MESSAGE_RESULT_FIELD_NUMBER = 2003;
+  /**
+   * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+   * @return Whether the scSendMessageResult field is set.
+   */
+  @java.lang.Override
+  public boolean hasScSendMessageResult() {
+    return payloadCase_ == 2003;
+  }
+  /**
+   * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+   * @return The scSendMessageResult.
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCSendMessageResult getScSendMessageResult() {
+    if (payloadCase_ == 2003) {
+       return (com.sirius.game.proto.SCSendMessageResult) payload_;
+    }
+    return com.sirius.game.proto.SCSendMessageResult.getDefaultInstance();
+  }
+  /**
+   * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCSendMessageResultOrBuilder getScSendMessageResultOrBuilder() {
+    if (payloadCase_ == 2003) {
+       return (com.sirius.game.proto.SCSendMessageResult) payload_;
+    }
+    return com.sirius.game.proto.SCSendMessageResult.getDefaultInstance();
+  }
+
+  public static final int SC_OFFLINE_MESSAGES_FIELD_NUMBER = 2004;
+  /**
+   * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+   * @return Whether the scOfflineMessages field is set.
+   */
+  @java.lang.Override
+  public boolean hasScOfflineMessages() {
+    return payloadCase_ == 2004;
+  }
+  /**
+   * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+   * @return The scOfflineMessages.
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCOfflineMessages getScOfflineMessages() {
+    if (payloadCase_ == 2004) {
+       return (com.sirius.game.proto.SCOfflineMessages) payload_;
+    }
+    return com.sirius.game.proto.SCOfflineMessages.getDefaultInstance();
+  }
+  /**
+   * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCOfflineMessagesOrBuilder getScOfflineMessagesOrBuilder() {
+    if (payloadCase_ == 2004) {
+       return (com.sirius.game.proto.SCOfflineMessages) payload_;
+    }
+    return com.sirius.game.proto.SCOfflineMessages.getDefaultInstance();
+  }
+
+  public static final int CS_JOIN_CHANNEL_FIELD_NUMBER = 3001;
+  /**
+   * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+   * @return Whether the csJoinChannel field is set.
+   */
+  @java.lang.Override
+  public boolean hasCsJoinChannel() {
+    return payloadCase_ == 3001;
+  }
+  /**
+   * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+   * @return The csJoinChannel.
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.CSJoinChannel getCsJoinChannel() {
+    if (payloadCase_ == 3001) {
+       return (com.sirius.game.proto.CSJoinChannel) payload_;
+    }
+    return com.sirius.game.proto.CSJoinChannel.getDefaultInstance();
+  }
+  /**
+   * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.CSJoinChannelOrBuilder getCsJoinChannelOrBuilder() {
+    if (payloadCase_ == 3001) {
+       return (com.sirius.game.proto.CSJoinChannel) payload_;
+    }
+    return com.sirius.game.proto.CSJoinChannel.getDefaultInstance();
+  }
+
+  public static final int SC_JOIN_CHANNEL_RESULT_FIELD_NUMBER = 3002;
+  /**
+   * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+   * @return Whether the scJoinChannelResult field is set.
+   */
+  @java.lang.Override
+  public boolean hasScJoinChannelResult() {
+    return payloadCase_ == 3002;
+  }
+  /**
+   * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+   * @return The scJoinChannelResult.
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCJoinChannelResult getScJoinChannelResult() {
+    if (payloadCase_ == 3002) {
+       return (com.sirius.game.proto.SCJoinChannelResult) payload_;
+    }
+    return com.sirius.game.proto.SCJoinChannelResult.getDefaultInstance();
+  }
+  /**
+   * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCJoinChannelResultOrBuilder getScJoinChannelResultOrBuilder() {
+    if (payloadCase_ == 3002) {
+       return (com.sirius.game.proto.SCJoinChannelResult) payload_;
+    }
+    return com.sirius.game.proto.SCJoinChannelResult.getDefaultInstance();
+  }
+
+  public static final int CS_LEAVE_CHANNEL_FIELD_NUMBER = 3003;
+  /**
+   * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+   * @return Whether the csLeaveChannel field is set.
+   */
+  @java.lang.Override
+  public boolean hasCsLeaveChannel() {
+    return payloadCase_ == 3003;
+  }
+  /**
+   * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+   * @return The csLeaveChannel.
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.CSLeaveChannel getCsLeaveChannel() {
+    if (payloadCase_ == 3003) {
+       return (com.sirius.game.proto.CSLeaveChannel) payload_;
+    }
+    return com.sirius.game.proto.CSLeaveChannel.getDefaultInstance();
+  }
+  /**
+   * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.CSLeaveChannelOrBuilder getCsLeaveChannelOrBuilder() {
+    if (payloadCase_ == 3003) {
+       return (com.sirius.game.proto.CSLeaveChannel) payload_;
+    }
+    return com.sirius.game.proto.CSLeaveChannel.getDefaultInstance();
+  }
+
+  public static final int SC_LEAVE_CHANNEL_RESULT_FIELD_NUMBER = 3004;
+  /**
+   * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+   * @return Whether the scLeaveChannelResult field is set.
+   */
+  @java.lang.Override
+  public boolean hasScLeaveChannelResult() {
+    return payloadCase_ == 3004;
+  }
+  /**
+   * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+   * @return The scLeaveChannelResult.
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCLeaveChannelResult getScLeaveChannelResult() {
+    if (payloadCase_ == 3004) {
+       return (com.sirius.game.proto.SCLeaveChannelResult) payload_;
+    }
+    return com.sirius.game.proto.SCLeaveChannelResult.getDefaultInstance();
+  }
+  /**
+   * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCLeaveChannelResultOrBuilder getScLeaveChannelResultOrBuilder() {
+    if (payloadCase_ == 3004) {
+       return (com.sirius.game.proto.SCLeaveChannelResult) payload_;
+    }
+    return com.sirius.game.proto.SCLeaveChannelResult.getDefaultInstance();
+  }
+
+  public static final int CS_CHANNEL_MESSAGE_FIELD_NUMBER = 3005;
+  /**
+   * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+   * @return Whether the csChannelMessage field is set.
+   */
+  @java.lang.Override
+  public boolean hasCsChannelMessage() {
+    return payloadCase_ == 3005;
+  }
+  /**
+   * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+   * @return The csChannelMessage.
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.CSChannelMessage getCsChannelMessage() {
+    if (payloadCase_ == 3005) {
+       return (com.sirius.game.proto.CSChannelMessage) payload_;
+    }
+    return com.sirius.game.proto.CSChannelMessage.getDefaultInstance();
+  }
+  /**
+   * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.CSChannelMessageOrBuilder getCsChannelMessageOrBuilder() {
+    if (payloadCase_ == 3005) {
+       return (com.sirius.game.proto.CSChannelMessage) payload_;
+    }
+    return com.sirius.game.proto.CSChannelMessage.getDefaultInstance();
+  }
+
+  public static final int SC_CHANNEL_MESSAGE_FIELD_NUMBER = 3006;
+  /**
+   * <pre>
+   * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+   * @return Whether the scChannelMessage field is set.
+   */
+  @java.lang.Override
+  public boolean hasScChannelMessage() {
+    return payloadCase_ == 3006;
+  }
+  /**
+   * <pre>
+   * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+   * @return The scChannelMessage.
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCReceiveMessage getScChannelMessage() {
+    if (payloadCase_ == 3006) {
+       return (com.sirius.game.proto.SCReceiveMessage) payload_;
+    }
+    return com.sirius.game.proto.SCReceiveMessage.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.SCReceiveMessageOrBuilder getScChannelMessageOrBuilder() {
+    if (payloadCase_ == 3006) {
+       return (com.sirius.game.proto.SCReceiveMessage) payload_;
+    }
+    return com.sirius.game.proto.SCReceiveMessage.getDefaultInstance();
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -257,6 +548,9 @@ private static final long serialVersionUID = 0L;
     if (type_ != com.sirius.game.proto.MessageType.UNKNOWN.getNumber()) {
       output.writeEnum(1, type_);
     }
+    if (seq_ != 0L) {
+      output.writeUInt64(2, seq_);
+    }
     if (payloadCase_ == 1001) {
       output.writeMessage(1001, (com.sirius.game.proto.CSLogin) payload_);
     }
@@ -269,6 +563,30 @@ private static final long serialVersionUID = 0L;
     if (payloadCase_ == 2002) {
       output.writeMessage(2002, (com.sirius.game.proto.SCReceiveMessage) payload_);
     }
+    if (payloadCase_ == 2003) {
+      output.writeMessage(2003, (com.sirius.game.proto.SCSendMessageResult) payload_);
+    }
+    if (payloadCase_ == 2004) {
+      output.writeMessage(2004, (com.sirius.game.proto.SCOfflineMessages) payload_);
+    }
+    if (payloadCase_ == 3001) {
+      output.writeMessage(3001, (com.sirius.game.proto.CSJoinChannel) payload_);
+    }
+    if (payloadCase_ == 3002) {
+      output.writeMessage(3002, (com.sirius.game.proto.SCJoinChannelResult) payload_);
+    }
+    if (payloadCase_ == 3003) {
+      output.writeMessage(3003, (com.sirius.game.proto.CSLeaveChannel) payload_);
+    }
+    if (payloadCase_ == 3004) {
+      output.writeMessage(3004, (com.sirius.game.proto.SCLeaveChannelResult) payload_);
+    }
+    if (payloadCase_ == 3005) {
+      output.writeMessage(3005, (com.sirius.game.proto.CSChannelMessage) payload_);
+    }
+    if (payloadCase_ == 3006) {
+      output.writeMessage(3006, (com.sirius.game.proto.SCReceiveMessage) payload_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -282,6 +600,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeEnumSize(1, type_);
     }
+    if (seq_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(2, seq_);
+    }
     if (payloadCase_ == 1001) {
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(1001, (com.sirius.game.proto.CSLogin) payload_);
@@ -298,6 +620,38 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(2002, (com.sirius.game.proto.SCReceiveMessage) payload_);
     }
+    if (payloadCase_ == 2003) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2003, (com.sirius.game.proto.SCSendMessageResult) payload_);
+    }
+    if (payloadCase_ == 2004) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2004, (com.sirius.game.proto.SCOfflineMessages) payload_);
+    }
+    if (payloadCase_ == 3001) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3001, (com.sirius.game.proto.CSJoinChannel) payload_);
+    }
+    if (payloadCase_ == 3002) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3002, (com.sirius.game.proto.SCJoinChannelResult) payload_);
+    }
+    if (payloadCase_ == 3003) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3003, (com.sirius.game.proto.CSLeaveChannel) payload_);
+    }
+    if (payloadCase_ == 3004) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3004, (com.sirius.game.proto.SCLeaveChannelResult) payload_);
+    }
+    if (payloadCase_ == 3005) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3005, (com.sirius.game.proto.CSChannelMessage) payload_);
+    }
+    if (payloadCase_ == 3006) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3006, (com.sirius.game.proto.SCReceiveMessage) payload_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -314,6 +668,8 @@ private static final long serialVersionUID = 0L;
     com.sirius.game.proto.GameMessage other = (com.sirius.game.proto.GameMessage) obj;
 
     if (type_ != other.type_) return false;
+    if (getSeq()
+        != other.getSeq()) return false;
     if (!getPayloadCase().equals(other.getPayloadCase())) return false;
     switch (payloadCase_) {
       case 1001:
@@ -332,6 +688,38 @@ private static final long serialVersionUID = 0L;
         if (!getScReceiveMessage()
             .equals(other.getScReceiveMessage())) return false;
         break;
+      case 2003:
+        if (!getScSendMessageResult()
+            .equals(other.getScSendMessageResult())) return false;
+        break;
+      case 2004:
+        if (!getScOfflineMessages()
+            .equals(other.getScOfflineMessages())) return false;
+        break;
+      case 3001:
+        if (!getCsJoinChannel()
+            .equals(other.getCsJoinChannel())) return false;
+        break;
+      case 3002:
+        if (!getScJoinChannelResult()
+            .equals(other.getScJoinChannelResult())) return false;
+        break;
+      case 3003:
+        if (!getCsLeaveChannel()
+            .equals(other.getCsLeaveChannel())) return false;
+        break;
+      case 3004:
+        if (!getScLeaveChannelResult()
+            .equals(other.getScLeaveChannelResult())) return false;
+        break;
+      case 3005:
+        if (!getCsChannelMessage()
+            .equals(other.getCsChannelMessage())) return false;
+        break;
+      case 3006:
+        if (!getScChannelMessage()
+            .equals(other.getScChannelMessage())) return false;
+        break;
       case 0:
       default:
     }
@@ -348,6 +736,9 @@ private static final long serialVersionUID = 0L;
     hash = (19 * hash) + getDescriptor().hashCode();
     hash = (37 * hash) + TYPE_FIELD_NUMBER;
     hash = (53 * hash) + type_;
+    hash = (37 * hash) + SEQ_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSeq());
     switch (payloadCase_) {
       case 1001:
         hash = (37 * hash) + CS_LOGIN_FIELD_NUMBER;
@@ -365,6 +756,38 @@ private static final long serialVersionUID = 0L;
         hash = (37 * hash) + SC_RECEIVE_MESSAGE_FIELD_NUMBER;
         hash = (53 * hash) + getScReceiveMessage().hashCode();
         break;
+      case 2003:
+        hash = (37 * hash) + SC_SEND_MESSAGE_RESULT_FIELD_NUMBER;
+        hash = (53 * hash) + getScSendMessageResult().hashCode();
+        break;
+      case 2004:
+        hash = (37 * hash) + SC_OFFLINE_MESSAGES_FIELD_NUMBER;
+        hash = (53 * hash) + getScOfflineMessages().hashCode();
+        break;
+      case 3001:
+        hash = (37 * hash) + CS_JOIN_CHANNEL_FIELD_NUMBER;
+        hash = (53 * hash) + getCsJoinChannel().hashCode();
+        break;
+      case 3002:
+        hash = (37 * hash) + SC_JOIN_CHANNEL_RESULT_FIELD_NUMBER;
+        hash = (53 * hash) + getScJoinChannelResult().hashCode();
+        break;
+      case 3003:
+        hash = (37 * hash) + CS_LEAVE_CHANNEL_FIELD_NUMBER;
+        hash = (53 * hash) + getCsLeaveChannel().hashCode();
+        break;
+      case 3004:
+        hash = (37 * hash) + SC_LEAVE_CHANNEL_RESULT_FIELD_NUMBER;
+        hash = (53 * hash) + getScLeaveChannelResult().hashCode();
+        break;
+      case 3005:
+        hash = (37 * hash) + CS_CHANNEL_MESSAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getCsChannelMessage().hashCode();
+        break;
+      case 3006:
+        hash = (37 * hash) + SC_CHANNEL_MESSAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getScChannelMessage().hashCode();
+        break;
       case 0:
       default:
     }
@@ -504,6 +927,7 @@ private static final long serialVersionUID = 0L;
       super.clear();
       bitField0_ = 0;
       type_ = 0;
+      seq_ = 0L;
       if (csLoginBuilder_ != null) {
         csLoginBuilder_.clear();
       }
@@ -516,6 +940,30 @@ private static final long serialVersionUID = 0L;
       if (scReceiveMessageBuilder_ != null) {
         scReceiveMessageBuilder_.clear();
       }
+      if (scSendMessageResultBuilder_ != null) {
+        scSendMessageResultBuilder_.clear();
+      }
+      if (scOfflineMessagesBuilder_ != null) {
+        scOfflineMessagesBuilder_.clear();
+      }
+      if (csJoinChannelBuilder_ != null) {
+        csJoinChannelBuilder_.clear();
+      }
+      if (scJoinChannelResultBuilder_ != null) {
+        scJoinChannelResultBuilder_.clear();
+      }
+      if (csLeaveChannelBuilder_ != null) {
+        csLeaveChannelBuilder_.clear();
+      }
+      if (scLeaveChannelResultBuilder_ != null) {
+        scLeaveChannelResultBuilder_.clear();
+      }
+      if (csChannelMessageBuilder_ != null) {
+        csChannelMessageBuilder_.clear();
+      }
+      if (scChannelMessageBuilder_ != null) {
+        scChannelMessageBuilder_.clear();
+      }
       payloadCase_ = 0;
       payload_ = null;
       return this;
@@ -555,6 +1003,9 @@ private static final long serialVersionUID = 0L;
       if (((from_bitField0_ & 0x00000001) != 0)) {
         result.type_ = type_;
       }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.seq_ = seq_;
+      }
     }
 
     private void buildPartialOneofs(com.sirius.game.proto.GameMessage result) {
@@ -576,6 +1027,38 @@ private static final long serialVersionUID = 0L;
           scReceiveMessageBuilder_ != null) {
         result.payload_ = scReceiveMessageBuilder_.build();
       }
+      if (payloadCase_ == 2003 &&
+          scSendMessageResultBuilder_ != null) {
+        result.payload_ = scSendMessageResultBuilder_.build();
+      }
+      if (payloadCase_ == 2004 &&
+          scOfflineMessagesBuilder_ != null) {
+        result.payload_ = scOfflineMessagesBuilder_.build();
+      }
+      if (payloadCase_ == 3001 &&
+          csJoinChannelBuilder_ != null) {
+        result.payload_ = csJoinChannelBuilder_.build();
+      }
+      if (payloadCase_ == 3002 &&
+          scJoinChannelResultBuilder_ != null) {
+        result.payload_ = scJoinChannelResultBuilder_.build();
+      }
+      if (payloadCase_ == 3003 &&
+          csLeaveChannelBuilder_ != null) {
+        result.payload_ = csLeaveChannelBuilder_.build();
+      }
+      if (payloadCase_ == 3004 &&
+          scLeaveChannelResultBuilder_ != null) {
+        result.payload_ = scLeaveChannelResultBuilder_.build();
+      }
+      if (payloadCase_ == 3005 &&
+          csChannelMessageBuilder_ != null) {
+        result.payload_ = csChannelMessageBuilder_.build();
+      }
+      if (payloadCase_ == 3006 &&
+          scChannelMessageBuilder_ != null) {
+        result.payload_ = scChannelMessageBuilder_.build();
+      }
     }
 
     @java.lang.Override
@@ -625,6 +1108,9 @@ private static final long serialVersionUID = 0L;
       if (other.type_ != 0) {
         setTypeValue(other.getTypeValue());
       }
+      if (other.getSeq() != 0L) {
+        setSeq(other.getSeq());
+      }
       switch (other.getPayloadCase()) {
         case CS_LOGIN: {
           mergeCsLogin(other.getCsLogin());
@@ -642,6 +1128,38 @@ private static final long serialVersionUID = 0L;
           mergeScReceiveMessage(other.getScReceiveMessage());
           break;
         }
+        case SC_SEND_MESSAGE_RESULT: {
+          mergeScSendMessageResult(other.getScSendMessageResult());
+          break;
+        }
+        case SC_OFFLINE_MESSAGES: {
+          mergeScOfflineMessages(other.getScOfflineMessages());
+          break;
+        }
+        case CS_JOIN_CHANNEL: {
+          mergeCsJoinChannel(other.getCsJoinChannel());
+          break;
+        }
+        case SC_JOIN_CHANNEL_RESULT: {
+          mergeScJoinChannelResult(other.getScJoinChannelResult());
+          break;
+        }
+        case CS_LEAVE_CHANNEL: {
+          mergeCsLeaveChannel(other.getCsLeaveChannel());
+          break;
+        }
+        case SC_LEAVE_CHANNEL_RESULT: {
+          mergeScLeaveChannelResult(other.getScLeaveChannelResult());
+          break;
+        }
+        case CS_CHANNEL_MESSAGE: {
+          mergeCsChannelMessage(other.getCsChannelMessage());
+          break;
+        }
+        case SC_CHANNEL_MESSAGE: {
+          mergeScChannelMessage(other.getScChannelMessage());
+          break;
+        }
         case PAYLOAD_NOT_SET: {
           break;
         }
@@ -677,6 +1195,11 @@ private static final long serialVersionUID = 0L;
               bitField0_ |= 0x00000001;
               break;
             } // case 8
+            case 16: {
+              seq_ = input.readUInt64();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
             case 8010: {
               input.readMessage(
                   getCsLoginFieldBuilder().getBuilder(),
@@ -705,6 +1228,62 @@ private static final long serialVersionUID = 0L;
               payloadCase_ = 2002;
               break;
             } // case 16018
+            case 16026: {
+              input.readMessage(
+                  getScSendMessageResultFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 2003;
+              break;
+            } // case 16026
+            case 16034: {
+              input.readMessage(
+                  getScOfflineMessagesFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 2004;
+              break;
+            } // case 16034
+            case 24010: {
+              input.readMessage(
+                  getCsJoinChannelFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 3001;
+              break;
+            } // case 24010
+            case 24018: {
+              input.readMessage(
+                  getScJoinChannelResultFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 3002;
+              break;
+            } // case 24018
+            case 24026: {
+              input.readMessage(
+                  getCsLeaveChannelFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 3003;
+              break;
+            } // case 24026
+            case 24034: {
+              input.readMessage(
+                  getScLeaveChannelResultFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 3004;
+              break;
+            } // case 24034
+            case 24042: {
+              input.readMessage(
+                  getCsChannelMessageFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 3005;
+              break;
+            } // case 24042
+            case 24050: {
+              input.readMessage(
+                  getScChannelMessageFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              payloadCase_ = 3006;
+              break;
+            } // case 24050
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -810,21 +1389,65 @@ private static final long serialVersionUID = 0L;
       return this;
     }
 
-    private com.google.protobuf.SingleFieldBuilderV3<
-        com.sirius.game.proto.CSLogin, com.sirius.game.proto.CSLogin.Builder, com.sirius.game.proto.CSLoginOrBuilder> csLoginBuilder_;
+    private long seq_ ;
     /**
-     * <code>.com.sirius.game.proto.CSLogin cs_login = 1001;</code>
-     * @return Whether the csLogin field is set.
+     * <pre>
+     * 服务端下行消息的序号，登录后从1开始连续递增，断线重连时用于补发
+     * </pre>
+     *
+     * <code>uint64 seq = 2;</code>
+     * @return The seq.
      */
     @java.lang.Override
-    public boolean hasCsLogin() {
-      return payloadCase_ == 1001;
+    public long getSeq() {
+      return seq_;
     }
     /**
-     * <code>.com.sirius.game.proto.CSLogin cs_login = 1001;</code>
-     * @return The csLogin.
-     */
-    @java.lang.Override
+     * <pre>
+     * 服务端下行消息的序号，登录后从1开始连续递增，断线重连时用于补发
+     * </pre>
+     *
+     * <code>uint64 seq = 2;</code>
+     * @param value The seq to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSeq(long value) {
+
+      seq_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 服务端下行消息的序号，登录后从1开始连续递增，断线重连时用于补发
+     * </pre>
+     *
+     * <code>uint64 seq = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSeq() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      seq_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.CSLogin, com.sirius.game.proto.CSLogin.Builder, com.sirius.game.proto.CSLoginOrBuilder> csLoginBuilder_;
+    /**
+     * <code>.com.sirius.game.proto.CSLogin cs_login = 1001;</code>
+     * @return Whether the csLogin field is set.
+     */
+    @java.lang.Override
+    public boolean hasCsLogin() {
+      return payloadCase_ == 1001;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLogin cs_login = 1001;</code>
+     * @return The csLogin.
+     */
+    @java.lang.Override
     public com.sirius.game.proto.CSLogin getCsLogin() {
       if (csLoginBuilder_ == null) {
         if (payloadCase_ == 1001) {
@@ -1377,6 +2000,1178 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return scReceiveMessageBuilder_;
     }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCSendMessageResult, com.sirius.game.proto.SCSendMessageResult.Builder, com.sirius.game.proto.SCSendMessageResultOrBuilder> scSendMessageResultBuilder_;
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     * @return Whether the scSendMessageResult field is set.
+     */
+    @java.lang.Override
+    public boolean hasScSendMessageResult() {
+      return payloadCase_ == 2003;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     * @return The scSendMessageResult.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCSendMessageResult getScSendMessageResult() {
+      if (scSendMessageResultBuilder_ == null) {
+        if (payloadCase_ == 2003) {
+          return (com.sirius.game.proto.SCSendMessageResult) payload_;
+        }
+        return com.sirius.game.proto.SCSendMessageResult.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 2003) {
+          return scSendMessageResultBuilder_.getMessage();
+        }
+        return com.sirius.game.proto.SCSendMessageResult.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     */
+    public Builder setScSendMessageResult(com.sirius.game.proto.SCSendMessageResult value) {
+      if (scSendMessageResultBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        scSendMessageResultBuilder_.setMessage(value);
+      }
+      payloadCase_ = 2003;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     */
+    public Builder setScSendMessageResult(
+        com.sirius.game.proto.SCSendMessageResult.Builder builderForValue) {
+      if (scSendMessageResultBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        scSendMessageResultBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 2003;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     */
+    public Builder mergeScSendMessageResult(com.sirius.game.proto.SCSendMessageResult value) {
+      if (scSendMessageResultBuilder_ == null) {
+        if (payloadCase_ == 2003 &&
+            payload_ != com.sirius.game.proto.SCSendMessageResult.getDefaultInstance()) {
+          payload_ = com.sirius.game.proto.SCSendMessageResult.newBuilder((com.sirius.game.proto.SCSendMessageResult) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 2003) {
+          scSendMessageResultBuilder_.mergeFrom(value);
+        } else {
+          scSendMessageResultBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 2003;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     */
+    public Builder clearScSendMessageResult() {
+      if (scSendMessageResultBuilder_ == null) {
+        if (payloadCase_ == 2003) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 2003) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        scSendMessageResultBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     */
+    public com.sirius.game.proto.SCSendMessageResult.Builder getScSendMessageResultBuilder() {
+      return getScSendMessageResultFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCSendMessageResultOrBuilder getScSendMessageResultOrBuilder() {
+      if ((payloadCase_ == 2003) && (scSendMessageResultBuilder_ != null)) {
+        return scSendMessageResultBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 2003) {
+          return (com.sirius.game.proto.SCSendMessageResult) payload_;
+        }
+        return com.sirius.game.proto.SCSendMessageResult.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCSendMessageResult, com.sirius.game.proto.SCSendMessageResult.Builder, com.sirius.game.proto.SCSendMessageResultOrBuilder> 
+        getScSendMessageResultFieldBuilder() {
+      if (scSendMessageResultBuilder_ == null) {
+        if (!(payloadCase_ == 2003)) {
+          payload_ = com.sirius.game.proto.SCSendMessageResult.getDefaultInstance();
+        }
+        scSendMessageResultBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.sirius.game.proto.SCSendMessageResult, com.sirius.game.proto.SCSendMessageResult.Builder, com.sirius.game.proto.SCSendMessageResultOrBuilder>(
+                (com.sirius.game.proto.SCSendMessageResult) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 2003;
+      onChanged();
+      return scSendMessageResultBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCOfflineMessages, com.sirius.game.proto.SCOfflineMessages.Builder, com.sirius.game.proto.SCOfflineMessagesOrBuilder> scOfflineMessagesBuilder_;
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     * @return Whether the scOfflineMessages field is set.
+     */
+    @java.lang.Override
+    public boolean hasScOfflineMessages() {
+      return payloadCase_ == 2004;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     * @return The scOfflineMessages.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCOfflineMessages getScOfflineMessages() {
+      if (scOfflineMessagesBuilder_ == null) {
+        if (payloadCase_ == 2004) {
+          return (com.sirius.game.proto.SCOfflineMessages) payload_;
+        }
+        return com.sirius.game.proto.SCOfflineMessages.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 2004) {
+          return scOfflineMessagesBuilder_.getMessage();
+        }
+        return com.sirius.game.proto.SCOfflineMessages.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     */
+    public Builder setScOfflineMessages(com.sirius.game.proto.SCOfflineMessages value) {
+      if (scOfflineMessagesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        scOfflineMessagesBuilder_.setMessage(value);
+      }
+      payloadCase_ = 2004;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     */
+    public Builder setScOfflineMessages(
+        com.sirius.game.proto.SCOfflineMessages.Builder builderForValue) {
+      if (scOfflineMessagesBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        scOfflineMessagesBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 2004;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     */
+    public Builder mergeScOfflineMessages(com.sirius.game.proto.SCOfflineMessages value) {
+      if (scOfflineMessagesBuilder_ == null) {
+        if (payloadCase_ == 2004 &&
+            payload_ != com.sirius.game.proto.SCOfflineMessages.getDefaultInstance()) {
+          payload_ = com.sirius.game.proto.SCOfflineMessages.newBuilder((com.sirius.game.proto.SCOfflineMessages) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 2004) {
+          scOfflineMessagesBuilder_.mergeFrom(value);
+        } else {
+          scOfflineMessagesBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 2004;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     */
+    public Builder clearScOfflineMessages() {
+      if (scOfflineMessagesBuilder_ == null) {
+        if (payloadCase_ == 2004) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 2004) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        scOfflineMessagesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     */
+    public com.sirius.game.proto.SCOfflineMessages.Builder getScOfflineMessagesBuilder() {
+      return getScOfflineMessagesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCOfflineMessagesOrBuilder getScOfflineMessagesOrBuilder() {
+      if ((payloadCase_ == 2004) && (scOfflineMessagesBuilder_ != null)) {
+        return scOfflineMessagesBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 2004) {
+          return (com.sirius.game.proto.SCOfflineMessages) payload_;
+        }
+        return com.sirius.game.proto.SCOfflineMessages.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCOfflineMessages, com.sirius.game.proto.SCOfflineMessages.Builder, com.sirius.game.proto.SCOfflineMessagesOrBuilder> 
+        getScOfflineMessagesFieldBuilder() {
+      if (scOfflineMessagesBuilder_ == null) {
+        if (!(payloadCase_ == 2004)) {
+          payload_ = com.sirius.game.proto.SCOfflineMessages.getDefaultInstance();
+        }
+        scOfflineMessagesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.sirius.game.proto.SCOfflineMessages, com.sirius.game.proto.SCOfflineMessages.Builder, com.sirius.game.proto.SCOfflineMessagesOrBuilder>(
+                (com.sirius.game.proto.SCOfflineMessages) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 2004;
+      onChanged();
+      return scOfflineMessagesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.CSJoinChannel, com.sirius.game.proto.CSJoinChannel.Builder, com.sirius.game.proto.CSJoinChannelOrBuilder> csJoinChannelBuilder_;
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     * @return Whether the csJoinChannel field is set.
+     */
+    @java.lang.Override
+    public boolean hasCsJoinChannel() {
+      return payloadCase_ == 3001;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     * @return The csJoinChannel.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.CSJoinChannel getCsJoinChannel() {
+      if (csJoinChannelBuilder_ == null) {
+        if (payloadCase_ == 3001) {
+          return (com.sirius.game.proto.CSJoinChannel) payload_;
+        }
+        return com.sirius.game.proto.CSJoinChannel.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 3001) {
+          return csJoinChannelBuilder_.getMessage();
+        }
+        return com.sirius.game.proto.CSJoinChannel.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     */
+    public Builder setCsJoinChannel(com.sirius.game.proto.CSJoinChannel value) {
+      if (csJoinChannelBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        csJoinChannelBuilder_.setMessage(value);
+      }
+      payloadCase_ = 3001;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     */
+    public Builder setCsJoinChannel(
+        com.sirius.game.proto.CSJoinChannel.Builder builderForValue) {
+      if (csJoinChannelBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        csJoinChannelBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 3001;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     */
+    public Builder mergeCsJoinChannel(com.sirius.game.proto.CSJoinChannel value) {
+      if (csJoinChannelBuilder_ == null) {
+        if (payloadCase_ == 3001 &&
+            payload_ != com.sirius.game.proto.CSJoinChannel.getDefaultInstance()) {
+          payload_ = com.sirius.game.proto.CSJoinChannel.newBuilder((com.sirius.game.proto.CSJoinChannel) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 3001) {
+          csJoinChannelBuilder_.mergeFrom(value);
+        } else {
+          csJoinChannelBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 3001;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     */
+    public Builder clearCsJoinChannel() {
+      if (csJoinChannelBuilder_ == null) {
+        if (payloadCase_ == 3001) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 3001) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        csJoinChannelBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     */
+    public com.sirius.game.proto.CSJoinChannel.Builder getCsJoinChannelBuilder() {
+      return getCsJoinChannelFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.CSJoinChannelOrBuilder getCsJoinChannelOrBuilder() {
+      if ((payloadCase_ == 3001) && (csJoinChannelBuilder_ != null)) {
+        return csJoinChannelBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 3001) {
+          return (com.sirius.game.proto.CSJoinChannel) payload_;
+        }
+        return com.sirius.game.proto.CSJoinChannel.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.CSJoinChannel, com.sirius.game.proto.CSJoinChannel.Builder, com.sirius.game.proto.CSJoinChannelOrBuilder> 
+        getCsJoinChannelFieldBuilder() {
+      if (csJoinChannelBuilder_ == null) {
+        if (!(payloadCase_ == 3001)) {
+          payload_ = com.sirius.game.proto.CSJoinChannel.getDefaultInstance();
+        }
+        csJoinChannelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.sirius.game.proto.CSJoinChannel, com.sirius.game.proto.CSJoinChannel.Builder, com.sirius.game.proto.CSJoinChannelOrBuilder>(
+                (com.sirius.game.proto.CSJoinChannel) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 3001;
+      onChanged();
+      return csJoinChannelBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCJoinChannelResult, com.sirius.game.proto.SCJoinChannelResult.Builder, com.sirius.game.proto.SCJoinChannelResultOrBuilder> scJoinChannelResultBuilder_;
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     * @return Whether the scJoinChannelResult field is set.
+     */
+    @java.lang.Override
+    public boolean hasScJoinChannelResult() {
+      return payloadCase_ == 3002;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     * @return The scJoinChannelResult.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCJoinChannelResult getScJoinChannelResult() {
+      if (scJoinChannelResultBuilder_ == null) {
+        if (payloadCase_ == 3002) {
+          return (com.sirius.game.proto.SCJoinChannelResult) payload_;
+        }
+        return com.sirius.game.proto.SCJoinChannelResult.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 3002) {
+          return scJoinChannelResultBuilder_.getMessage();
+        }
+        return com.sirius.game.proto.SCJoinChannelResult.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     */
+    public Builder setScJoinChannelResult(com.sirius.game.proto.SCJoinChannelResult value) {
+      if (scJoinChannelResultBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        scJoinChannelResultBuilder_.setMessage(value);
+      }
+      payloadCase_ = 3002;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     */
+    public Builder setScJoinChannelResult(
+        com.sirius.game.proto.SCJoinChannelResult.Builder builderForValue) {
+      if (scJoinChannelResultBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        scJoinChannelResultBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 3002;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     */
+    public Builder mergeScJoinChannelResult(com.sirius.game.proto.SCJoinChannelResult value) {
+      if (scJoinChannelResultBuilder_ == null) {
+        if (payloadCase_ == 3002 &&
+            payload_ != com.sirius.game.proto.SCJoinChannelResult.getDefaultInstance()) {
+          payload_ = com.sirius.game.proto.SCJoinChannelResult.newBuilder((com.sirius.game.proto.SCJoinChannelResult) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 3002) {
+          scJoinChannelResultBuilder_.mergeFrom(value);
+        } else {
+          scJoinChannelResultBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 3002;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     */
+    public Builder clearScJoinChannelResult() {
+      if (scJoinChannelResultBuilder_ == null) {
+        if (payloadCase_ == 3002) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 3002) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        scJoinChannelResultBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     */
+    public com.sirius.game.proto.SCJoinChannelResult.Builder getScJoinChannelResultBuilder() {
+      return getScJoinChannelResultFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCJoinChannelResultOrBuilder getScJoinChannelResultOrBuilder() {
+      if ((payloadCase_ == 3002) && (scJoinChannelResultBuilder_ != null)) {
+        return scJoinChannelResultBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 3002) {
+          return (com.sirius.game.proto.SCJoinChannelResult) payload_;
+        }
+        return com.sirius.game.proto.SCJoinChannelResult.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCJoinChannelResult, com.sirius.game.proto.SCJoinChannelResult.Builder, com.sirius.game.proto.SCJoinChannelResultOrBuilder> 
+        getScJoinChannelResultFieldBuilder() {
+      if (scJoinChannelResultBuilder_ == null) {
+        if (!(payloadCase_ == 3002)) {
+          payload_ = com.sirius.game.proto.SCJoinChannelResult.getDefaultInstance();
+        }
+        scJoinChannelResultBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.sirius.game.proto.SCJoinChannelResult, com.sirius.game.proto.SCJoinChannelResult.Builder, com.sirius.game.proto.SCJoinChannelResultOrBuilder>(
+                (com.sirius.game.proto.SCJoinChannelResult) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 3002;
+      onChanged();
+      return scJoinChannelResultBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.CSLeaveChannel, com.sirius.game.proto.CSLeaveChannel.Builder, com.sirius.game.proto.CSLeaveChannelOrBuilder> csLeaveChannelBuilder_;
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     * @return Whether the csLeaveChannel field is set.
+     */
+    @java.lang.Override
+    public boolean hasCsLeaveChannel() {
+      return payloadCase_ == 3003;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     * @return The csLeaveChannel.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.CSLeaveChannel getCsLeaveChannel() {
+      if (csLeaveChannelBuilder_ == null) {
+        if (payloadCase_ == 3003) {
+          return (com.sirius.game.proto.CSLeaveChannel) payload_;
+        }
+        return com.sirius.game.proto.CSLeaveChannel.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 3003) {
+          return csLeaveChannelBuilder_.getMessage();
+        }
+        return com.sirius.game.proto.CSLeaveChannel.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     */
+    public Builder setCsLeaveChannel(com.sirius.game.proto.CSLeaveChannel value) {
+      if (csLeaveChannelBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        csLeaveChannelBuilder_.setMessage(value);
+      }
+      payloadCase_ = 3003;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     */
+    public Builder setCsLeaveChannel(
+        com.sirius.game.proto.CSLeaveChannel.Builder builderForValue) {
+      if (csLeaveChannelBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        csLeaveChannelBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 3003;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     */
+    public Builder mergeCsLeaveChannel(com.sirius.game.proto.CSLeaveChannel value) {
+      if (csLeaveChannelBuilder_ == null) {
+        if (payloadCase_ == 3003 &&
+            payload_ != com.sirius.game.proto.CSLeaveChannel.getDefaultInstance()) {
+          payload_ = com.sirius.game.proto.CSLeaveChannel.newBuilder((com.sirius.game.proto.CSLeaveChannel) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 3003) {
+          csLeaveChannelBuilder_.mergeFrom(value);
+        } else {
+          csLeaveChannelBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 3003;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     */
+    public Builder clearCsLeaveChannel() {
+      if (csLeaveChannelBuilder_ == null) {
+        if (payloadCase_ == 3003) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 3003) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        csLeaveChannelBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     */
+    public com.sirius.game.proto.CSLeaveChannel.Builder getCsLeaveChannelBuilder() {
+      return getCsLeaveChannelFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.CSLeaveChannelOrBuilder getCsLeaveChannelOrBuilder() {
+      if ((payloadCase_ == 3003) && (csLeaveChannelBuilder_ != null)) {
+        return csLeaveChannelBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 3003) {
+          return (com.sirius.game.proto.CSLeaveChannel) payload_;
+        }
+        return com.sirius.game.proto.CSLeaveChannel.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.CSLeaveChannel, com.sirius.game.proto.CSLeaveChannel.Builder, com.sirius.game.proto.CSLeaveChannelOrBuilder> 
+        getCsLeaveChannelFieldBuilder() {
+      if (csLeaveChannelBuilder_ == null) {
+        if (!(payloadCase_ == 3003)) {
+          payload_ = com.sirius.game.proto.CSLeaveChannel.getDefaultInstance();
+        }
+        csLeaveChannelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.sirius.game.proto.CSLeaveChannel, com.sirius.game.proto.CSLeaveChannel.Builder, com.sirius.game.proto.CSLeaveChannelOrBuilder>(
+                (com.sirius.game.proto.CSLeaveChannel) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 3003;
+      onChanged();
+      return csLeaveChannelBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCLeaveChannelResult, com.sirius.game.proto.SCLeaveChannelResult.Builder, com.sirius.game.proto.SCLeaveChannelResultOrBuilder> scLeaveChannelResultBuilder_;
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     * @return Whether the scLeaveChannelResult field is set.
+     */
+    @java.lang.Override
+    public boolean hasScLeaveChannelResult() {
+      return payloadCase_ == 3004;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     * @return The scLeaveChannelResult.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCLeaveChannelResult getScLeaveChannelResult() {
+      if (scLeaveChannelResultBuilder_ == null) {
+        if (payloadCase_ == 3004) {
+          return (com.sirius.game.proto.SCLeaveChannelResult) payload_;
+        }
+        return com.sirius.game.proto.SCLeaveChannelResult.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 3004) {
+          return scLeaveChannelResultBuilder_.getMessage();
+        }
+        return com.sirius.game.proto.SCLeaveChannelResult.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     */
+    public Builder setScLeaveChannelResult(com.sirius.game.proto.SCLeaveChannelResult value) {
+      if (scLeaveChannelResultBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        scLeaveChannelResultBuilder_.setMessage(value);
+      }
+      payloadCase_ = 3004;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     */
+    public Builder setScLeaveChannelResult(
+        com.sirius.game.proto.SCLeaveChannelResult.Builder builderForValue) {
+      if (scLeaveChannelResultBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        scLeaveChannelResultBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 3004;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     */
+    public Builder mergeScLeaveChannelResult(com.sirius.game.proto.SCLeaveChannelResult value) {
+      if (scLeaveChannelResultBuilder_ == null) {
+        if (payloadCase_ == 3004 &&
+            payload_ != com.sirius.game.proto.SCLeaveChannelResult.getDefaultInstance()) {
+          payload_ = com.sirius.game.proto.SCLeaveChannelResult.newBuilder((com.sirius.game.proto.SCLeaveChannelResult) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 3004) {
+          scLeaveChannelResultBuilder_.mergeFrom(value);
+        } else {
+          scLeaveChannelResultBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 3004;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     */
+    public Builder clearScLeaveChannelResult() {
+      if (scLeaveChannelResultBuilder_ == null) {
+        if (payloadCase_ == 3004) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 3004) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        scLeaveChannelResultBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     */
+    public com.sirius.game.proto.SCLeaveChannelResult.Builder getScLeaveChannelResultBuilder() {
+      return getScLeaveChannelResultFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCLeaveChannelResultOrBuilder getScLeaveChannelResultOrBuilder() {
+      if ((payloadCase_ == 3004) && (scLeaveChannelResultBuilder_ != null)) {
+        return scLeaveChannelResultBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 3004) {
+          return (com.sirius.game.proto.SCLeaveChannelResult) payload_;
+        }
+        return com.sirius.game.proto.SCLeaveChannelResult.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCLeaveChannelResult, com.sirius.game.proto.SCLeaveChannelResult.Builder, com.sirius.game.proto.SCLeaveChannelResultOrBuilder> 
+        getScLeaveChannelResultFieldBuilder() {
+      if (scLeaveChannelResultBuilder_ == null) {
+        if (!(payloadCase_ == 3004)) {
+          payload_ = com.sirius.game.proto.SCLeaveChannelResult.getDefaultInstance();
+        }
+        scLeaveChannelResultBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.sirius.game.proto.SCLeaveChannelResult, com.sirius.game.proto.SCLeaveChannelResult.Builder, com.sirius.game.proto.SCLeaveChannelResultOrBuilder>(
+                (com.sirius.game.proto.SCLeaveChannelResult) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 3004;
+      onChanged();
+      return scLeaveChannelResultBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.CSChannelMessage, com.sirius.game.proto.CSChannelMessage.Builder, com.sirius.game.proto.CSChannelMessageOrBuilder> csChannelMessageBuilder_;
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     * @return Whether the csChannelMessage field is set.
+     */
+    @java.lang.Override
+    public boolean hasCsChannelMessage() {
+      return payloadCase_ == 3005;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     * @return The csChannelMessage.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.CSChannelMessage getCsChannelMessage() {
+      if (csChannelMessageBuilder_ == null) {
+        if (payloadCase_ == 3005) {
+          return (com.sirius.game.proto.CSChannelMessage) payload_;
+        }
+        return com.sirius.game.proto.CSChannelMessage.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 3005) {
+          return csChannelMessageBuilder_.getMessage();
+        }
+        return com.sirius.game.proto.CSChannelMessage.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     */
+    public Builder setCsChannelMessage(com.sirius.game.proto.CSChannelMessage value) {
+      if (csChannelMessageBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        csChannelMessageBuilder_.setMessage(value);
+      }
+      payloadCase_ = 3005;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     */
+    public Builder setCsChannelMessage(
+        com.sirius.game.proto.CSChannelMessage.Builder builderForValue) {
+      if (csChannelMessageBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        csChannelMessageBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 3005;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     */
+    public Builder mergeCsChannelMessage(com.sirius.game.proto.CSChannelMessage value) {
+      if (csChannelMessageBuilder_ == null) {
+        if (payloadCase_ == 3005 &&
+            payload_ != com.sirius.game.proto.CSChannelMessage.getDefaultInstance()) {
+          payload_ = com.sirius.game.proto.CSChannelMessage.newBuilder((com.sirius.game.proto.CSChannelMessage) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 3005) {
+          csChannelMessageBuilder_.mergeFrom(value);
+        } else {
+          csChannelMessageBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 3005;
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     */
+    public Builder clearCsChannelMessage() {
+      if (csChannelMessageBuilder_ == null) {
+        if (payloadCase_ == 3005) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 3005) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        csChannelMessageBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     */
+    public com.sirius.game.proto.CSChannelMessage.Builder getCsChannelMessageBuilder() {
+      return getCsChannelMessageFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.CSChannelMessageOrBuilder getCsChannelMessageOrBuilder() {
+      if ((payloadCase_ == 3005) && (csChannelMessageBuilder_ != null)) {
+        return csChannelMessageBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 3005) {
+          return (com.sirius.game.proto.CSChannelMessage) payload_;
+        }
+        return com.sirius.game.proto.CSChannelMessage.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.CSChannelMessage, com.sirius.game.proto.CSChannelMessage.Builder, com.sirius.game.proto.CSChannelMessageOrBuilder> 
+        getCsChannelMessageFieldBuilder() {
+      if (csChannelMessageBuilder_ == null) {
+        if (!(payloadCase_ == 3005)) {
+          payload_ = com.sirius.game.proto.CSChannelMessage.getDefaultInstance();
+        }
+        csChannelMessageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.sirius.game.proto.CSChannelMessage, com.sirius.game.proto.CSChannelMessage.Builder, com.sirius.game.proto.CSChannelMessageOrBuilder>(
+                (com.sirius.game.proto.CSChannelMessage) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 3005;
+      onChanged();
+      return csChannelMessageBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCReceiveMessage, com.sirius.game.proto.SCReceiveMessage.Builder, com.sirius.game.proto.SCReceiveMessageOrBuilder> scChannelMessageBuilder_;
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     * @return Whether the scChannelMessage field is set.
+     */
+    @java.lang.Override
+    public boolean hasScChannelMessage() {
+      return payloadCase_ == 3006;
+    }
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     * @return The scChannelMessage.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCReceiveMessage getScChannelMessage() {
+      if (scChannelMessageBuilder_ == null) {
+        if (payloadCase_ == 3006) {
+          return (com.sirius.game.proto.SCReceiveMessage) payload_;
+        }
+        return com.sirius.game.proto.SCReceiveMessage.getDefaultInstance();
+      } else {
+        if (payloadCase_ == 3006) {
+          return scChannelMessageBuilder_.getMessage();
+        }
+        return com.sirius.game.proto.SCReceiveMessage.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     */
+    public Builder setScChannelMessage(com.sirius.game.proto.SCReceiveMessage value) {
+      if (scChannelMessageBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        payload_ = value;
+        onChanged();
+      } else {
+        scChannelMessageBuilder_.setMessage(value);
+      }
+      payloadCase_ = 3006;
+      return this;
+    }
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     */
+    public Builder setScChannelMessage(
+        com.sirius.game.proto.SCReceiveMessage.Builder builderForValue) {
+      if (scChannelMessageBuilder_ == null) {
+        payload_ = builderForValue.build();
+        onChanged();
+      } else {
+        scChannelMessageBuilder_.setMessage(builderForValue.build());
+      }
+      payloadCase_ = 3006;
+      return this;
+    }
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     */
+    public Builder mergeScChannelMessage(com.sirius.game.proto.SCReceiveMessage value) {
+      if (scChannelMessageBuilder_ == null) {
+        if (payloadCase_ == 3006 &&
+            payload_ != com.sirius.game.proto.SCReceiveMessage.getDefaultInstance()) {
+          payload_ = com.sirius.game.proto.SCReceiveMessage.newBuilder((com.sirius.game.proto.SCReceiveMessage) payload_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          payload_ = value;
+        }
+        onChanged();
+      } else {
+        if (payloadCase_ == 3006) {
+          scChannelMessageBuilder_.mergeFrom(value);
+        } else {
+          scChannelMessageBuilder_.setMessage(value);
+        }
+      }
+      payloadCase_ = 3006;
+      return this;
+    }
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     */
+    public Builder clearScChannelMessage() {
+      if (scChannelMessageBuilder_ == null) {
+        if (payloadCase_ == 3006) {
+          payloadCase_ = 0;
+          payload_ = null;
+          onChanged();
+        }
+      } else {
+        if (payloadCase_ == 3006) {
+          payloadCase_ = 0;
+          payload_ = null;
+        }
+        scChannelMessageBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     */
+    public com.sirius.game.proto.SCReceiveMessage.Builder getScChannelMessageBuilder() {
+      return getScChannelMessageFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.SCReceiveMessageOrBuilder getScChannelMessageOrBuilder() {
+      if ((payloadCase_ == 3006) && (scChannelMessageBuilder_ != null)) {
+        return scChannelMessageBuilder_.getMessageOrBuilder();
+      } else {
+        if (payloadCase_ == 3006) {
+          return (com.sirius.game.proto.SCReceiveMessage) payload_;
+        }
+        return com.sirius.game.proto.SCReceiveMessage.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.sirius.game.proto.SCReceiveMessage, com.sirius.game.proto.SCReceiveMessage.Builder, com.sirius.game.proto.SCReceiveMessageOrBuilder> 
+        getScChannelMessageFieldBuilder() {
+      if (scChannelMessageBuilder_ == null) {
+        if (!(payloadCase_ == 3006)) {
+          payload_ = com.sirius.game.proto.SCReceiveMessage.getDefaultInstance();
+        }
+        scChannelMessageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.sirius.game.proto.SCReceiveMessage, com.sirius.game.proto.SCReceiveMessage.Builder, com.sirius.game.proto.SCReceiveMessageOrBuilder>(
+                (com.sirius.game.proto.SCReceiveMessage) payload_,
+                getParentForChildren(),
+                isClean());
+        payload_ = null;
+      }
+      payloadCase_ = 3006;
+      onChanged();
+      return scChannelMessageBuilder_;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
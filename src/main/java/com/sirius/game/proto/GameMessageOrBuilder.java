@@ -27,6 +27,16 @@ public interface GameMessageOrBuilder extends
    */
   com.sirius.game.proto.MessageType getType();
 
+  /**
+   * <pre>
+   * 服务端下行消息的序号，登录后从1开始连续递增，断线重连时用于补发
+   * </pre>
+   *
+   * <code>uint64 seq = 2;</code>
+   * @return The seq.
+   */
+  long getSeq();
+
   /**
    * <code>.com.sirius.game.proto.CSLogin cs_login = 1001;</code>
    * @return Whether the csLogin field is set.
@@ -87,5 +97,137 @@ public interface GameMessageOrBuilder extends
    */
   com.sirius.game.proto.SCReceiveMessageOrBuilder getScReceiveMessageOrBuilder();
 
+  /**
+   * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+   * @return Whether the scSendMessageResult field is set.
+   */
+  boolean hasScSendMessageResult();
+  /**
+   * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+   * @return The scSendMessageResult.
+   */
+  com.sirius.game.proto.SCSendMessageResult getScSendMessageResult();
+  /**
+   * <code>.com.sirius.game.proto.SCSendMessageResult sc_send_message_result = 2003;</code>
+   */
+  com.sirius.game.proto.SCSendMessageResultOrBuilder getScSendMessageResultOrBuilder();
+
+  /**
+   * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+   * @return Whether the scOfflineMessages field is set.
+   */
+  boolean hasScOfflineMessages();
+  /**
+   * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+   * @return The scOfflineMessages.
+   */
+  com.sirius.game.proto.SCOfflineMessages getScOfflineMessages();
+  /**
+   * <code>.com.sirius.game.proto.SCOfflineMessages sc_offline_messages = 2004;</code>
+   */
+  com.sirius.game.proto.SCOfflineMessagesOrBuilder getScOfflineMessagesOrBuilder();
+
+  /**
+   * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+   * @return Whether the csJoinChannel field is set.
+   */
+  boolean hasCsJoinChannel();
+  /**
+   * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+   * @return The csJoinChannel.
+   */
+  com.sirius.game.proto.CSJoinChannel getCsJoinChannel();
+  /**
+   * <code>.com.sirius.game.proto.CSJoinChannel cs_join_channel = 3001;</code>
+   */
+  com.sirius.game.proto.CSJoinChannelOrBuilder getCsJoinChannelOrBuilder();
+
+  /**
+   * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+   * @return Whether the scJoinChannelResult field is set.
+   */
+  boolean hasScJoinChannelResult();
+  /**
+   * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+   * @return The scJoinChannelResult.
+   */
+  com.sirius.game.proto.SCJoinChannelResult getScJoinChannelResult();
+  /**
+   * <code>.com.sirius.game.proto.SCJoinChannelResult sc_join_channel_result = 3002;</code>
+   */
+  com.sirius.game.proto.SCJoinChannelResultOrBuilder getScJoinChannelResultOrBuilder();
+
+  /**
+   * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+   * @return Whether the csLeaveChannel field is set.
+   */
+  boolean hasCsLeaveChannel();
+  /**
+   * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+   * @return The csLeaveChannel.
+   */
+  com.sirius.game.proto.CSLeaveChannel getCsLeaveChannel();
+  /**
+   * <code>.com.sirius.game.proto.CSLeaveChannel cs_leave_channel = 3003;</code>
+   */
+  com.sirius.game.proto.CSLeaveChannelOrBuilder getCsLeaveChannelOrBuilder();
+
+  /**
+   * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+   * @return Whether the scLeaveChannelResult field is set.
+   */
+  boolean hasScLeaveChannelResult();
+  /**
+   * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+   * @return The scLeaveChannelResult.
+   */
+  com.sirius.game.proto.SCLeaveChannelResult getScLeaveChannelResult();
+  /**
+   * <code>.com.sirius.game.proto.SCLeaveChannelResult sc_leave_channel_result = 3004;</code>
+   */
+  com.sirius.game.proto.SCLeaveChannelResultOrBuilder getScLeaveChannelResultOrBuilder();
+
+  /**
+   * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+   * @return Whether the csChannelMessage field is set.
+   */
+  boolean hasCsChannelMessage();
+  /**
+   * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+   * @return The csChannelMessage.
+   */
+  com.sirius.game.proto.CSChannelMessage getCsChannelMessage();
+  /**
+   * <code>.com.sirius.game.proto.CSChannelMessage cs_channel_message = 3005;</code>
+   */
+  com.sirius.game.proto.CSChannelMessageOrBuilder getCsChannelMessageOrBuilder();
+
+  /**
+   * <pre>
+   * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+   * @return Whether the scChannelMessage field is set.
+   */
+  boolean hasScChannelMessage();
+  /**
+   * <pre>
+   * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+   * @return The scChannelMessage.
+   */
+  com.sirius.game.proto.SCReceiveMessage getScChannelMessage();
+  /**
+   * <pre>
+   * 频道广播，与私聊分开，便于慢消费者策略按类型丢弃或合并
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.SCReceiveMessage sc_channel_message = 3006;</code>
+   */
+  com.sirius.game.proto.SCReceiveMessageOrBuilder getScChannelMessageOrBuilder();
+
   com.sirius.game.proto.GameMessage.PayloadCase getPayloadCase();
 }
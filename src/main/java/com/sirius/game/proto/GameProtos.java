@@ -40,6 +40,51 @@ public final class GameProtos {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_com_sirius_game_proto_SCReceiveMessage_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_SCSendMessageResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_SCSendMessageResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_SCOfflineMessages_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_SCOfflineMessages_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_CSJoinChannel_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_CSJoinChannel_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_SCJoinChannelResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_SCJoinChannelResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_CSLeaveChannel_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_CSLeaveChannel_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_SCLeaveChannelResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_SCLeaveChannelResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_CSChannelMessage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_CSChannelMessage_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_ScoreBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_ScoreBatch_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_sirius_game_proto_ScoreOp_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_com_sirius_game_proto_ScoreOp_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -49,29 +94,69 @@ public final class GameProtos {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\ngame.proto\022\025com.sirius.game.proto\"\313\002\n\013" +
+      "\n\ngame.proto\022\025com.sirius.game.proto\"\247\007\n\013" +
       "GameMessage\0220\n\004type\030\001 \001(\0162\".com.sirius.g" +
-      "ame.proto.MessageType\0223\n\010cs_login\030\351\007 \001(\013" +
-      "2\036.com.sirius.game.proto.CSLoginH\000\022@\n\017sc" +
-      "_login_result\030\352\007 \001(\0132$.com.sirius.game.p" +
-      "roto.SCLoginResultH\000\022@\n\017cs_send_message\030" +
-      "\321\017 \001(\0132$.com.sirius.game.proto.CSSendMes" +
-      "sageH\000\022F\n\022sc_receive_message\030\322\017 \001(\0132\'.co" +
-      "m.sirius.game.proto.SCReceiveMessageH\000B\t" +
-      "\n\007payload\"@\n\007CSLogin\022\020\n\010username\030\001 \001(\t\022\020" +
-      "\n\010password\030\002 \001(\t\022\021\n\ttimestamp\030\003 \001(\003\"l\n\rS" +
-      "CLoginResult\022\017\n\007success\030\001 \001(\010\022\017\n\007message" +
-      "\030\002 \001(\t\022\017\n\007user_id\030\003 \001(\t\022\025\n\rsession_token" +
-      "\030\004 \001(\t\022\021\n\ttimestamp\030\005 \001(\003\"M\n\rCSSendMessa" +
-      "ge\022\014\n\004from\030\001 \001(\t\022\n\n\002to\030\002 \001(\t\022\017\n\007content\030" +
-      "\003 \001(\t\022\021\n\ttimestamp\030\004 \001(\003\"d\n\020SCReceiveMes" +
-      "sage\022\014\n\004from\030\001 \001(\t\022\n\n\002to\030\002 \001(\t\022\017\n\007conten" +
-      "t\030\003 \001(\t\022\021\n\ttimestamp\030\004 \001(\003\022\022\n\nmessage_id" +
-      "\030\005 \001(\t*n\n\013MessageType\022\013\n\007UNKNOWN\020\000\022\r\n\010CS" +
-      "_LOGIN\020\351\007\022\024\n\017SC_LOGIN_RESULT\020\352\007\022\024\n\017CS_SE" +
-      "ND_MESSAGE\020\321\017\022\027\n\022SC_RECEIVE_MESSAGE\020\322\017B%" +
-      "\n\025com.sirius.game.protoB\nGameProtosP\001b\006p" +
-      "roto3"
+      "ame.proto.MessageType\022\013\n\003seq\030\002 \001(\004\0223\n\010cs" +
+      "_login\030\351\007 \001(\0132\036.com.sirius.game.proto.CS" +
+      "LoginH\000\022@\n\017sc_login_result\030\352\007 \001(\0132$.com." +
+      "sirius.game.proto.SCLoginResultH\000\022@\n\017cs_" +
+      "send_message\030\321\017 \001(\0132$.com.sirius.game.pr" +
+      "oto.CSSendMessageH\000\022F\n\022sc_receive_messag" +
+      "e\030\322\017 \001(\0132\'.com.sirius.game.proto.SCRecei" +
+      "veMessageH\000\022M\n\026sc_send_message_result\030\323\017" +
+      " \001(\0132*.com.sirius.game.proto.SCSendMessa" +
+      "geResultH\000\022H\n\023sc_offline_messages\030\324\017 \001(\013" +
+      "2(.com.sirius.game.proto.SCOfflineMessag" +
+      "esH\000\022@\n\017cs_join_channel\030\271\027 \001(\0132$.com.sir" +
+      "ius.game.proto.CSJoinChannelH\000\022M\n\026sc_joi" +
+      "n_channel_result\030\272\027 \001(\0132*.com.sirius.gam" +
+      "e.proto.SCJoinChannelResultH\000\022B\n\020cs_leav" +
+      "e_channel\030\273\027 \001(\0132%.com.sirius.game.proto" +
+      ".CSLeaveChannelH\000\022O\n\027sc_leave_channel_re" +
+      "sult\030\274\027 \001(\0132+.com.sirius.game.proto.SCLe" +
+      "aveChannelResultH\000\022F\n\022cs_channel_message" +
+      "\030\275\027 \001(\0132\'.com.sirius.game.proto.CSChanne" +
+      "lMessageH\000\022F\n\022sc_channel_message\030\276\027 \001(\0132" +
+      "\'.com.sirius.game.proto.SCReceiveMessage" +
+      "H\000B\t\n\007payload\"h\n\007CSLogin\022\020\n\010username\030\001 \001" +
+      "(\t\022\020\n\010password\030\002 \001(\t\022\021\n\ttimestamp\030\003 \001(\003\022" +
+      "\024\n\014resume_token\030\004 \001(\t\022\020\n\010last_seq\030\005 \001(\004\"" +
+      "}\n\rSCLoginResult\022\017\n\007success\030\001 \001(\010\022\017\n\007mes" +
+      "sage\030\002 \001(\t\022\017\n\007user_id\030\003 \001(\t\022\025\n\rsession_t" +
+      "oken\030\004 \001(\t\022\021\n\ttimestamp\030\005 \001(\003\022\017\n\007resumed" +
+      "\030\006 \001(\010\"M\n\rCSSendMessage\022\014\n\004from\030\001 \001(\t\022\n\n" +
+      "\002to\030\002 \001(\t\022\017\n\007content\030\003 \001(\t\022\021\n\ttimestamp\030" +
+      "\004 \001(\003\"u\n\020SCReceiveMessage\022\014\n\004from\030\001 \001(\t\022" +
+      "\n\n\002to\030\002 \001(\t\022\017\n\007content\030\003 \001(\t\022\021\n\ttimestam" +
+      "p\030\004 \001(\003\022\022\n\nmessage_id\030\005 \001(\006\022\017\n\007channel\030\006" +
+      " \001(\t\"\177\n\023SCSendMessageResult\022\022\n\nmessage_i" +
+      "d\030\001 \001(\006\022\n\n\002to\030\002 \001(\t\0225\n\006status\030\003 \001(\0162%.co" +
+      "m.sirius.game.proto.DeliveryStatus\022\021\n\tti" +
+      "mestamp\030\004 \001(\003\"N\n\021SCOfflineMessages\0229\n\010me" +
+      "ssages\030\001 \003(\0132\'.com.sirius.game.proto.SCR" +
+      "eceiveMessage\" \n\rCSJoinChannel\022\017\n\007channe" +
+      "l\030\001 \001(\t\"M\n\023SCJoinChannelResult\022\017\n\007channe" +
+      "l\030\001 \001(\t\022\017\n\007success\030\002 \001(\010\022\024\n\014member_count" +
+      "\030\003 \001(\005\"!\n\016CSLeaveChannel\022\017\n\007channel\030\001 \001(" +
+      "\t\"8\n\024SCLeaveChannelResult\022\017\n\007channel\030\001 \001" +
+      "(\t\022\017\n\007success\030\002 \001(\010\"G\n\020CSChannelMessage\022" +
+      "\017\n\007channel\030\001 \001(\t\022\017\n\007content\030\002 \001(\t\022\021\n\ttim" +
+      "estamp\030\003 \001(\003\"9\n\nScoreBatch\022+\n\003ops\030\001 \003(\0132" +
+      "\036.com.sirius.game.proto.ScoreOp\":\n\007Score" +
+      "Op\022\021\n\tplayer_id\030\001 \001(\t\022\r\n\005delta\030\002 \001(\021\022\r\n\005" +
+      "op_id\030\003 \001(\t*\277\002\n\013MessageType\022\013\n\007UNKNOWN\020\000" +
+      "\022\r\n\010CS_LOGIN\020\351\007\022\024\n\017SC_LOGIN_RESULT\020\352\007\022\024\n" +
+      "\017CS_SEND_MESSAGE\020\321\017\022\027\n\022SC_RECEIVE_MESSAG" +
+      "E\020\322\017\022\033\n\026SC_SEND_MESSAGE_RESULT\020\323\017\022\030\n\023SC_" +
+      "OFFLINE_MESSAGES\020\324\017\022\024\n\017CS_JOIN_CHANNEL\020\271" +
+      "\027\022\033\n\026SC_JOIN_CHANNEL_RESULT\020\272\027\022\025\n\020CS_LEA" +
+      "VE_CHANNEL\020\273\027\022\034\n\027SC_LEAVE_CHANNEL_RESULT" +
+      "\020\274\027\022\027\n\022CS_CHANNEL_MESSAGE\020\275\027\022\027\n\022SC_CHANN" +
+      "EL_MESSAGE\020\276\027*\204\001\n\016DeliveryStatus\022\024\n\020DELI" +
+      "VERY_UNKNOWN\020\000\022\r\n\tDELIVERED\020\001\022\025\n\021RECIPIE" +
+      "NT_OFFLINE\020\002\022\013\n\007DROPPED\020\003\022\025\n\021INVALID_REC" +
+      "IPIENT\020\004\022\022\n\016STORED_OFFLINE\020\005B%\n\025com.siri" +
+      "us.game.protoB\nGameProtosP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -82,19 +167,19 @@ public final class GameProtos {
     internal_static_com_sirius_game_proto_GameMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_sirius_game_proto_GameMessage_descriptor,
-        new java.lang.String[] { "Type", "CsLogin", "ScLoginResult", "CsSendMessage", "ScReceiveMessage", "Payload", });
+        new java.lang.String[] { "Type", "Seq", "CsLogin", "ScLoginResult", "CsSendMessage", "ScReceiveMessage", "ScSendMessageResult", "ScOfflineMessages", "CsJoinChannel", "ScJoinChannelResult", "CsLeaveChannel", "ScLeaveChannelResult", "CsChannelMessage", "ScChannelMessage", "Payload", });
     internal_static_com_sirius_game_proto_CSLogin_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_com_sirius_game_proto_CSLogin_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_sirius_game_proto_CSLogin_descriptor,
-        new java.lang.String[] { "Username", "Password", "Timestamp", });
+        new java.lang.String[] { "Username", "Password", "Timestamp", "ResumeToken", "LastSeq", });
     internal_static_com_sirius_game_proto_SCLoginResult_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_com_sirius_game_proto_SCLoginResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_sirius_game_proto_SCLoginResult_descriptor,
-        new java.lang.String[] { "Success", "Message", "UserId", "SessionToken", "Timestamp", });
+        new java.lang.String[] { "Success", "Message", "UserId", "SessionToken", "Timestamp", "Resumed", });
     internal_static_com_sirius_game_proto_CSSendMessage_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_com_sirius_game_proto_CSSendMessage_fieldAccessorTable = new
@@ -106,7 +191,61 @@ public final class GameProtos {
     internal_static_com_sirius_game_proto_SCReceiveMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_com_sirius_game_proto_SCReceiveMessage_descriptor,
-        new java.lang.String[] { "From", "To", "Content", "Timestamp", "MessageId", });
+        new java.lang.String[] { "From", "To", "Content", "Timestamp", "MessageId", "Channel", });
+    internal_static_com_sirius_game_proto_SCSendMessageResult_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_com_sirius_game_proto_SCSendMessageResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_SCSendMessageResult_descriptor,
+        new java.lang.String[] { "MessageId", "To", "Status", "Timestamp", });
+    internal_static_com_sirius_game_proto_SCOfflineMessages_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_com_sirius_game_proto_SCOfflineMessages_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_SCOfflineMessages_descriptor,
+        new java.lang.String[] { "Messages", });
+    internal_static_com_sirius_game_proto_CSJoinChannel_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_com_sirius_game_proto_CSJoinChannel_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_CSJoinChannel_descriptor,
+        new java.lang.String[] { "Channel", });
+    internal_static_com_sirius_game_proto_SCJoinChannelResult_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_com_sirius_game_proto_SCJoinChannelResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_SCJoinChannelResult_descriptor,
+        new java.lang.String[] { "Channel", "Success", "MemberCount", });
+    internal_static_com_sirius_game_proto_CSLeaveChannel_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_com_sirius_game_proto_CSLeaveChannel_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_CSLeaveChannel_descriptor,
+        new java.lang.String[] { "Channel", });
+    internal_static_com_sirius_game_proto_SCLeaveChannelResult_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_com_sirius_game_proto_SCLeaveChannelResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_SCLeaveChannelResult_descriptor,
+        new java.lang.String[] { "Channel", "Success", });
+    internal_static_com_sirius_game_proto_CSChannelMessage_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_com_sirius_game_proto_CSChannelMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_CSChannelMessage_descriptor,
+        new java.lang.String[] { "Channel", "Content", "Timestamp", });
+    internal_static_com_sirius_game_proto_ScoreBatch_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_com_sirius_game_proto_ScoreBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_ScoreBatch_descriptor,
+        new java.lang.String[] { "Ops", });
+    internal_static_com_sirius_game_proto_ScoreOp_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_com_sirius_game_proto_ScoreOp_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_com_sirius_game_proto_ScoreOp_descriptor,
+        new java.lang.String[] { "PlayerId", "Delta", "OpId", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -33,6 +33,38 @@ public enum MessageType
    * <code>SC_RECEIVE_MESSAGE = 2002;</code>
    */
   SC_RECEIVE_MESSAGE(2002),
+  /**
+   * <code>SC_SEND_MESSAGE_RESULT = 2003;</code>
+   */
+  SC_SEND_MESSAGE_RESULT(2003),
+  /**
+   * <code>SC_OFFLINE_MESSAGES = 2004;</code>
+   */
+  SC_OFFLINE_MESSAGES(2004),
+  /**
+   * <code>CS_JOIN_CHANNEL = 3001;</code>
+   */
+  CS_JOIN_CHANNEL(3001),
+  /**
+   * <code>SC_JOIN_CHANNEL_RESULT = 3002;</code>
+   */
+  SC_JOIN_CHANNEL_RESULT(3002),
+  /**
+   * <code>CS_LEAVE_CHANNEL = 3003;</code>
+   */
+  CS_LEAVE_CHANNEL(3003),
+  /**
+   * <code>SC_LEAVE_CHANNEL_RESULT = 3004;</code>
+   */
+  SC_LEAVE_CHANNEL_RESULT(3004),
+  /**
+   * <code>CS_CHANNEL_MESSAGE = 3005;</code>
+   */
+  CS_CHANNEL_MESSAGE(3005),
+  /**
+   * <code>SC_CHANNEL_MESSAGE = 3006;</code>
+   */
+  SC_CHANNEL_MESSAGE(3006),
   UNRECOGNIZED(-1),
   ;
 
@@ -56,6 +88,38 @@ public enum MessageType
    * <code>SC_RECEIVE_MESSAGE = 2002;</code>
    */
   public static final int SC_RECEIVE_MESSAGE_VALUE = 2002;
+  /**
+   * <code>SC_SEND_MESSAGE_RESULT = 2003;</code>
+   */
+  public static final int SC_SEND_MESSAGE_RESULT_VALUE = 2003;
+  /**
+   * <code>SC_OFFLINE_MESSAGES = 2004;</code>
+   */
+  public static final int SC_OFFLINE_MESSAGES_VALUE = 2004;
+  /**
+   * <code>CS_JOIN_CHANNEL = 3001;</code>
+   */
+  public static final int CS_JOIN_CHANNEL_VALUE = 3001;
+  /**
+   * <code>SC_JOIN_CHANNEL_RESULT = 3002;</code>
+   */
+  public static final int SC_JOIN_CHANNEL_RESULT_VALUE = 3002;
+  /**
+   * <code>CS_LEAVE_CHANNEL = 3003;</code>
+   */
+  public static final int CS_LEAVE_CHANNEL_VALUE = 3003;
+  /**
+   * <code>SC_LEAVE_CHANNEL_RESULT = 3004;</code>
+   */
+  public static final int SC_LEAVE_CHANNEL_RESULT_VALUE = 3004;
+  /**
+   * <code>CS_CHANNEL_MESSAGE = 3005;</code>
+   */
+  public static final int CS_CHANNEL_MESSAGE_VALUE = 3005;
+  /**
+   * <code>SC_CHANNEL_MESSAGE = 3006;</code>
+   */
+  public static final int SC_CHANNEL_MESSAGE_VALUE = 3006;
 
 
   public final int getNumber() {
@@ -87,6 +151,14 @@ public enum MessageType
       case 1002: return SC_LOGIN_RESULT;
       case 2001: return CS_SEND_MESSAGE;
       case 2002: return SC_RECEIVE_MESSAGE;
+      case 2003: return SC_SEND_MESSAGE_RESULT;
+      case 2004: return SC_OFFLINE_MESSAGES;
+      case 3001: return CS_JOIN_CHANNEL;
+      case 3002: return SC_JOIN_CHANNEL_RESULT;
+      case 3003: return CS_LEAVE_CHANNEL;
+      case 3004: return SC_LEAVE_CHANNEL_RESULT;
+      case 3005: return CS_CHANNEL_MESSAGE;
+      case 3006: return SC_CHANNEL_MESSAGE;
       default: return null;
     }
   }
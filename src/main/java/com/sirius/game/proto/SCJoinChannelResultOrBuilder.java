@@ -0,0 +1,50 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+public interface SCJoinChannelResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.sirius.game.proto.SCJoinChannelResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 频道ID
+   * </pre>
+   *
+   * <code>string channel = 1;</code>
+   * @return The channel.
+   */
+  java.lang.String getChannel();
+  /**
+   * <pre>
+   * 频道ID
+   * </pre>
+   *
+   * <code>string channel = 1;</code>
+   * @return The bytes for channel.
+   */
+  com.google.protobuf.ByteString
+      getChannelBytes();
+
+  /**
+   * <pre>
+   * 是否成功
+   * </pre>
+   *
+   * <code>bool success = 2;</code>
+   * @return The success.
+   */
+  boolean getSuccess();
+
+  /**
+   * <pre>
+   * 当前成员数
+   * </pre>
+   *
+   * <code>int32 member_count = 3;</code>
+   * @return The memberCount.
+   */
+  int getMemberCount();
+}
@@ -0,0 +1,40 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+public interface SCLeaveChannelResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.sirius.game.proto.SCLeaveChannelResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 频道ID
+   * </pre>
+   *
+   * <code>string channel = 1;</code>
+   * @return The channel.
+   */
+  java.lang.String getChannel();
+  /**
+   * <pre>
+   * 频道ID
+   * </pre>
+   *
+   * <code>string channel = 1;</code>
+   * @return The bytes for channel.
+   */
+  com.google.protobuf.ByteString
+      getChannelBytes();
+
+  /**
+   * <pre>
+   * 是否成功
+   * </pre>
+   *
+   * <code>bool success = 2;</code>
+   * @return The success.
+   */
+  boolean getSuccess();
+}
@@ -217,6 +217,21 @@ private static final long serialVersionUID = 0L;
     return timestamp_;
   }
 
+  public static final int RESUMED_FIELD_NUMBER = 6;
+  private boolean resumed_ = false;
+  /**
+   * <pre>
+   * 会话已恢复，缺失的消息在登录结果之前按seq补发
+   * </pre>
+   *
+   * <code>bool resumed = 6;</code>
+   * @return The resumed.
+   */
+  @java.lang.Override
+  public boolean getResumed() {
+    return resumed_;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -246,6 +261,9 @@ private static final long serialVersionUID = 0L;
     if (timestamp_ != 0L) {
       output.writeInt64(5, timestamp_);
     }
+    if (resumed_ != false) {
+      output.writeBool(6, resumed_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -272,6 +290,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt64Size(5, timestamp_);
     }
+    if (resumed_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(6, resumed_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -297,6 +319,8 @@ private static final long serialVersionUID = 0L;
         .equals(other.getSessionToken())) return false;
     if (getTimestamp()
         != other.getTimestamp()) return false;
+    if (getResumed()
+        != other.getResumed()) return false;
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -320,6 +344,9 @@ private static final long serialVersionUID = 0L;
     hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
     hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
         getTimestamp());
+    hash = (37 * hash) + RESUMED_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getResumed());
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -460,6 +487,7 @@ private static final long serialVersionUID = 0L;
       userId_ = "";
       sessionToken_ = "";
       timestamp_ = 0L;
+      resumed_ = false;
       return this;
     }
 
@@ -508,6 +536,9 @@ private static final long serialVersionUID = 0L;
       if (((from_bitField0_ & 0x00000010) != 0)) {
         result.timestamp_ = timestamp_;
       }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.resumed_ = resumed_;
+      }
     }
 
     @java.lang.Override
@@ -575,6 +606,9 @@ private static final long serialVersionUID = 0L;
       if (other.getTimestamp() != 0L) {
         setTimestamp(other.getTimestamp());
       }
+      if (other.getResumed() != false) {
+        setResumed(other.getResumed());
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -626,6 +660,11 @@ private static final long serialVersionUID = 0L;
               bitField0_ |= 0x00000010;
               break;
             } // case 40
+            case 48: {
+              resumed_ = input.readBool();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 48
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -1006,6 +1045,50 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private boolean resumed_ ;
+    /**
+     * <pre>
+     * 会话已恢复，缺失的消息在登录结果之前按seq补发
+     * </pre>
+     *
+     * <code>bool resumed = 6;</code>
+     * @return The resumed.
+     */
+    @java.lang.Override
+    public boolean getResumed() {
+      return resumed_;
+    }
+    /**
+     * <pre>
+     * 会话已恢复，缺失的消息在登录结果之前按seq补发
+     * </pre>
+     *
+     * <code>bool resumed = 6;</code>
+     * @param value The resumed to set.
+     * @return This builder for chaining.
+     */
+    public Builder setResumed(boolean value) {
+
+      resumed_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 会话已恢复，缺失的消息在登录结果之前按seq补发
+     * </pre>
+     *
+     * <code>bool resumed = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearResumed() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      resumed_ = false;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -87,4 +87,14 @@ public interface SCLoginResultOrBuilder extends
    * @return The timestamp.
    */
   long getTimestamp();
+
+  /**
+   * <pre>
+   * 会话已恢复，缺失的消息在登录结果之前按seq补发
+   * </pre>
+   *
+   * <code>bool resumed = 6;</code>
+   * @return The resumed.
+   */
+  boolean getResumed();
 }
@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+public interface SCOfflineMessagesOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.sirius.game.proto.SCOfflineMessages)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .com.sirius.game.proto.SCReceiveMessage messages = 1;</code>
+   */
+  java.util.List<com.sirius.game.proto.SCReceiveMessage> 
+      getMessagesList();
+  /**
+   * <code>repeated .com.sirius.game.proto.SCReceiveMessage messages = 1;</code>
+   */
+  com.sirius.game.proto.SCReceiveMessage getMessages(int index);
+  /**
+   * <code>repeated .com.sirius.game.proto.SCReceiveMessage messages = 1;</code>
+   */
+  int getMessagesCount();
+  /**
+   * <code>repeated .com.sirius.game.proto.SCReceiveMessage messages = 1;</code>
+   */
+  java.util.List<? extends com.sirius.game.proto.SCReceiveMessageOrBuilder> 
+      getMessagesOrBuilderList();
+  /**
+   * <code>repeated .com.sirius.game.proto.SCReceiveMessage messages = 1;</code>
+   */
+  com.sirius.game.proto.SCReceiveMessageOrBuilder getMessagesOrBuilder(
+      int index);
+}
@@ -24,7 +24,7 @@ private static final long serialVersionUID = 0L;
     from_ = "";
     to_ = "";
     content_ = "";
-    messageId_ = "";
+    channel_ = "";
   }
 
   @java.lang.Override
@@ -204,46 +204,61 @@ private static final long serialVersionUID = 0L;
   }
 
   public static final int MESSAGE_ID_FIELD_NUMBER = 5;
-  @SuppressWarnings("serial")
-  private volatile java.lang.Object messageId_ = "";
+  private long messageId_ = 0L;
   /**
    * <pre>
-   * 消息ID
+   * 消息ID，见MessageIds，按时间大致有序，可作为历史消息分页的偏移量
    * </pre>
    *
-   * <code>string message_id = 5;</code>
+   * <code>fixed64 message_id = 5;</code>
    * @return The messageId.
    */
   @java.lang.Override
-  public java.lang.String getMessageId() {
-    java.lang.Object ref = messageId_;
+  public long getMessageId() {
+    return messageId_;
+  }
+
+  public static final int CHANNEL_FIELD_NUMBER = 6;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object channel_ = "";
+  /**
+   * <pre>
+   * 频道ID，私聊时为空
+   * </pre>
+   *
+   * <code>string channel = 6;</code>
+   * @return The channel.
+   */
+  @java.lang.Override
+  public java.lang.String getChannel() {
+    java.lang.Object ref = channel_;
     if (ref instanceof java.lang.String) {
       return (java.lang.String) ref;
     } else {
       com.google.protobuf.ByteString bs = 
           (com.google.protobuf.ByteString) ref;
       java.lang.String s = bs.toStringUtf8();
-      messageId_ = s;
+      channel_ = s;
       return s;
     }
   }
   /**
    * <pre>
-   * 消息ID
+   * 频道ID，私聊时为空
    * </pre>
    *
-   * <code>string message_id = 5;</code>
-   * @return The bytes for messageId.
+   * <code>string channel = 6;</code>
+   * @return The bytes for channel.
    */
   @java.lang.Override
   public com.google.protobuf.ByteString
-      getMessageIdBytes() {
-    java.lang.Object ref = messageId_;
+      getChannelBytes() {
+    java.lang.Object ref = channel_;
     if (ref instanceof java.lang.String) {
       com.google.protobuf.ByteString b = 
           com.google.protobuf.ByteString.copyFromUtf8(
               (java.lang.String) ref);
-      messageId_ = b;
+      channel_ = b;
       return b;
     } else {
       return (com.google.protobuf.ByteString) ref;
@@ -276,8 +291,11 @@ private static final long serialVersionUID = 0L;
     if (timestamp_ != 0L) {
       output.writeInt64(4, timestamp_);
     }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(messageId_)) {
-      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, messageId_);
+    if (messageId_ != 0L) {
+      output.writeFixed64(5, messageId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(channel_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 6, channel_);
     }
     getUnknownFields().writeTo(output);
   }
@@ -301,8 +319,12 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeInt64Size(4, timestamp_);
     }
-    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(messageId_)) {
-      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, messageId_);
+    if (messageId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFixed64Size(5, messageId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(channel_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, channel_);
     }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
@@ -327,8 +349,10 @@ private static final long serialVersionUID = 0L;
         .equals(other.getContent())) return false;
     if (getTimestamp()
         != other.getTimestamp()) return false;
-    if (!getMessageId()
-        .equals(other.getMessageId())) return false;
+    if (getMessageId()
+        != other.getMessageId()) return false;
+    if (!getChannel()
+        .equals(other.getChannel())) return false;
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -350,7 +374,10 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
         getTimestamp());
     hash = (37 * hash) + MESSAGE_ID_FIELD_NUMBER;
-    hash = (53 * hash) + getMessageId().hashCode();
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getMessageId());
+    hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
+    hash = (53 * hash) + getChannel().hashCode();
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -490,7 +517,8 @@ private static final long serialVersionUID = 0L;
       to_ = "";
       content_ = "";
       timestamp_ = 0L;
-      messageId_ = "";
+      messageId_ = 0L;
+      channel_ = "";
       return this;
     }
 
@@ -539,6 +567,9 @@ private static final long serialVersionUID = 0L;
       if (((from_bitField0_ & 0x00000010) != 0)) {
         result.messageId_ = messageId_;
       }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.channel_ = channel_;
+      }
     }
 
     @java.lang.Override
@@ -603,9 +634,12 @@ private static final long serialVersionUID = 0L;
       if (other.getTimestamp() != 0L) {
         setTimestamp(other.getTimestamp());
       }
-      if (!other.getMessageId().isEmpty()) {
-        messageId_ = other.messageId_;
-        bitField0_ |= 0x00000010;
+      if (other.getMessageId() != 0L) {
+        setMessageId(other.getMessageId());
+      }
+      if (!other.getChannel().isEmpty()) {
+        channel_ = other.channel_;
+        bitField0_ |= 0x00000020;
         onChanged();
       }
       this.mergeUnknownFields(other.getUnknownFields());
@@ -654,11 +688,16 @@ private static final long serialVersionUID = 0L;
               bitField0_ |= 0x00000008;
               break;
             } // case 32
-            case 42: {
-              messageId_ = input.readStringRequireUtf8();
+            case 41: {
+              messageId_ = input.readFixed64();
               bitField0_ |= 0x00000010;
               break;
-            } // case 42
+            } // case 41
+            case 50: {
+              channel_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 50
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -996,22 +1035,66 @@ private static final long serialVersionUID = 0L;
       return this;
     }
 
-    private java.lang.Object messageId_ = "";
+    private long messageId_ ;
     /**
      * <pre>
-     * 消息ID
+     * 消息ID，见MessageIds，按时间大致有序，可作为历史消息分页的偏移量
      * </pre>
      *
-     * <code>string message_id = 5;</code>
+     * <code>fixed64 message_id = 5;</code>
      * @return The messageId.
      */
-    public java.lang.String getMessageId() {
-      java.lang.Object ref = messageId_;
+    @java.lang.Override
+    public long getMessageId() {
+      return messageId_;
+    }
+    /**
+     * <pre>
+     * 消息ID，见MessageIds，按时间大致有序，可作为历史消息分页的偏移量
+     * </pre>
+     *
+     * <code>fixed64 message_id = 5;</code>
+     * @param value The messageId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageId(long value) {
+
+      messageId_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 消息ID，见MessageIds，按时间大致有序，可作为历史消息分页的偏移量
+     * </pre>
+     *
+     * <code>fixed64 message_id = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessageId() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      messageId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object channel_ = "";
+    /**
+     * <pre>
+     * 频道ID，私聊时为空
+     * </pre>
+     *
+     * <code>string channel = 6;</code>
+     * @return The channel.
+     */
+    public java.lang.String getChannel() {
+      java.lang.Object ref = channel_;
       if (!(ref instanceof java.lang.String)) {
         com.google.protobuf.ByteString bs =
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        messageId_ = s;
+        channel_ = s;
         return s;
       } else {
         return (java.lang.String) ref;
@@ -1019,20 +1102,20 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * 消息ID
+     * 频道ID，私聊时为空
      * </pre>
      *
-     * <code>string message_id = 5;</code>
-     * @return The bytes for messageId.
+     * <code>string channel = 6;</code>
+     * @return The bytes for channel.
      */
     public com.google.protobuf.ByteString
-        getMessageIdBytes() {
-      java.lang.Object ref = messageId_;
+        getChannelBytes() {
+      java.lang.Object ref = channel_;
       if (ref instanceof String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        messageId_ = b;
+        channel_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -1040,50 +1123,50 @@ private static final long serialVersionUID = 0L;
     }
     /**
      * <pre>
-     * 消息ID
+     * 频道ID，私聊时为空
      * </pre>
      *
-     * <code>string message_id = 5;</code>
-     * @param value The messageId to set.
+     * <code>string channel = 6;</code>
+     * @param value The channel to set.
      * @return This builder for chaining.
      */
-    public Builder setMessageId(
+    public Builder setChannel(
         java.lang.String value) {
       if (value == null) { throw new NullPointerException(); }
-      messageId_ = value;
-      bitField0_ |= 0x00000010;
+      channel_ = value;
+      bitField0_ |= 0x00000020;
       onChanged();
       return this;
     }
     /**
      * <pre>
-     * 消息ID
+     * 频道ID，私聊时为空
      * </pre>
      *
-     * <code>string message_id = 5;</code>
+     * <code>string channel = 6;</code>
      * @return This builder for chaining.
      */
-    public Builder clearMessageId() {
-      messageId_ = getDefaultInstance().getMessageId();
-      bitField0_ = (bitField0_ & ~0x00000010);
+    public Builder clearChannel() {
+      channel_ = getDefaultInstance().getChannel();
+      bitField0_ = (bitField0_ & ~0x00000020);
       onChanged();
       return this;
     }
     /**
      * <pre>
-     * 消息ID
+     * 频道ID，私聊时为空
      * </pre>
      *
-     * <code>string message_id = 5;</code>
-     * @param value The bytes for messageId to set.
+     * <code>string channel = 6;</code>
+     * @param value The bytes for channel to set.
      * @return This builder for chaining.
      */
-    public Builder setMessageIdBytes(
+    public Builder setChannelBytes(
         com.google.protobuf.ByteString value) {
       if (value == null) { throw new NullPointerException(); }
       checkByteStringIsUtf8(value);
-      messageId_ = value;
-      bitField0_ |= 0x00000010;
+      channel_ = value;
+      bitField0_ |= 0x00000020;
       onChanged();
       return this;
     }
@@ -80,21 +80,31 @@ public interface SCReceiveMessageOrBuilder extends
 
   /**
    * <pre>
-   * 消息ID
+   * 消息ID，见MessageIds，按时间大致有序，可作为历史消息分页的偏移量
    * </pre>
    *
-   * <code>string message_id = 5;</code>
+   * <code>fixed64 message_id = 5;</code>
    * @return The messageId.
    */
-  java.lang.String getMessageId();
+  long getMessageId();
+
+  /**
+   * <pre>
+   * 频道ID，私聊时为空
+   * </pre>
+   *
+   * <code>string channel = 6;</code>
+   * @return The channel.
+   */
+  java.lang.String getChannel();
   /**
    * <pre>
-   * 消息ID
+   * 频道ID，私聊时为空
    * </pre>
    *
-   * <code>string message_id = 5;</code>
-   * @return The bytes for messageId.
+   * <code>string channel = 6;</code>
+   * @return The bytes for channel.
    */
   com.google.protobuf.ByteString
-      getMessageIdBytes();
+      getChannelBytes();
 }
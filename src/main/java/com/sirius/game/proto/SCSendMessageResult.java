@@ -0,0 +1,866 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+/**
+ * <pre>
+ * 发送短信结果（服务端到发送者）
+ * </pre>
+ *
+ * Protobuf type {@code com.sirius.game.proto.SCSendMessageResult}
+ */
+public final class SCSendMessageResult extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.sirius.game.proto.SCSendMessageResult)
+    SCSendMessageResultOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SCSendMessageResult.newBuilder() to construct.
+  private SCSendMessageResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SCSendMessageResult() {
+    to_ = "";
+    status_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SCSendMessageResult();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_SCSendMessageResult_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_SCSendMessageResult_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.sirius.game.proto.SCSendMessageResult.class, com.sirius.game.proto.SCSendMessageResult.Builder.class);
+  }
+
+  public static final int MESSAGE_ID_FIELD_NUMBER = 1;
+  private long messageId_ = 0L;
+  /**
+   * <pre>
+   * 消息ID
+   * </pre>
+   *
+   * <code>fixed64 message_id = 1;</code>
+   * @return The messageId.
+   */
+  @java.lang.Override
+  public long getMessageId() {
+    return messageId_;
+  }
+
+  public static final int TO_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object to_ = "";
+  /**
+   * <pre>
+   * 接收者ID
+   * </pre>
+   *
+   * <code>string to = 2;</code>
+   * @return The to.
+   */
+  @java.lang.Override
+  public java.lang.String getTo() {
+    java.lang.Object ref = to_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      to_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * 接收者ID
+   * </pre>
+   *
+   * <code>string to = 2;</code>
+   * @return The bytes for to.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getToBytes() {
+    java.lang.Object ref = to_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      to_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int STATUS_FIELD_NUMBER = 3;
+  private int status_ = 0;
+  /**
+   * <pre>
+   * 投递状态
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  @java.lang.Override public int getStatusValue() {
+    return status_;
+  }
+  /**
+   * <pre>
+   * 投递状态
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+   * @return The status.
+   */
+  @java.lang.Override public com.sirius.game.proto.DeliveryStatus getStatus() {
+    com.sirius.game.proto.DeliveryStatus result = com.sirius.game.proto.DeliveryStatus.forNumber(status_);
+    return result == null ? com.sirius.game.proto.DeliveryStatus.UNRECOGNIZED : result;
+  }
+
+  public static final int TIMESTAMP_FIELD_NUMBER = 4;
+  private long timestamp_ = 0L;
+  /**
+   * <pre>
+   * 时间戳
+   * </pre>
+   *
+   * <code>int64 timestamp = 4;</code>
+   * @return The timestamp.
+   */
+  @java.lang.Override
+  public long getTimestamp() {
+    return timestamp_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (messageId_ != 0L) {
+      output.writeFixed64(1, messageId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(to_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, to_);
+    }
+    if (status_ != com.sirius.game.proto.DeliveryStatus.DELIVERY_UNKNOWN.getNumber()) {
+      output.writeEnum(3, status_);
+    }
+    if (timestamp_ != 0L) {
+      output.writeInt64(4, timestamp_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (messageId_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFixed64Size(1, messageId_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(to_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, to_);
+    }
+    if (status_ != com.sirius.game.proto.DeliveryStatus.DELIVERY_UNKNOWN.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, status_);
+    }
+    if (timestamp_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(4, timestamp_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.sirius.game.proto.SCSendMessageResult)) {
+      return super.equals(obj);
+    }
+    com.sirius.game.proto.SCSendMessageResult other = (com.sirius.game.proto.SCSendMessageResult) obj;
+
+    if (getMessageId()
+        != other.getMessageId()) return false;
+    if (!getTo()
+        .equals(other.getTo())) return false;
+    if (status_ != other.status_) return false;
+    if (getTimestamp()
+        != other.getTimestamp()) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + MESSAGE_ID_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getMessageId());
+    hash = (37 * hash) + TO_FIELD_NUMBER;
+    hash = (53 * hash) + getTo().hashCode();
+    hash = (37 * hash) + STATUS_FIELD_NUMBER;
+    hash = (53 * hash) + status_;
+    hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getTimestamp());
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.sirius.game.proto.SCSendMessageResult parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.sirius.game.proto.SCSendMessageResult parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.sirius.game.proto.SCSendMessageResult parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.sirius.game.proto.SCSendMessageResult prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * 发送短信结果（服务端到发送者）
+   * </pre>
+   *
+   * Protobuf type {@code com.sirius.game.proto.SCSendMessageResult}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.sirius.game.proto.SCSendMessageResult)
+      com.sirius.game.proto.SCSendMessageResultOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_SCSendMessageResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_SCSendMessageResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.sirius.game.proto.SCSendMessageResult.class, com.sirius.game.proto.SCSendMessageResult.Builder.class);
+    }
+
+    // Construct using com.sirius.game.proto.SCSendMessageResult.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      messageId_ = 0L;
+      to_ = "";
+      status_ = 0;
+      timestamp_ = 0L;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_SCSendMessageResult_descriptor;
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.SCSendMessageResult getDefaultInstanceForType() {
+      return com.sirius.game.proto.SCSendMessageResult.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.SCSendMessageResult build() {
+      com.sirius.game.proto.SCSendMessageResult result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.SCSendMessageResult buildPartial() {
+      com.sirius.game.proto.SCSendMessageResult result = new com.sirius.game.proto.SCSendMessageResult(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.sirius.game.proto.SCSendMessageResult result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.messageId_ = messageId_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.to_ = to_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.status_ = status_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.timestamp_ = timestamp_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.sirius.game.proto.SCSendMessageResult) {
+        return mergeFrom((com.sirius.game.proto.SCSendMessageResult)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.sirius.game.proto.SCSendMessageResult other) {
+      if (other == com.sirius.game.proto.SCSendMessageResult.getDefaultInstance()) return this;
+      if (other.getMessageId() != 0L) {
+        setMessageId(other.getMessageId());
+      }
+      if (!other.getTo().isEmpty()) {
+        to_ = other.to_;
+        bitField0_ |= 0x00000002;
+        onChanged();
+      }
+      if (other.status_ != 0) {
+        setStatusValue(other.getStatusValue());
+      }
+      if (other.getTimestamp() != 0L) {
+        setTimestamp(other.getTimestamp());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 9: {
+              messageId_ = input.readFixed64();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 9
+            case 18: {
+              to_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 18
+            case 24: {
+              status_ = input.readEnum();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 32: {
+              timestamp_ = input.readInt64();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private long messageId_ ;
+    /**
+     * <pre>
+     * 消息ID
+     * </pre>
+     *
+     * <code>fixed64 message_id = 1;</code>
+     * @return The messageId.
+     */
+    @java.lang.Override
+    public long getMessageId() {
+      return messageId_;
+    }
+    /**
+     * <pre>
+     * 消息ID
+     * </pre>
+     *
+     * <code>fixed64 message_id = 1;</code>
+     * @param value The messageId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMessageId(long value) {
+
+      messageId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 消息ID
+     * </pre>
+     *
+     * <code>fixed64 message_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMessageId() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      messageId_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object to_ = "";
+    /**
+     * <pre>
+     * 接收者ID
+     * </pre>
+     *
+     * <code>string to = 2;</code>
+     * @return The to.
+     */
+    public java.lang.String getTo() {
+      java.lang.Object ref = to_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        to_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 接收者ID
+     * </pre>
+     *
+     * <code>string to = 2;</code>
+     * @return The bytes for to.
+     */
+    public com.google.protobuf.ByteString
+        getToBytes() {
+      java.lang.Object ref = to_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        to_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 接收者ID
+     * </pre>
+     *
+     * <code>string to = 2;</code>
+     * @param value The to to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTo(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      to_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 接收者ID
+     * </pre>
+     *
+     * <code>string to = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTo() {
+      to_ = getDefaultInstance().getTo();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 接收者ID
+     * </pre>
+     *
+     * <code>string to = 2;</code>
+     * @param value The bytes for to to set.
+     * @return This builder for chaining.
+     */
+    public Builder setToBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      to_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+
+    private int status_ = 0;
+    /**
+     * <pre>
+     * 投递状态
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+     * @return The enum numeric value on the wire for status.
+     */
+    @java.lang.Override public int getStatusValue() {
+      return status_;
+    }
+    /**
+     * <pre>
+     * 投递状态
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+     * @param value The enum numeric value on the wire for status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatusValue(int value) {
+      status_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 投递状态
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public com.sirius.game.proto.DeliveryStatus getStatus() {
+      com.sirius.game.proto.DeliveryStatus result = com.sirius.game.proto.DeliveryStatus.forNumber(status_);
+      return result == null ? com.sirius.game.proto.DeliveryStatus.UNRECOGNIZED : result;
+    }
+    /**
+     * <pre>
+     * 投递状态
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+     * @param value The status to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStatus(com.sirius.game.proto.DeliveryStatus value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      bitField0_ |= 0x00000004;
+      status_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 投递状态
+     * </pre>
+     *
+     * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStatus() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      status_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long timestamp_ ;
+    /**
+     * <pre>
+     * 时间戳
+     * </pre>
+     *
+     * <code>int64 timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+    /**
+     * <pre>
+     * 时间戳
+     * </pre>
+     *
+     * <code>int64 timestamp = 4;</code>
+     * @param value The timestamp to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTimestamp(long value) {
+
+      timestamp_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 时间戳
+     * </pre>
+     *
+     * <code>int64 timestamp = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTimestamp() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      timestamp_ = 0L;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.sirius.game.proto.SCSendMessageResult)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.sirius.game.proto.SCSendMessageResult)
+  private static final com.sirius.game.proto.SCSendMessageResult DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.sirius.game.proto.SCSendMessageResult();
+  }
+
+  public static com.sirius.game.proto.SCSendMessageResult getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SCSendMessageResult>
+      PARSER = new com.google.protobuf.AbstractParser<SCSendMessageResult>() {
+    @java.lang.Override
+    public SCSendMessageResult parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<SCSendMessageResult> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SCSendMessageResult> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.sirius.game.proto.SCSendMessageResult getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,69 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+public interface SCSendMessageResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.sirius.game.proto.SCSendMessageResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 消息ID
+   * </pre>
+   *
+   * <code>fixed64 message_id = 1;</code>
+   * @return The messageId.
+   */
+  long getMessageId();
+
+  /**
+   * <pre>
+   * 接收者ID
+   * </pre>
+   *
+   * <code>string to = 2;</code>
+   * @return The to.
+   */
+  java.lang.String getTo();
+  /**
+   * <pre>
+   * 接收者ID
+   * </pre>
+   *
+   * <code>string to = 2;</code>
+   * @return The bytes for to.
+   */
+  com.google.protobuf.ByteString
+      getToBytes();
+
+  /**
+   * <pre>
+   * 投递状态
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+   * @return The enum numeric value on the wire for status.
+   */
+  int getStatusValue();
+  /**
+   * <pre>
+   * 投递状态
+   * </pre>
+   *
+   * <code>.com.sirius.game.proto.DeliveryStatus status = 3;</code>
+   * @return The status.
+   */
+  com.sirius.game.proto.DeliveryStatus getStatus();
+
+  /**
+   * <pre>
+   * 时间戳
+   * </pre>
+   *
+   * <code>int64 timestamp = 4;</code>
+   * @return The timestamp.
+   */
+  long getTimestamp();
+}
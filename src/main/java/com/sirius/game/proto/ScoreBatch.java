@@ -0,0 +1,768 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+/**
+ * <pre>
+ * 批量修改分数（HTTP POST /api/score/batch，Content-Type为application/x-protobuf时的请求体）
+ * </pre>
+ *
+ * Protobuf type {@code com.sirius.game.proto.ScoreBatch}
+ */
+public final class ScoreBatch extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.sirius.game.proto.ScoreBatch)
+    ScoreBatchOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ScoreBatch.newBuilder() to construct.
+  private ScoreBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ScoreBatch() {
+    ops_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ScoreBatch();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreBatch_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreBatch_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.sirius.game.proto.ScoreBatch.class, com.sirius.game.proto.ScoreBatch.Builder.class);
+  }
+
+  public static final int OPS_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private java.util.List<com.sirius.game.proto.ScoreOp> ops_;
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.sirius.game.proto.ScoreOp> getOpsList() {
+    return ops_;
+  }
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.sirius.game.proto.ScoreOpOrBuilder> 
+      getOpsOrBuilderList() {
+    return ops_;
+  }
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  @java.lang.Override
+  public int getOpsCount() {
+    return ops_.size();
+  }
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.ScoreOp getOps(int index) {
+    return ops_.get(index);
+  }
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  @java.lang.Override
+  public com.sirius.game.proto.ScoreOpOrBuilder getOpsOrBuilder(
+      int index) {
+    return ops_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < ops_.size(); i++) {
+      output.writeMessage(1, ops_.get(i));
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < ops_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, ops_.get(i));
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.sirius.game.proto.ScoreBatch)) {
+      return super.equals(obj);
+    }
+    com.sirius.game.proto.ScoreBatch other = (com.sirius.game.proto.ScoreBatch) obj;
+
+    if (!getOpsList()
+        .equals(other.getOpsList())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getOpsCount() > 0) {
+      hash = (37 * hash) + OPS_FIELD_NUMBER;
+      hash = (53 * hash) + getOpsList().hashCode();
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.sirius.game.proto.ScoreBatch parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.sirius.game.proto.ScoreBatch parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.sirius.game.proto.ScoreBatch parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.sirius.game.proto.ScoreBatch parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.sirius.game.proto.ScoreBatch prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * 批量修改分数（HTTP POST /api/score/batch，Content-Type为application/x-protobuf时的请求体）
+   * </pre>
+   *
+   * Protobuf type {@code com.sirius.game.proto.ScoreBatch}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.sirius.game.proto.ScoreBatch)
+      com.sirius.game.proto.ScoreBatchOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.sirius.game.proto.ScoreBatch.class, com.sirius.game.proto.ScoreBatch.Builder.class);
+    }
+
+    // Construct using com.sirius.game.proto.ScoreBatch.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      if (opsBuilder_ == null) {
+        ops_ = java.util.Collections.emptyList();
+      } else {
+        ops_ = null;
+        opsBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreBatch_descriptor;
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.ScoreBatch getDefaultInstanceForType() {
+      return com.sirius.game.proto.ScoreBatch.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.ScoreBatch build() {
+      com.sirius.game.proto.ScoreBatch result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.ScoreBatch buildPartial() {
+      com.sirius.game.proto.ScoreBatch result = new com.sirius.game.proto.ScoreBatch(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(com.sirius.game.proto.ScoreBatch result) {
+      if (opsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          ops_ = java.util.Collections.unmodifiableList(ops_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.ops_ = ops_;
+      } else {
+        result.ops_ = opsBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(com.sirius.game.proto.ScoreBatch result) {
+      int from_bitField0_ = bitField0_;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.sirius.game.proto.ScoreBatch) {
+        return mergeFrom((com.sirius.game.proto.ScoreBatch)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.sirius.game.proto.ScoreBatch other) {
+      if (other == com.sirius.game.proto.ScoreBatch.getDefaultInstance()) return this;
+      if (opsBuilder_ == null) {
+        if (!other.ops_.isEmpty()) {
+          if (ops_.isEmpty()) {
+            ops_ = other.ops_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureOpsIsMutable();
+            ops_.addAll(other.ops_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.ops_.isEmpty()) {
+          if (opsBuilder_.isEmpty()) {
+            opsBuilder_.dispose();
+            opsBuilder_ = null;
+            ops_ = other.ops_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            opsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getOpsFieldBuilder() : null;
+          } else {
+            opsBuilder_.addAllMessages(other.ops_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              com.sirius.game.proto.ScoreOp m =
+                  input.readMessage(
+                      com.sirius.game.proto.ScoreOp.parser(),
+                      extensionRegistry);
+              if (opsBuilder_ == null) {
+                ensureOpsIsMutable();
+                ops_.add(m);
+              } else {
+                opsBuilder_.addMessage(m);
+              }
+              break;
+            } // case 10
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<com.sirius.game.proto.ScoreOp> ops_ =
+      java.util.Collections.emptyList();
+    private void ensureOpsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        ops_ = new java.util.ArrayList<com.sirius.game.proto.ScoreOp>(ops_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.sirius.game.proto.ScoreOp, com.sirius.game.proto.ScoreOp.Builder, com.sirius.game.proto.ScoreOpOrBuilder> opsBuilder_;
+
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public java.util.List<com.sirius.game.proto.ScoreOp> getOpsList() {
+      if (opsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(ops_);
+      } else {
+        return opsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public int getOpsCount() {
+      if (opsBuilder_ == null) {
+        return ops_.size();
+      } else {
+        return opsBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public com.sirius.game.proto.ScoreOp getOps(int index) {
+      if (opsBuilder_ == null) {
+        return ops_.get(index);
+      } else {
+        return opsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder setOps(
+        int index, com.sirius.game.proto.ScoreOp value) {
+      if (opsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOpsIsMutable();
+        ops_.set(index, value);
+        onChanged();
+      } else {
+        opsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder setOps(
+        int index, com.sirius.game.proto.ScoreOp.Builder builderForValue) {
+      if (opsBuilder_ == null) {
+        ensureOpsIsMutable();
+        ops_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        opsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder addOps(com.sirius.game.proto.ScoreOp value) {
+      if (opsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOpsIsMutable();
+        ops_.add(value);
+        onChanged();
+      } else {
+        opsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder addOps(
+        int index, com.sirius.game.proto.ScoreOp value) {
+      if (opsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureOpsIsMutable();
+        ops_.add(index, value);
+        onChanged();
+      } else {
+        opsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder addOps(
+        com.sirius.game.proto.ScoreOp.Builder builderForValue) {
+      if (opsBuilder_ == null) {
+        ensureOpsIsMutable();
+        ops_.add(builderForValue.build());
+        onChanged();
+      } else {
+        opsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder addOps(
+        int index, com.sirius.game.proto.ScoreOp.Builder builderForValue) {
+      if (opsBuilder_ == null) {
+        ensureOpsIsMutable();
+        ops_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        opsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder addAllOps(
+        java.lang.Iterable<? extends com.sirius.game.proto.ScoreOp> values) {
+      if (opsBuilder_ == null) {
+        ensureOpsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, ops_);
+        onChanged();
+      } else {
+        opsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder clearOps() {
+      if (opsBuilder_ == null) {
+        ops_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        opsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public Builder removeOps(int index) {
+      if (opsBuilder_ == null) {
+        ensureOpsIsMutable();
+        ops_.remove(index);
+        onChanged();
+      } else {
+        opsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public com.sirius.game.proto.ScoreOp.Builder getOpsBuilder(
+        int index) {
+      return getOpsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public com.sirius.game.proto.ScoreOpOrBuilder getOpsOrBuilder(
+        int index) {
+      if (opsBuilder_ == null) {
+        return ops_.get(index);  } else {
+        return opsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public java.util.List<? extends com.sirius.game.proto.ScoreOpOrBuilder> 
+         getOpsOrBuilderList() {
+      if (opsBuilder_ != null) {
+        return opsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(ops_);
+      }
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public com.sirius.game.proto.ScoreOp.Builder addOpsBuilder() {
+      return getOpsFieldBuilder().addBuilder(
+          com.sirius.game.proto.ScoreOp.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public com.sirius.game.proto.ScoreOp.Builder addOpsBuilder(
+        int index) {
+      return getOpsFieldBuilder().addBuilder(
+          index, com.sirius.game.proto.ScoreOp.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+     */
+    public java.util.List<com.sirius.game.proto.ScoreOp.Builder> 
+         getOpsBuilderList() {
+      return getOpsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.sirius.game.proto.ScoreOp, com.sirius.game.proto.ScoreOp.Builder, com.sirius.game.proto.ScoreOpOrBuilder> 
+        getOpsFieldBuilder() {
+      if (opsBuilder_ == null) {
+        opsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.sirius.game.proto.ScoreOp, com.sirius.game.proto.ScoreOp.Builder, com.sirius.game.proto.ScoreOpOrBuilder>(
+                ops_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        ops_ = null;
+      }
+      return opsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.sirius.game.proto.ScoreBatch)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.sirius.game.proto.ScoreBatch)
+  private static final com.sirius.game.proto.ScoreBatch DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.sirius.game.proto.ScoreBatch();
+  }
+
+  public static com.sirius.game.proto.ScoreBatch getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ScoreBatch>
+      PARSER = new com.google.protobuf.AbstractParser<ScoreBatch>() {
+    @java.lang.Override
+    public ScoreBatch parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ScoreBatch> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ScoreBatch> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.sirius.game.proto.ScoreBatch getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
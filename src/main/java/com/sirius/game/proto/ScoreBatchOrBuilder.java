@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+public interface ScoreBatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.sirius.game.proto.ScoreBatch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  java.util.List<com.sirius.game.proto.ScoreOp> 
+      getOpsList();
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  com.sirius.game.proto.ScoreOp getOps(int index);
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  int getOpsCount();
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  java.util.List<? extends com.sirius.game.proto.ScoreOpOrBuilder> 
+      getOpsOrBuilderList();
+  /**
+   * <code>repeated .com.sirius.game.proto.ScoreOp ops = 1;</code>
+   */
+  com.sirius.game.proto.ScoreOpOrBuilder getOpsOrBuilder(
+      int index);
+}
@@ -0,0 +1,816 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+/**
+ * Protobuf type {@code com.sirius.game.proto.ScoreOp}
+ */
+public final class ScoreOp extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:com.sirius.game.proto.ScoreOp)
+    ScoreOpOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ScoreOp.newBuilder() to construct.
+  private ScoreOp(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ScoreOp() {
+    playerId_ = "";
+    opId_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ScoreOp();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreOp_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreOp_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.sirius.game.proto.ScoreOp.class, com.sirius.game.proto.ScoreOp.Builder.class);
+  }
+
+  public static final int PLAYER_ID_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object playerId_ = "";
+  /**
+   * <pre>
+   * 玩家ID
+   * </pre>
+   *
+   * <code>string player_id = 1;</code>
+   * @return The playerId.
+   */
+  @java.lang.Override
+  public java.lang.String getPlayerId() {
+    java.lang.Object ref = playerId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      playerId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * 玩家ID
+   * </pre>
+   *
+   * <code>string player_id = 1;</code>
+   * @return The bytes for playerId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getPlayerIdBytes() {
+    java.lang.Object ref = playerId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      playerId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int DELTA_FIELD_NUMBER = 2;
+  private int delta_ = 0;
+  /**
+   * <pre>
+   * 分数变化，可为负数
+   * </pre>
+   *
+   * <code>sint32 delta = 2;</code>
+   * @return The delta.
+   */
+  @java.lang.Override
+  public int getDelta() {
+    return delta_;
+  }
+
+  public static final int OP_ID_FIELD_NUMBER = 3;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object opId_ = "";
+  /**
+   * <pre>
+   * 幂等ID，重试时保持不变；为空时不做去重
+   * </pre>
+   *
+   * <code>string op_id = 3;</code>
+   * @return The opId.
+   */
+  @java.lang.Override
+  public java.lang.String getOpId() {
+    java.lang.Object ref = opId_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      opId_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * 幂等ID，重试时保持不变；为空时不做去重
+   * </pre>
+   *
+   * <code>string op_id = 3;</code>
+   * @return The bytes for opId.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getOpIdBytes() {
+    java.lang.Object ref = opId_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      opId_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, playerId_);
+    }
+    if (delta_ != 0) {
+      output.writeSInt32(2, delta_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(opId_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, opId_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(playerId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, playerId_);
+    }
+    if (delta_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeSInt32Size(2, delta_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(opId_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, opId_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.sirius.game.proto.ScoreOp)) {
+      return super.equals(obj);
+    }
+    com.sirius.game.proto.ScoreOp other = (com.sirius.game.proto.ScoreOp) obj;
+
+    if (!getPlayerId()
+        .equals(other.getPlayerId())) return false;
+    if (getDelta()
+        != other.getDelta()) return false;
+    if (!getOpId()
+        .equals(other.getOpId())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + PLAYER_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getPlayerId().hashCode();
+    hash = (37 * hash) + DELTA_FIELD_NUMBER;
+    hash = (53 * hash) + getDelta();
+    hash = (37 * hash) + OP_ID_FIELD_NUMBER;
+    hash = (53 * hash) + getOpId().hashCode();
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.sirius.game.proto.ScoreOp parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.sirius.game.proto.ScoreOp parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.sirius.game.proto.ScoreOp parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.sirius.game.proto.ScoreOp parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.sirius.game.proto.ScoreOp prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code com.sirius.game.proto.ScoreOp}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:com.sirius.game.proto.ScoreOp)
+      com.sirius.game.proto.ScoreOpOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreOp_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreOp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.sirius.game.proto.ScoreOp.class, com.sirius.game.proto.ScoreOp.Builder.class);
+    }
+
+    // Construct using com.sirius.game.proto.ScoreOp.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      playerId_ = "";
+      delta_ = 0;
+      opId_ = "";
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.sirius.game.proto.GameProtos.internal_static_com_sirius_game_proto_ScoreOp_descriptor;
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.ScoreOp getDefaultInstanceForType() {
+      return com.sirius.game.proto.ScoreOp.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.ScoreOp build() {
+      com.sirius.game.proto.ScoreOp result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.sirius.game.proto.ScoreOp buildPartial() {
+      com.sirius.game.proto.ScoreOp result = new com.sirius.game.proto.ScoreOp(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.sirius.game.proto.ScoreOp result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.playerId_ = playerId_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        result.delta_ = delta_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.opId_ = opId_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.sirius.game.proto.ScoreOp) {
+        return mergeFrom((com.sirius.game.proto.ScoreOp)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.sirius.game.proto.ScoreOp other) {
+      if (other == com.sirius.game.proto.ScoreOp.getDefaultInstance()) return this;
+      if (!other.getPlayerId().isEmpty()) {
+        playerId_ = other.playerId_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (other.getDelta() != 0) {
+        setDelta(other.getDelta());
+      }
+      if (!other.getOpId().isEmpty()) {
+        opId_ = other.opId_;
+        bitField0_ |= 0x00000004;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              playerId_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 16: {
+              delta_ = input.readSInt32();
+              bitField0_ |= 0x00000002;
+              break;
+            } // case 16
+            case 26: {
+              opId_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 26
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object playerId_ = "";
+    /**
+     * <pre>
+     * 玩家ID
+     * </pre>
+     *
+     * <code>string player_id = 1;</code>
+     * @return The playerId.
+     */
+    public java.lang.String getPlayerId() {
+      java.lang.Object ref = playerId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        playerId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 玩家ID
+     * </pre>
+     *
+     * <code>string player_id = 1;</code>
+     * @return The bytes for playerId.
+     */
+    public com.google.protobuf.ByteString
+        getPlayerIdBytes() {
+      java.lang.Object ref = playerId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        playerId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 玩家ID
+     * </pre>
+     *
+     * <code>string player_id = 1;</code>
+     * @param value The playerId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPlayerId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      playerId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 玩家ID
+     * </pre>
+     *
+     * <code>string player_id = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPlayerId() {
+      playerId_ = getDefaultInstance().getPlayerId();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 玩家ID
+     * </pre>
+     *
+     * <code>string player_id = 1;</code>
+     * @param value The bytes for playerId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPlayerIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      playerId_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private int delta_ ;
+    /**
+     * <pre>
+     * 分数变化，可为负数
+     * </pre>
+     *
+     * <code>sint32 delta = 2;</code>
+     * @return The delta.
+     */
+    @java.lang.Override
+    public int getDelta() {
+      return delta_;
+    }
+    /**
+     * <pre>
+     * 分数变化，可为负数
+     * </pre>
+     *
+     * <code>sint32 delta = 2;</code>
+     * @param value The delta to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDelta(int value) {
+
+      delta_ = value;
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 分数变化，可为负数
+     * </pre>
+     *
+     * <code>sint32 delta = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDelta() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      delta_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object opId_ = "";
+    /**
+     * <pre>
+     * 幂等ID，重试时保持不变；为空时不做去重
+     * </pre>
+     *
+     * <code>string op_id = 3;</code>
+     * @return The opId.
+     */
+    public java.lang.String getOpId() {
+      java.lang.Object ref = opId_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        opId_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 幂等ID，重试时保持不变；为空时不做去重
+     * </pre>
+     *
+     * <code>string op_id = 3;</code>
+     * @return The bytes for opId.
+     */
+    public com.google.protobuf.ByteString
+        getOpIdBytes() {
+      java.lang.Object ref = opId_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        opId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * 幂等ID，重试时保持不变；为空时不做去重
+     * </pre>
+     *
+     * <code>string op_id = 3;</code>
+     * @param value The opId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOpId(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      opId_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 幂等ID，重试时保持不变；为空时不做去重
+     * </pre>
+     *
+     * <code>string op_id = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOpId() {
+      opId_ = getDefaultInstance().getOpId();
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * 幂等ID，重试时保持不变；为空时不做去重
+     * </pre>
+     *
+     * <code>string op_id = 3;</code>
+     * @param value The bytes for opId to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOpIdBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      opId_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:com.sirius.game.proto.ScoreOp)
+  }
+
+  // @@protoc_insertion_point(class_scope:com.sirius.game.proto.ScoreOp)
+  private static final com.sirius.game.proto.ScoreOp DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.sirius.game.proto.ScoreOp();
+  }
+
+  public static com.sirius.game.proto.ScoreOp getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ScoreOp>
+      PARSER = new com.google.protobuf.AbstractParser<ScoreOp>() {
+    @java.lang.Override
+    public ScoreOp parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ScoreOp> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ScoreOp> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.sirius.game.proto.ScoreOp getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
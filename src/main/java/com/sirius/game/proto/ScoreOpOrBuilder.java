@@ -0,0 +1,60 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: game.proto
+
+// Protobuf Java Version: 3.25.1
+package com.sirius.game.proto;
+
+public interface ScoreOpOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:com.sirius.game.proto.ScoreOp)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * 玩家ID
+   * </pre>
+   *
+   * <code>string player_id = 1;</code>
+   * @return The playerId.
+   */
+  java.lang.String getPlayerId();
+  /**
+   * <pre>
+   * 玩家ID
+   * </pre>
+   *
+   * <code>string player_id = 1;</code>
+   * @return The bytes for playerId.
+   */
+  com.google.protobuf.ByteString
+      getPlayerIdBytes();
+
+  /**
+   * <pre>
+   * 分数变化，可为负数
+   * </pre>
+   *
+   * <code>sint32 delta = 2;</code>
+   * @return The delta.
+   */
+  int getDelta();
+
+  /**
+   * <pre>
+   * 幂等ID，重试时保持不变；为空时不做去重
+   * </pre>
+   *
+   * <code>string op_id = 3;</code>
+   * @return The opId.
+   */
+  java.lang.String getOpId();
+  /**
+   * <pre>
+   * 幂等ID，重试时保持不变；为空时不做去重
+   * </pre>
+   *
+   * <code>string op_id = 3;</code>
+   * @return The bytes for opId.
+   */
+  com.google.protobuf.ByteString
+      getOpIdBytes();
+}
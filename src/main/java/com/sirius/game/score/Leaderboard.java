@@ -0,0 +1,257 @@
+package com.sirius.game.score;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 实时排行榜，按(分数降序, playerId升序)排名。
+ * 玩家按playerId哈希分到多个分段，每段一把锁、一棵顺序统计树，不同分段的写入互不阻塞；
+ * 查询名次时在各分段内统计排在前面的人数后求和，O(分段数 * log n)。
+ * 跨分段查询不是同一时刻的快照，并发写入时名次可能有短暂的偏差
+ */
+public class Leaderboard implements LeaderboardView {
+
+    public static final int DEFAULT_STRIPES = 16;
+
+    static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparingInt(LeaderboardEntry::score).reversed()
+            .thenComparing(LeaderboardEntry::playerId);
+
+    private static final class Stripe {
+        private final Map<String, Integer> scores = new HashMap<>();
+        private final RankTree tree = new RankTree();
+        // 封存后不再接受updateIfOpen/addAllIfOpen的写入
+        private boolean sealed;
+    }
+
+    private final Stripe[] stripes;
+
+    public Leaderboard() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public Leaderboard(int stripes) {
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.tree.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return 没有分数时返回0
+     */
+    public int score(String playerId) {
+        Stripe stripe = stripe(playerId);
+        synchronized (stripe) {
+            return stripe.scores.getOrDefault(playerId, 0);
+        }
+    }
+
+    public int add(String playerId, int delta) {
+        return update(playerId, score -> score + delta);
+    }
+
+    /**
+     * 按原分数计算新分数，没有分数的玩家从0开始
+     *
+     * @return 新分数
+     */
+    public int update(String playerId, IntUnaryOperator function) {
+        Stripe stripe = stripe(playerId);
+        synchronized (stripe) {
+            return update(stripe, playerId, function);
+        }
+    }
+
+    /**
+     * 按顺序应用同一分段内的多条加分，只加一次锁。分段由stripeOf()确定，分段数相同的排行榜分段方式相同
+     *
+     * @param scores 不为null时写入每条变更后的分数
+     */
+    public void addAll(int stripe, List<ScoreDelta> deltas, int[] scores) {
+        Stripe target = stripes[stripe];
+        synchronized (target) {
+            addAll(target, deltas, scores);
+        }
+    }
+
+    /**
+     * 逐段在锁内标记封存。返回时已进入分段的写入都已完成，之后的updateIfOpen/addAllIfOpen不再生效
+     */
+    void seal() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.sealed = true;
+            }
+        }
+    }
+
+    /**
+     * @return 新分数，排行榜已封存时返回null且不做修改
+     */
+    Integer updateIfOpen(String playerId, IntUnaryOperator function) {
+        Stripe stripe = stripe(playerId);
+        synchronized (stripe) {
+            return stripe.sealed ? null : update(stripe, playerId, function);
+        }
+    }
+
+    /**
+     * @return 排行榜已封存时返回false且不做修改
+     */
+    boolean addAllIfOpen(int stripe, List<ScoreDelta> deltas, int[] scores) {
+        Stripe target = stripes[stripe];
+        synchronized (target) {
+            if (target.sealed) {
+                return false;
+            }
+            addAll(target, deltas, scores);
+            return true;
+        }
+    }
+
+    public int stripeOf(String playerId) {
+        int hash = playerId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    /**
+     * 调用方持有stripe的锁
+     */
+    private static void addAll(Stripe stripe, List<ScoreDelta> deltas, int[] scores) {
+        for (int i = 0; i < deltas.size(); i++) {
+            int delta = deltas.get(i).delta();
+            int score = update(stripe, deltas.get(i).playerId(), current -> current + delta);
+            if (scores != null) {
+                scores[i] = score;
+            }
+        }
+    }
+
+    /**
+     * 调用方持有stripe的锁
+     */
+    private static int update(Stripe stripe, String playerId, IntUnaryOperator function) {
+        Integer previous = stripe.scores.get(playerId);
+        int score = function.applyAsInt(previous != null ? previous : 0);
+        if (previous != null) {
+            if (previous == score) {
+                return score;
+            }
+            stripe.tree.remove(playerId, previous);
+        }
+        stripe.scores.put(playerId, score);
+        stripe.tree.insert(playerId, score);
+        return score;
+    }
+
+    @Override
+    public LeaderboardEntry rank(String playerId) {
+        Integer score;
+        Stripe own = stripe(playerId);
+        synchronized (own) {
+            score = own.scores.get(playerId);
+        }
+        if (score == null) {
+            return null;
+        }
+        int before = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                before += stripe.tree.countBefore(playerId, score);
+            }
+        }
+        return new LeaderboardEntry(before + 1, playerId, score);
+    }
+
+    /**
+     * 前n名。每个分段各取前n名后归并
+     */
+    @Override
+    public List<LeaderboardEntry> top(int n) {
+        List<LeaderboardEntry> candidates = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                candidates.addAll(stripe.tree.range(0, n));
+            }
+        }
+        candidates.sort(ORDER);
+        List<LeaderboardEntry> top = new ArrayList<>(Math.min(n, candidates.size()));
+        for (int i = 0; i < n && i < candidates.size(); i++) {
+            LeaderboardEntry entry = candidates.get(i);
+            top.add(new LeaderboardEntry(i + 1, entry.playerId(), entry.score()));
+        }
+        return top;
+    }
+
+    /**
+     * 全局相邻的条目一定在各分段内也相邻，每个分段只需取玩家位置前后各radius个
+     */
+    @Override
+    public List<LeaderboardEntry> around(String playerId, int radius) {
+        LeaderboardEntry self = rank(playerId);
+        if (self == null) {
+            return List.of();
+        }
+        List<LeaderboardEntry> before = new ArrayList<>();
+        List<LeaderboardEntry> after = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                int at = stripe.tree.countBefore(playerId, self.score());
+                int from = Math.max(0, at - radius);
+                before.addAll(stripe.tree.range(from, at - from));
+                for (LeaderboardEntry entry : stripe.tree.range(at, radius + 1)) {
+                    if (!entry.playerId().equals(playerId)) {
+                        after.add(entry);
+                    }
+                }
+            }
+        }
+        before.sort(ORDER);
+        after.sort(ORDER);
+        int beforeCount = Math.min(radius, before.size());
+        List<LeaderboardEntry> window = new ArrayList<>(beforeCount + 1 + Math.min(radius, after.size()));
+        for (int i = before.size() - beforeCount; i < before.size(); i++) {
+            LeaderboardEntry entry = before.get(i);
+            window.add(new LeaderboardEntry(self.rank() - (before.size() - i), entry.playerId(), entry.score()));
+        }
+        window.add(self);
+        for (int i = 0; i < radius && i < after.size(); i++) {
+            LeaderboardEntry entry = after.get(i);
+            window.add(new LeaderboardEntry(self.rank() + i + 1, entry.playerId(), entry.score()));
+        }
+        return window;
+    }
+
+    /**
+     * 所有玩家的分数，逐个分段复制，不保证各分段是同一时刻的状态
+     */
+    Map<String, Integer> scores() {
+        Map<String, Integer> scores = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                scores.putAll(stripe.scores);
+            }
+        }
+        return scores;
+    }
+
+    private Stripe stripe(String playerId) {
+        return stripes[stripeOf(playerId)];
+    }
+}
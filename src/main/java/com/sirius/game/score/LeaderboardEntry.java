@@ -0,0 +1,7 @@
+package com.sirius.game.score;
+
+/**
+ * @param rank 名次，从1开始
+ */
+public record LeaderboardEntry(int rank, String playerId, int score) {
+}
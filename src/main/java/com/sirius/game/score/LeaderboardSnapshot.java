@@ -0,0 +1,77 @@
+package com.sirius.game.score;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 冻结的排行榜：按名次排好的数组加playerId到名次的索引，创建后不再修改，查询不加锁，名次查询O(1)
+ */
+public final class LeaderboardSnapshot implements LeaderboardView {
+
+    private final String[] playerIds;
+    private final int[] scores;
+    private final Map<String, Integer> indexes;
+
+    private LeaderboardSnapshot(List<LeaderboardEntry> sorted) {
+        int size = sorted.size();
+        this.playerIds = new String[size];
+        this.scores = new int[size];
+        this.indexes = new HashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            LeaderboardEntry entry = sorted.get(i);
+            playerIds[i] = entry.playerId();
+            scores[i] = entry.score();
+            indexes.put(entry.playerId(), i);
+        }
+    }
+
+    /**
+     * 调用时排行榜应已不再写入
+     */
+    public static LeaderboardSnapshot of(Leaderboard leaderboard) {
+        Map<String, Integer> scores = leaderboard.scores();
+        List<LeaderboardEntry> sorted = new ArrayList<>(scores.size());
+        scores.forEach((playerId, score) -> sorted.add(new LeaderboardEntry(0, playerId, score)));
+        sorted.sort(Leaderboard.ORDER);
+        return new LeaderboardSnapshot(sorted);
+    }
+
+    @Override
+    public int size() {
+        return playerIds.length;
+    }
+
+    @Override
+    public LeaderboardEntry rank(String playerId) {
+        Integer index = indexes.get(playerId);
+        return index != null ? entry(index) : null;
+    }
+
+    @Override
+    public List<LeaderboardEntry> top(int n) {
+        return range(0, Math.min(n, playerIds.length));
+    }
+
+    @Override
+    public List<LeaderboardEntry> around(String playerId, int radius) {
+        Integer index = indexes.get(playerId);
+        if (index == null) {
+            return List.of();
+        }
+        return range(Math.max(0, index - radius), Math.min(playerIds.length, index + radius + 1));
+    }
+
+    private List<LeaderboardEntry> range(int from, int to) {
+        List<LeaderboardEntry> entries = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            entries.add(entry(i));
+        }
+        return entries;
+    }
+
+    private LeaderboardEntry entry(int index) {
+        return new LeaderboardEntry(index + 1, playerIds[index], scores[index]);
+    }
+}
@@ -0,0 +1,23 @@
+package com.sirius.game.score;
+
+import java.util.List;
+
+/**
+ * 排行榜的只读查询，实时榜与冻结的历史榜共用
+ */
+public interface LeaderboardView {
+
+    int size();
+
+    /**
+     * @return 玩家没有分数时返回null
+     */
+    LeaderboardEntry rank(String playerId);
+
+    List<LeaderboardEntry> top(int n);
+
+    /**
+     * @return 玩家自己及其前后各radius名，玩家没有分数时返回空列表
+     */
+    List<LeaderboardEntry> around(String playerId, int radius);
+}
@@ -0,0 +1,61 @@
+package com.sirius.game.score;
+
+import com.sirius.game.common.GameClock;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 记录已处理的opId。分新旧两代，每过ttl整代淘汰，一个opId至少保留ttl、至多2倍ttl，不需要逐条记录过期时间
+ */
+final class OpIdCache {
+
+    private final long ttlMillis;
+    private final GameClock clock;
+    private volatile Set<String> current = ConcurrentHashMap.newKeySet();
+    private volatile Set<String> previous = ConcurrentHashMap.newKeySet();
+    private volatile long rotateAt;
+
+    OpIdCache(long ttlMillis, GameClock clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.rotateAt = clock.millis() + ttlMillis;
+    }
+
+    /**
+     * @return opId第一次出现时返回true
+     */
+    boolean claim(String opId) {
+        if (clock.millis() >= rotateAt) {
+            rotate();
+        }
+        Set<String> older = previous;
+        if (older.contains(opId)) {
+            return false;
+        }
+        return current.add(opId) && !older.contains(opId);
+    }
+
+    /**
+     * 撤销claim，用于变更没有生效的情况；空opId不会被claim，忽略
+     */
+    void release(String opId) {
+        current.remove(opId);
+        previous.remove(opId);
+    }
+
+    int size() {
+        return current.size() + previous.size();
+    }
+
+    private synchronized void rotate() {
+        long now = clock.millis();
+        if (now < rotateAt) {
+            return;
+        }
+        // 超过两代没有写入时，旧的一代也已过期
+        previous = now < rotateAt + ttlMillis ? current : ConcurrentHashMap.newKeySet();
+        current = ConcurrentHashMap.newKeySet();
+        rotateAt = now + ttlMillis;
+    }
+}
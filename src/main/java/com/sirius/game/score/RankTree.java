@@ -0,0 +1,160 @@
+package com.sirius.game.score;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 按(分数降序, playerId升序)排序的顺序统计树（treap，节点记录子树大小），插入、删除、按名次查找都是O(log n)。
+ * 非线程安全，由调用方加锁
+ */
+final class RankTree {
+
+    private static final class Node {
+        private final String playerId;
+        private final int score;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(String playerId, int score, int priority) {
+            this.playerId = playerId;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(String playerId, int score) {
+        root = insert(root, new Node(playerId, score, ThreadLocalRandom.current().nextInt()));
+    }
+
+    void remove(String playerId, int score) {
+        root = remove(root, playerId, score);
+    }
+
+    /**
+     * @return 排在(score, playerId)之前的条目数
+     */
+    int countBefore(String playerId, int score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (compare(playerId, score, node) <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 从第from名（0开始）起按顺序取最多limit个条目，rank为树内名次
+     */
+    List<LeaderboardEntry> range(int from, int limit) {
+        int to = Math.min(size(), from + limit);
+        List<LeaderboardEntry> entries = new ArrayList<>(Math.max(0, to - from));
+        for (int i = Math.max(0, from); i < to; i++) {
+            Node node = select(i);
+            entries.add(new LeaderboardEntry(i + 1, node.playerId, node.score));
+        }
+        return entries;
+    }
+
+    private Node select(int index) {
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    private static int compare(String playerId, int score, Node node) {
+        int result = Integer.compare(node.score, score);
+        return result != 0 ? result : playerId.compareTo(node.playerId);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.playerId, inserted.score, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node remove(Node node, String playerId, int score) {
+        if (node == null) {
+            return null;
+        }
+        int result = compare(playerId, score, node);
+        if (result < 0) {
+            node.left = remove(node.left, playerId, score);
+        } else if (result > 0) {
+            node.right = remove(node.right, playerId, score);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (node.left.priority > node.right.priority) {
+            node = rotateRight(node);
+            node.right = remove(node.right, playerId, score);
+        } else {
+            node = rotateLeft(node);
+            node.left = remove(node.left, playerId, score);
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
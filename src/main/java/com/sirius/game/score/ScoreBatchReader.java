@@ -0,0 +1,86 @@
+package com.sirius.game.score;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import com.sirius.game.proto.ScoreBatch;
+import com.sirius.game.proto.ScoreOp;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 逐条读取批量请求体，不先把整个请求体读成字符串或完整的ScoreBatch对象。格式错误、超过条数上限时抛IllegalArgumentException
+ */
+final class ScoreBatchReader {
+
+    static final String NDJSON = "application/x-ndjson";
+    static final String PROTOBUF = "application/x-protobuf";
+
+    private ScoreBatchReader() {
+    }
+
+    /**
+     * 每行一个JSON对象：{"playerId":"alice","delta":10,"opId":"match-42/alice"}，空行忽略
+     */
+    static List<ScoreDelta> readNdjson(InputStream body, ObjectMapper objectMapper, int maxRecords) throws IOException {
+        List<ScoreDelta> deltas = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            checkLimit(deltas, maxRecords);
+            try {
+                deltas.add(normalize(objectMapper.readValue(line, ScoreDelta.class)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid record on line " + lineNumber + ": " + e.getOriginalMessage());
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 按字段逐个解析ScoreBatch.ops，每条ScoreOp解析完即转换
+     */
+    static List<ScoreDelta> readProtobuf(InputStream body, int maxRecords) throws IOException {
+        List<ScoreDelta> deltas = new ArrayList<>();
+        CodedInputStream input = CodedInputStream.newInstance(body);
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) == ScoreBatch.OPS_FIELD_NUMBER
+                    && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                checkLimit(deltas, maxRecords);
+                ScoreOp op = input.readMessage(ScoreOp.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                deltas.add(new ScoreDelta(op.getPlayerId(), op.getDelta(), op.getOpId()));
+            } else {
+                input.skipField(tag);
+            }
+        }
+        return deltas;
+    }
+
+    private static void checkLimit(List<ScoreDelta> deltas, int maxRecords) {
+        if (deltas.size() >= maxRecords) {
+            throw new IllegalArgumentException("Batch exceeds " + maxRecords + " records");
+        }
+    }
+
+    private static ScoreDelta normalize(ScoreDelta delta) {
+        if (delta.playerId() != null && delta.opId() != null) {
+            return delta;
+        }
+        return new ScoreDelta(delta.playerId() != null ? delta.playerId() : "", delta.delta(),
+                delta.opId() != null ? delta.opId() : "");
+    }
+}
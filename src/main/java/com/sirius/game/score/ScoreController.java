@@ -1,39 +1,153 @@
 package com.sirius.game.score;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.sirius.game.common.Result;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/score")
 public class ScoreController {
-    
-    private final ConcurrentHashMap<String, AtomicInteger> scoreMap = new ConcurrentHashMap<>();
-    
+
+    private static final int MAX_TOP = 1000;
+    private static final int MAX_RADIUS = 100;
+
+    private static final MediaType PROTOBUF = MediaType.parseMediaType(ScoreBatchReader.PROTOBUF);
+
+    private final ScoreService scoreService;
+    private final ObjectMapper objectMapper;
+
+    public ScoreController(ScoreService scoreService, ObjectMapper objectMapper) {
+        this.scoreService = scoreService;
+        this.objectMapper = objectMapper;
+    }
+
     @GetMapping("/get")
     public Result<Integer> getScore(@RequestParam String playerId) {
-        AtomicInteger score = scoreMap.get(playerId);
-        int currentScore = score != null ? score.get() : 0;
-        return Result.success(currentScore);
+        return Result.success(scoreService.score(playerId));
     }
-    
+
     @GetMapping("/add")
     public Result<Integer> addScore(@RequestParam String playerId, @RequestParam int points) {
-        AtomicInteger score = scoreMap.computeIfAbsent(playerId, k -> new AtomicInteger(0));
-        int newScore = score.addAndGet(points);
+        int newScore = scoreService.add(playerId, points);
         log.info("Added {} points to player {}. New score: {}", points, playerId, newScore);
         return Result.success(newScore);
     }
-    
+
     @GetMapping("/subtract")
     public Result<Integer> subtractScore(@RequestParam String playerId, @RequestParam int points) {
-        AtomicInteger score = scoreMap.computeIfAbsent(playerId, k -> new AtomicInteger(0));
-        int newScore = score.updateAndGet(current -> Math.max(0, current - points));
+        int newScore = scoreService.subtract(playerId, points);
         log.info("Subtracted {} points from player {}. New score: {}", points, playerId, newScore);
         return Result.success(newScore);
     }
-}
\ No newline at end of file
+
+    /**
+     * 批量修改分数，请求体为NDJSON（每行一个playerId、delta、opId对象）或protobuf的ScoreBatch。
+     * 相同opId的请求只生效一次，超时重试时保持opId不变即可
+     */
+    @PostMapping(value = "/batch", consumes = {ScoreBatchReader.NDJSON, ScoreBatchReader.PROTOBUF})
+    public Result<List<ScoreResult>> batch(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           InputStream body) throws IOException {
+        List<ScoreDelta> deltas;
+        try {
+            deltas = MediaType.parseMediaType(contentType).isCompatibleWith(PROTOBUF)
+                    ? ScoreBatchReader.readProtobuf(body, scoreService.maxBatch())
+                    : ScoreBatchReader.readNdjson(body, objectMapper, scoreService.maxBatch());
+        } catch (IllegalArgumentException | InvalidProtocolBufferException e) {
+            return Result.error(400, e.getMessage());
+        }
+        List<ScoreResult> results = scoreService.applyBatch(deltas);
+        log.info("Applied score batch of {} records", results.size());
+        return Result.success(results);
+    }
+
+    @GetMapping("/rank")
+    public Result<LeaderboardEntry> getRank(@RequestParam String playerId) {
+        return rank(scoreService.allTime(), playerId);
+    }
+
+    @GetMapping("/top")
+    public Result<List<LeaderboardEntry>> getTop(@RequestParam(defaultValue = "100") int n) {
+        return top(scoreService.allTime(), n);
+    }
+
+    @GetMapping("/around")
+    public Result<List<LeaderboardEntry>> getAround(@RequestParam String playerId,
+                                                    @RequestParam(defaultValue = "5") int radius) {
+        return around(scoreService.allTime(), playerId, radius);
+    }
+
+    /**
+     * offset为0查询当前窗口，1为上一个已结束的窗口
+     */
+    @GetMapping("/window/{name}/rank")
+    public Result<LeaderboardEntry> getWindowRank(@PathVariable String name, @RequestParam String playerId,
+                                                  @RequestParam(defaultValue = "0") int offset) {
+        LeaderboardView view = window(name, offset);
+        if (view == null) {
+            return Result.error(404, "Leaderboard window " + name + "[" + offset + "] not found");
+        }
+        return rank(view, playerId);
+    }
+
+    @GetMapping("/window/{name}/top")
+    public Result<List<LeaderboardEntry>> getWindowTop(@PathVariable String name,
+                                                       @RequestParam(defaultValue = "100") int n,
+                                                       @RequestParam(defaultValue = "0") int offset) {
+        LeaderboardView view = window(name, offset);
+        if (view == null) {
+            return Result.error(404, "Leaderboard window " + name + "[" + offset + "] not found");
+        }
+        return top(view, n);
+    }
+
+    @GetMapping("/window/{name}/around")
+    public Result<List<LeaderboardEntry>> getWindowAround(@PathVariable String name, @RequestParam String playerId,
+                                                          @RequestParam(defaultValue = "5") int radius,
+                                                          @RequestParam(defaultValue = "0") int offset) {
+        LeaderboardView view = window(name, offset);
+        if (view == null) {
+            return Result.error(404, "Leaderboard window " + name + "[" + offset + "] not found");
+        }
+        return around(view, playerId, radius);
+    }
+
+    private LeaderboardView window(String name, int offset) {
+        WindowedLeaderboard window = scoreService.window(name);
+        return window != null && offset >= 0 ? window.view(offset) : null;
+    }
+
+    private static Result<LeaderboardEntry> rank(LeaderboardView view, String playerId) {
+        LeaderboardEntry entry = view.rank(playerId);
+        if (entry == null) {
+            return Result.error(404, "Player " + playerId + " has no score");
+        }
+        return Result.success(entry);
+    }
+
+    private static Result<List<LeaderboardEntry>> top(LeaderboardView view, int n) {
+        if (n <= 0 || n > MAX_TOP) {
+            return Result.error(400, "n must be between 1 and " + MAX_TOP);
+        }
+        return Result.success(view.top(n));
+    }
+
+    private static Result<List<LeaderboardEntry>> around(LeaderboardView view, String playerId, int radius) {
+        if (radius < 0 || radius > MAX_RADIUS) {
+            return Result.error(400, "radius must be between 0 and " + MAX_RADIUS);
+        }
+        List<LeaderboardEntry> window = view.around(playerId, radius);
+        if (window.isEmpty()) {
+            return Result.error(404, "Player " + playerId + " has no score");
+        }
+        return Result.success(window);
+    }
+}
@@ -0,0 +1,9 @@
+package com.sirius.game.score;
+
+/**
+ * 批量接口中的一条分数变更
+ *
+ * @param opId 幂等ID，为空时不做去重
+ */
+public record ScoreDelta(String playerId, int delta, String opId) {
+}
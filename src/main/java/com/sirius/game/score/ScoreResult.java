@@ -0,0 +1,14 @@
+package com.sirius.game.score;
+
+/**
+ * @param score 变更后的总分；重复的请求返回当前总分
+ */
+public record ScoreResult(String opId, String playerId, int score, Status status) {
+
+    public enum Status {
+        APPLIED,
+        // opId已处理过，本次没有修改分数
+        DUPLICATE,
+        INVALID
+    }
+}
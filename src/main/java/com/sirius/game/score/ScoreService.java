@@ -0,0 +1,170 @@
+package com.sirius.game.score;
+
+import com.sirius.game.common.GameClock;
+import com.sirius.game.metrics.GameMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 总榜与各时间窗口榜。每次分数变更同时作用于总榜和所有窗口榜，窗口榜记录的是窗口内获得的分数
+ */
+@Slf4j
+@Service
+public class ScoreService {
+
+    private static final LongAdder BATCH_RECORDS = GameMetrics.counter("score.batch.records");
+    private static final LongAdder BATCH_DUPLICATES = GameMetrics.counter("score.batch.duplicates");
+    private static final LongAdder BATCH_INVALID = GameMetrics.counter("score.batch.invalid");
+
+    private final Leaderboard allTime;
+    private final Map<String, WindowedLeaderboard> windows = new LinkedHashMap<>();
+    private final OpIdCache opIds;
+    private final int maxBatch;
+
+    /**
+     * @param windowSpecs 窗口名=周期，如daily=1d,weekly=7d
+     * @param origin      窗口切分的起点，决定每天、每周从什么时刻开始
+     */
+    public ScoreService(GameClock clock,
+                        @Value("${game.score.stripes:16}") int stripes,
+                        @Value("${game.score.windows:daily=1d,weekly=7d,season=28d}") List<String> windowSpecs,
+                        @Value("${game.score.window-origin:2024-01-01T00:00:00Z}") String origin,
+                        @Value("${game.score.window-history:4}") int history,
+                        @Value("${game.score.freeze-grace-millis:5000}") long freezeGraceMillis,
+                        @Value("${game.score.op-id-ttl-millis:600000}") long opIdTtlMillis,
+                        @Value("${game.score.max-batch:10000}") int maxBatch) {
+        this.allTime = new Leaderboard(stripes);
+        this.opIds = new OpIdCache(opIdTtlMillis, clock);
+        this.maxBatch = maxBatch;
+        GameMetrics.register("score.op-ids", opIds::size);
+        long originMillis = OffsetDateTime.parse(origin).toInstant().toEpochMilli();
+        for (String spec : windowSpecs) {
+            int separator = spec.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid leaderboard window " + spec + ", expected name=period");
+            }
+            String name = spec.substring(0, separator).trim();
+            long periodMillis = DurationStyle.detectAndParse(spec.substring(separator + 1).trim()).toMillis();
+            windows.put(name, new WindowedLeaderboard(name, periodMillis, originMillis, stripes, history,
+                    freezeGraceMillis, clock));
+            log.info("Leaderboard window {} every {} ms from {}", name, periodMillis, origin);
+        }
+    }
+
+    public int maxBatch() {
+        return maxBatch;
+    }
+
+    public Leaderboard allTime() {
+        return allTime;
+    }
+
+    /**
+     * @return 不存在该窗口时返回null
+     */
+    public WindowedLeaderboard window(String name) {
+        return windows.get(name);
+    }
+
+    public int score(String playerId) {
+        return allTime.score(playerId);
+    }
+
+    public int add(String playerId, int points) {
+        return update(playerId, score -> score + points);
+    }
+
+    public int subtract(String playerId, int points) {
+        return update(playerId, score -> Math.max(0, score - points));
+    }
+
+    /**
+     * 先按opId去重，再按玩家所在分段分组，每个分段在每个榜上只加一次锁。同一玩家的多条变更保持请求中的顺序。
+     * 各窗口的实时榜在写入前统一取得，每个分段先写总榜，之后的窗口写入不会失败；
+     * 应用中途失败时，尚未写入总榜的分段的opId被释放后抛出异常，重试时这些变更会重新应用
+     *
+     * @return 与请求顺序一一对应的结果
+     */
+    public List<ScoreResult> applyBatch(List<ScoreDelta> deltas) {
+        int size = deltas.size();
+        ScoreResult.Status[] statuses = new ScoreResult.Status[size];
+        int[] scores = new int[size];
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            ScoreDelta delta = deltas.get(i);
+            if (delta.playerId().isEmpty()) {
+                statuses[i] = ScoreResult.Status.INVALID;
+            } else if (!delta.opId().isEmpty() && !opIds.claim(delta.opId())) {
+                statuses[i] = ScoreResult.Status.DUPLICATE;
+            } else {
+                statuses[i] = ScoreResult.Status.APPLIED;
+                groups.computeIfAbsent(allTime.stripeOf(delta.playerId()), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Set<Integer> applied = new HashSet<>();
+        try {
+            // 换榜需要读时钟，可能失败，必须在任何写入之前完成
+            Map<WindowedLeaderboard, Leaderboard> live = new LinkedHashMap<>();
+            for (WindowedLeaderboard window : windows.values()) {
+                live.put(window, window.live());
+            }
+            groups.forEach((stripe, indexes) -> {
+                List<ScoreDelta> group = new ArrayList<>(indexes.size());
+                indexes.forEach(index -> group.add(deltas.get(index)));
+                int[] groupScores = new int[group.size()];
+                allTime.addAll(stripe, group, groupScores);
+                applied.add(stripe);
+                live.forEach((window, board) -> window.addAll(board, stripe, group));
+                for (int i = 0; i < indexes.size(); i++) {
+                    scores[indexes.get(i)] = groupScores[i];
+                }
+            });
+        } catch (RuntimeException e) {
+            // 没有生效的变更释放opId，否则重试时会被当成重复请求
+            groups.forEach((stripe, indexes) -> {
+                if (!applied.contains(stripe)) {
+                    indexes.forEach(index -> opIds.release(deltas.get(index).opId()));
+                }
+            });
+            throw e;
+        }
+
+        List<ScoreResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ScoreDelta delta = deltas.get(i);
+            if (statuses[i] == ScoreResult.Status.DUPLICATE) {
+                scores[i] = allTime.score(delta.playerId());
+                BATCH_DUPLICATES.increment();
+            } else if (statuses[i] == ScoreResult.Status.INVALID) {
+                BATCH_INVALID.increment();
+            }
+            results.add(new ScoreResult(delta.opId(), delta.playerId(), scores[i], statuses[i]));
+        }
+        BATCH_RECORDS.add(size);
+        return results;
+    }
+
+    /**
+     * @return 总榜上的新分数
+     */
+    private int update(String playerId, IntUnaryOperator function) {
+        for (WindowedLeaderboard window : windows.values()) {
+            window.update(playerId, function);
+        }
+        return allTime.update(playerId, function);
+    }
+}
@@ -0,0 +1,142 @@
+package com.sirius.game.score;
+
+import com.sirius.game.common.GameClock;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 按固定周期滚动的排行榜（日榜、周榜、赛季榜）。时间轴从origin起按period切成窗口，每个窗口一个实时榜。
+ * <p>
+ * 进入新窗口时第一个写入者用一次CAS换上新的实时榜，其他写入者不等待；
+ * 旧榜保留freezeGraceMillis供换榜前已读到旧引用的写入完成，之后在后台封存并冻结为LeaderboardSnapshot；
+ * 封存后才到达的旧引用写入转入当前窗口，不会既不在快照里也不在新榜上。
+ * 只保留最近history个已结束的窗口，更早的自动丢弃
+ */
+@Slf4j
+public class WindowedLeaderboard {
+
+    private record Window(long index, Leaderboard leaderboard) {
+    }
+
+    private final String name;
+    private final long periodMillis;
+    private final long originMillis;
+    private final int stripes;
+    private final int history;
+    private final long freezeGraceMillis;
+    private final GameClock clock;
+
+    private final AtomicReference<Window> current;
+    // 已结束的窗口，冻结前是原来的Leaderboard，冻结后替换为LeaderboardSnapshot
+    private final ConcurrentSkipListMap<Long, LeaderboardView> closed = new ConcurrentSkipListMap<>();
+
+    public WindowedLeaderboard(String name, long periodMillis, long originMillis, int stripes, int history,
+                               long freezeGraceMillis, GameClock clock) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Window " + name + " period must be positive");
+        }
+        this.name = name;
+        this.periodMillis = periodMillis;
+        this.originMillis = originMillis;
+        this.stripes = stripes;
+        this.history = history;
+        this.freezeGraceMillis = freezeGraceMillis;
+        this.clock = clock;
+        this.current = new AtomicReference<>(new Window(indexOf(clock.millis()), new Leaderboard(stripes)));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return 当前窗口内的新分数
+     */
+    public int update(String playerId, IntUnaryOperator function) {
+        return update(live(), playerId, function);
+    }
+
+    public void addAll(int stripe, List<ScoreDelta> deltas) {
+        addAll(live(), stripe, deltas);
+    }
+
+    /**
+     * 当前窗口的实时榜，进入新窗口时先换榜
+     */
+    Leaderboard live() {
+        return window().leaderboard();
+    }
+
+    /**
+     * 写入之前取得的实时榜；该榜已封存时改写当前窗口，不再读时钟
+     */
+    int update(Leaderboard board, String playerId, IntUnaryOperator function) {
+        Integer score;
+        while ((score = board.updateIfOpen(playerId, function)) == null) {
+            board = current.get().leaderboard();
+        }
+        return score;
+    }
+
+    /**
+     * 同update(Leaderboard, String, IntUnaryOperator)，写入同一分段的一批加分
+     */
+    void addAll(Leaderboard board, int stripe, List<ScoreDelta> deltas) {
+        while (!board.addAllIfOpen(stripe, deltas, null)) {
+            board = current.get().leaderboard();
+        }
+    }
+
+    /**
+     * @param offset 0为当前窗口，1为上一个窗口，依此类推
+     * @return 窗口不存在（超出保留范围或期间没有任何分数）时返回null
+     */
+    public LeaderboardView view(int offset) {
+        Window window = window();
+        if (offset == 0) {
+            return window.leaderboard();
+        }
+        return closed.get(window.index() - offset);
+    }
+
+    private long indexOf(long millis) {
+        return Math.floorDiv(millis - originMillis, periodMillis);
+    }
+
+    private Window window() {
+        long index = indexOf(clock.millis());
+        while (true) {
+            Window window = current.get();
+            // 时钟回拨时继续写当前窗口
+            if (window.index() >= index) {
+                return window;
+            }
+            Window next = new Window(index, new Leaderboard(stripes));
+            if (current.compareAndSet(window, next)) {
+                close(window);
+                return next;
+            }
+        }
+    }
+
+    private void close(Window window) {
+        Leaderboard leaderboard = window.leaderboard();
+        closed.put(window.index(), leaderboard);
+        while (closed.size() > history) {
+            closed.pollFirstEntry();
+        }
+        log.info("Leaderboard {} window {} closed with {} players", name, window.index(), leaderboard.size());
+        CompletableFuture.runAsync(() -> {
+            leaderboard.seal();
+            LeaderboardSnapshot snapshot = LeaderboardSnapshot.of(leaderboard);
+            // 冻结期间窗口可能已超出保留范围被丢弃，此时不再放回
+            closed.replace(window.index(), leaderboard, snapshot);
+        }, CompletableFuture.delayedExecutor(freezeGraceMillis, TimeUnit.MILLISECONDS));
+    }
+}
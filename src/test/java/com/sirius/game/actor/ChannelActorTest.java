@@ -0,0 +1,81 @@
+package com.sirius.game.actor;
+
+import akka.actor.testkit.typed.javadsl.TestProbe;
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.cluster.sharding.typed.javadsl.ClusterSharding;
+import com.sirius.game.common.VirtualGameClock;
+import com.sirius.game.gateway.ClientHandle;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ChannelActorTest {
+
+    private static ActorSystem<Object> system;
+
+    @BeforeAll
+    public static void setUp() {
+        system = ActorSystem.create(Behaviors.empty(), "ChannelActorTest",
+                ConfigFactory.parseString("game.channel.idle-timeout = 200ms").withFallback(ConfigFactory.load()));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        system.terminate();
+    }
+
+    @Test
+    public void testCommandsDuringPassivationAreRerouted() {
+        TestProbe<Object> shard = TestProbe.create(system);
+        TestProbe<Object> router = TestProbe.create(system);
+        TestProbe<Object> client = TestProbe.create(system);
+        ActorRef<Object> channel = system.systemActorOf(ChannelActor.create("world", new VirtualGameClock(0, 1),
+                shard.ref().narrow(), router.ref()::tell), "channel-world", ActorKind.ROOM.props());
+
+        ClusterSharding.Passivate<?> passivate = shard.expectMessageClass(ClusterSharding.Passivate.class);
+        assertEquals(channel, passivate.entity());
+
+        // shard开始缓冲之前已经投递到频道的Join不能被频道处理后随之丢失
+        ChannelActor.Join join = new ChannelActor.Join("alice", new ClientHandle(client.ref()));
+        channel.tell(join);
+        assertEquals(join, router.receiveMessage());
+        client.expectNoMessage(Duration.ofMillis(100));
+
+        channel.tell(ChannelActor.Stop.INSTANCE);
+        shard.expectTerminated(channel);
+    }
+
+    @Test
+    public void testRootActorBuffersCommandsWhileChannelStops() {
+        ActorSystem<Object> root = ActorSystem.create(RootActor.create(new HashMap<>(), new VirtualGameClock(0, 1)),
+                "RootActorTest", system.settings().config());
+        try {
+            TestProbe<Object> client = TestProbe.create(root);
+            ClientHandle handle = new ClientHandle(client.ref());
+            root.tell(new RootActor.ChannelCommand("world", new ChannelActor.Join("alice", handle)));
+            assertEquals(MessageType.SC_JOIN_CHANNEL_RESULT, client.expectMessageClass(GameMessage.class).getType());
+            root.tell(new RootActor.ChannelCommand("world", new ChannelActor.Leave("alice", null)));
+
+            // 空闲停止前后任意时刻加入都能收到结果
+            for (int i = 0; i < 10; i++) {
+                client.expectNoMessage(Duration.ofMillis(30 * i));
+                root.tell(new RootActor.ChannelCommand("world", new ChannelActor.Join("alice", handle)));
+                GameMessage result = client.expectMessageClass(GameMessage.class);
+                assertEquals(1, result.getScJoinChannelResult().getMemberCount());
+                root.tell(new RootActor.ChannelCommand("world", new ChannelActor.Leave("alice", null)));
+            }
+        } finally {
+            root.terminate();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.sirius.game.actor;
+
+import akka.actor.testkit.typed.javadsl.TestProbe;
+import akka.actor.typed.ActorRef;
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.javadsl.Behaviors;
+import com.sirius.game.common.VirtualGameClock;
+import com.sirius.game.gateway.ClientHandle;
+import com.sirius.game.persistence.InMemoryPlayerStateStore;
+import com.sirius.game.persistence.OfflineInbox;
+import com.sirius.game.proto.CSSendMessage;
+import com.sirius.game.proto.DeliveryStatus;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import com.sirius.game.proto.SCReceiveMessage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlayerActorTest {
+
+    private static ActorSystem<Object> system;
+    private static PlayerDirectory directory;
+    // 存入离线信箱的接收者
+    private static final Queue<String> STORED = new ConcurrentLinkedQueue<>();
+
+    @BeforeAll
+    public static void setUp() {
+        system = ActorSystem.create(Behaviors.empty(), "PlayerActorTest");
+        OfflineInbox inbox = new OfflineInbox() {
+            @Override
+            public boolean store(String playerId, SCReceiveMessage message) {
+                STORED.add(playerId);
+                return true;
+            }
+
+            @Override
+            public CompletionStage<List<SCReceiveMessage>> take(String playerId) {
+                return CompletableFuture.completedFuture(List.of());
+            }
+        };
+        directory = new LocalPlayerDirectory(system, new ConcurrentHashMap<>(), new InMemoryPlayerStateStore(),
+                inbox, new VirtualGameClock(0, 1), false);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        system.terminate();
+    }
+
+    private static ActorRef<Object> attach(String playerId, TestProbe<Object> client) {
+        ActorRef<Object> player = system.systemActorOf(PlayerActor.create(playerId, directory, null),
+                playerId, ActorKind.PLAYER.props());
+        player.tell(new PlayerActor.Attach(new ClientHandle(client.ref()), "token", false));
+        return player;
+    }
+
+    private static GameMessage sendTo(String to) {
+        return GameMessage.newBuilder()
+                .setType(MessageType.CS_SEND_MESSAGE)
+                .setCsSendMessage(CSSendMessage.newBuilder().setTo(to).setContent("hello"))
+                .build();
+    }
+
+    @Test
+    public void testRejectsInvalidAndSelfRecipients() {
+        TestProbe<Object> client = TestProbe.create(system);
+        ActorRef<Object> alice = attach("alice", client);
+
+        for (String to : List.of("", " ", "bob\n", "b".repeat(200), "alice")) {
+            alice.tell(sendTo(to));
+            GameMessage result = client.expectMessageClass(GameMessage.class);
+            assertEquals(MessageType.SC_SEND_MESSAGE_RESULT, result.getType());
+            assertEquals(to, result.getScSendMessageResult().getTo());
+            assertEquals(DeliveryStatus.INVALID_RECIPIENT, result.getScSendMessageResult().getStatus());
+        }
+        assertTrue(STORED.isEmpty());
+        assertNull(directory.remotePlayer(""));
+    }
+}
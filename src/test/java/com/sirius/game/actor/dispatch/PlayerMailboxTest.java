@@ -0,0 +1,111 @@
+package com.sirius.game.actor.dispatch;
+
+import akka.actor.typed.ActorRef;
+import akka.dispatch.Envelope;
+import akka.dispatch.MessageQueue;
+import com.sirius.game.actor.PlayerActor;
+import com.sirius.game.metrics.GameMetrics;
+import com.sirius.game.proto.CSSendMessage;
+import com.sirius.game.proto.DeliveryStatus;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import com.typesafe.config.ConfigFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import scala.Option;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class PlayerMailboxTest {
+
+    private static MessageQueue queue(int capacity, String policy) {
+        PlayerMailbox mailbox = new PlayerMailbox(null, ConfigFactory.parseString(
+                "mailbox-capacity = " + capacity + "\noverflow-policy = " + policy));
+        return mailbox.create(Option.empty(), Option.empty());
+    }
+
+    private static GameMessage chat(String content) {
+        return GameMessage.newBuilder()
+                .setType(MessageType.CS_SEND_MESSAGE)
+                .setCsSendMessage(CSSendMessage.newBuilder().setContent(content))
+                .build();
+    }
+
+    private static Object next(MessageQueue queue) {
+        Envelope envelope = queue.dequeue();
+        return envelope == null ? null : envelope.message();
+    }
+
+    @Test
+    public void testControlMessagesJumpAheadOfChat() {
+        MessageQueue queue = queue(10, "drop-oldest");
+        GameMessage chat = chat("hello");
+        queue.enqueue(null, new Envelope(chat, null));
+        queue.enqueue(null, new Envelope("attach", null));
+
+        assertEquals(2, queue.numberOfMessages());
+        assertEquals("attach", next(queue));
+        assertEquals(chat, next(queue));
+        assertNull(next(queue));
+    }
+
+    @Test
+    public void testDropOldest() {
+        MessageQueue queue = queue(2, "drop-oldest");
+        queue.enqueue(null, new Envelope(chat("1"), null));
+        queue.enqueue(null, new Envelope(chat("2"), null));
+        queue.enqueue(null, new Envelope(chat("3"), null));
+
+        assertEquals(2, queue.numberOfMessages());
+        assertEquals(chat("2"), next(queue));
+        assertEquals(chat("3"), next(queue));
+    }
+
+    @Test
+    public void testReject() {
+        MessageQueue queue = queue(2, "reject");
+        queue.enqueue(null, new Envelope(chat("1"), null));
+        queue.enqueue(null, new Envelope(chat("2"), null));
+        queue.enqueue(null, new Envelope(chat("3"), null));
+
+        assertEquals(chat("1"), next(queue));
+        assertEquals(chat("2"), next(queue));
+        assertNull(next(queue));
+    }
+
+    @Test
+    public void testRawFramesUseCarriedTypeAndAreReleasedWhenRejected() {
+        MessageQueue queue = queue(1, "reject");
+        // payload不是合法的protobuf，分类只能依据网关带过来的type
+        ByteBuf login = Unpooled.wrappedBuffer(new byte[]{1, 2, 3});
+        ByteBuf chat = Unpooled.wrappedBuffer(new byte[]{4, 5, 6});
+        ByteBuf rejected = Unpooled.wrappedBuffer(new byte[]{7, 8, 9});
+        queue.enqueue(null, new Envelope(new PlayerActor.Frame(MessageType.CS_SEND_MESSAGE, chat), null));
+        queue.enqueue(null, new Envelope(new PlayerActor.Frame(MessageType.CS_SEND_MESSAGE, rejected), null));
+        queue.enqueue(null, new Envelope(new PlayerActor.Frame(MessageType.CS_LOGIN, login), null));
+
+        assertEquals(0, rejected.refCnt());
+        assertEquals(new PlayerActor.Frame(MessageType.CS_LOGIN, login), next(queue));
+        assertEquals(new PlayerActor.Frame(MessageType.CS_SEND_MESSAGE, chat), next(queue));
+        assertNull(next(queue));
+    }
+
+    @Test
+    public void testRejectedDeliverReportsDropped() {
+        MessageQueue queue = queue(1, "reject");
+        ActorRef<Object> sender = mock();
+        long dropped = GameMetrics.snapshot().get("actor.player.mailbox.deliveries-dropped");
+        PlayerActor.Deliver accepted = new PlayerActor.Deliver(1L, "bob", chat("1"), sender);
+        queue.enqueue(null, new Envelope(accepted, null));
+        queue.enqueue(null, new Envelope(new PlayerActor.Deliver(2L, "bob", chat("2"), sender), null));
+
+        verify(sender).tell(new PlayerActor.DeliveryReport(2L, "bob", DeliveryStatus.DROPPED));
+        assertEquals(dropped + 1, GameMetrics.snapshot().get("actor.player.mailbox.deliveries-dropped"));
+        assertEquals(accepted, next(queue));
+        assertNull(next(queue));
+    }
+}
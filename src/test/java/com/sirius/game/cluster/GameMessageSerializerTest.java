@@ -0,0 +1,92 @@
+package com.sirius.game.cluster;
+
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.javadsl.Adapter;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializer;
+import akka.serialization.Serializers;
+import com.sirius.game.actor.ChannelActor;
+import com.sirius.game.actor.ConnectionActor;
+import com.sirius.game.actor.PlayerActor;
+import com.sirius.game.gateway.ClientHandle;
+import com.sirius.game.proto.CSChannelMessage;
+import com.sirius.game.proto.CSLogin;
+import com.sirius.game.proto.DeliveryStatus;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import com.sirius.game.proto.SCReceiveMessage;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class GameMessageSerializerTest {
+
+    private static ActorSystem<Object> system;
+    private static Serialization serialization;
+
+    @BeforeAll
+    public static void setUp() {
+        system = ActorSystem.create(Behaviors.empty(), "SerializerTest");
+        serialization = SerializationExtension.get(Adapter.toClassic(system));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        system.terminate();
+    }
+
+    private static Object roundTrip(Object message) {
+        Serializer serializer = serialization.findSerializerFor(message);
+        assertInstanceOf(GameMessageSerializer.class, serializer);
+        byte[] bytes = serialization.serialize(message).get();
+        return serialization.deserialize(bytes, serializer.identifier(), Serializers.manifestFor(serializer, message)).get();
+    }
+
+    @Test
+    public void testProtoMessages() {
+        GameMessage message = GameMessage.newBuilder()
+                .setType(MessageType.CS_LOGIN)
+                .setCsLogin(CSLogin.newBuilder().setUsername("alice"))
+                .build();
+        assertEquals(message, roundTrip(message));
+    }
+
+    @Test
+    public void testRawFrame() {
+        GameMessage message = GameMessage.newBuilder()
+                .setType(MessageType.CS_SEND_MESSAGE)
+                .build();
+        PlayerActor.Frame frame = new PlayerActor.Frame(MessageType.CS_SEND_MESSAGE,
+                Unpooled.wrappedBuffer(message.toByteArray()));
+        assertEquals(frame, roundTrip(frame));
+        // 序列化不移动payload的读下标
+        assertEquals(message.getSerializedSize(), frame.payload().readableBytes());
+    }
+
+    @Test
+    public void testInternalCommands() {
+        ClientHandle client = new ClientHandle(system);
+        assertEquals(new PlayerActor.Attach(client, "token", true), roundTrip(new PlayerActor.Attach(client, "token", true)));
+        assertEquals(new PlayerActor.Detach(client), roundTrip(new PlayerActor.Detach(client)));
+        GameMessage message = GameMessage.newBuilder()
+                .setType(MessageType.SC_RECEIVE_MESSAGE)
+                .setScReceiveMessage(SCReceiveMessage.newBuilder().setFrom("alice").setTo("bob").setContent("hi"))
+                .build();
+        PlayerActor.Deliver deliver = new PlayerActor.Deliver(42L, "bob", message, system);
+        assertEquals(deliver, roundTrip(deliver));
+        assertEquals(new PlayerActor.DeliveryReport(42L, "bob", DeliveryStatus.DELIVERED),
+                roundTrip(new PlayerActor.DeliveryReport(42L, "bob", DeliveryStatus.DELIVERED)));
+        assertEquals(new ChannelActor.Leave("alice", null), roundTrip(new ChannelActor.Leave("alice", null)));
+        ChannelActor.Publish publish = new ChannelActor.Publish("alice",
+                CSChannelMessage.newBuilder().setChannel("world").setContent("hi").build());
+        assertEquals(publish, roundTrip(publish));
+        assertSame(ConnectionActor.Stop.INSTANCE, roundTrip(ConnectionActor.Stop.INSTANCE));
+    }
+}
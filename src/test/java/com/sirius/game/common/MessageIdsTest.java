@@ -0,0 +1,25 @@
+package com.sirius.game.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageIdsTest {
+
+    @Test
+    public void testIdsAreIncreasingAndCarryNodeAndTime() {
+        VirtualGameClock clock = new VirtualGameClock(System.currentTimeMillis(), 1);
+        MessageIds.configure(5, clock);
+        long before = clock.millis();
+        long previous = MessageIds.next();
+        // 超过单毫秒4096个序号，借用后续毫秒时也保持递增
+        for (int i = 0; i < 10_000; i++) {
+            long id = MessageIds.next();
+            assertTrue(id > previous);
+            assertEquals(5, MessageIds.nodeId(id));
+            previous = id;
+        }
+        assertTrue(MessageIds.timestamp(previous) >= before);
+    }
+}
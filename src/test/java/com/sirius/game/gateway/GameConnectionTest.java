@@ -0,0 +1,131 @@
+package com.sirius.game.gateway;
+
+import com.sirius.game.common.VirtualGameClock;
+import com.sirius.game.metrics.GameMetrics;
+import com.sirius.game.proto.MessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.vertx.core.http.ServerWebSocket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class GameConnectionTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+
+    @AfterEach
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    private GameConnection connect(SlowConsumerPolicy policy) {
+        return connect(new OutboundOptions()
+                .setMaxPendingBytes(100)
+                .setSlowConsumerPolicy(policy));
+    }
+
+    private GameConnection connect(OutboundOptions options) {
+        return new GameConnection(mock(ServerWebSocket.class), channel.pipeline().firstContext(),
+                options, new VirtualGameClock(0, 1));
+    }
+
+    private static ByteBuf frame(int marker) {
+        return Unpooled.buffer(60).writeZero(59).writeByte(marker);
+    }
+
+    /**
+     * @return 下一个写出的帧的标记字节，没有帧时返回-1
+     */
+    private int nextWritten() {
+        BinaryWebSocketFrame frame = channel.readOutbound();
+        if (frame == null) {
+            return -1;
+        }
+        try {
+            return frame.content().getByte(frame.content().readableBytes() - 1);
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    public void testDropLowPriorityWhenBacklogged() {
+        GameConnection connection = connect(SlowConsumerPolicy.DROP);
+        long dropped = GameMetrics.snapshot().get("gateway.frames.dropped");
+
+        // flush要等event loop执行排队的任务，此前发送的帧都计入积压
+        assertTrue(connection.sendFrame(MessageType.SC_CHANNEL_MESSAGE, frame(1)));
+        ByteBuf overflow = frame(2);
+        assertFalse(connection.sendFrame(MessageType.SC_CHANNEL_MESSAGE, overflow));
+        assertEquals(0, overflow.refCnt());
+        // 私聊不是低优先级，积压时仍然入队
+        assertTrue(connection.sendFrame(MessageType.SC_RECEIVE_MESSAGE, frame(3)));
+
+        channel.runPendingTasks();
+        assertEquals(1, nextWritten());
+        assertEquals(3, nextWritten());
+        assertEquals(-1, nextWritten());
+        assertEquals(dropped + 1, GameMetrics.snapshot().get("gateway.frames.dropped"));
+    }
+
+    @Test
+    public void testConflateLowPriorityWhenBacklogged() {
+        GameConnection connection = connect(SlowConsumerPolicy.CONFLATE);
+        long conflated = GameMetrics.snapshot().get("gateway.frames.conflated");
+
+        assertTrue(connection.sendFrame(MessageType.SC_CHANNEL_MESSAGE, frame(1)));
+        ByteBuf replaced = frame(2);
+        assertTrue(connection.sendFrame(MessageType.SC_CHANNEL_MESSAGE, replaced));
+        assertTrue(connection.sendFrame(MessageType.SC_CHANNEL_MESSAGE, frame(3)));
+        assertEquals(0, replaced.refCnt());
+
+        channel.runPendingTasks();
+        assertEquals(1, nextWritten());
+        // 同类型只保留最新的一条
+        assertEquals(3, nextWritten());
+        assertNull(channel.readOutbound());
+        assertEquals(conflated + 1, GameMetrics.snapshot().get("gateway.frames.conflated"));
+    }
+
+    private void setWritable(boolean writable) {
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+    }
+
+    @Test
+    public void testThrottleTimerOnlyAppliesToItsOwnEpisode() throws Exception {
+        // 时钟不前进，两次限流在同一个tick内开始
+        GameConnection connection = connect(new OutboundOptions().setDisconnectThrottledMillis(500));
+
+        setWritable(false);
+        connection.sendFrame(MessageType.SC_RECEIVE_MESSAGE, frame(1));
+        channel.runPendingTasks();
+        setWritable(true);
+        connection.sendFrame(MessageType.SC_RECEIVE_MESSAGE, frame(2));
+        channel.runPendingTasks();
+        assertEquals(1, nextWritten());
+        assertEquals(2, nextWritten());
+
+        Thread.sleep(300);
+        setWritable(false);
+        connection.sendFrame(MessageType.SC_RECEIVE_MESSAGE, frame(3));
+        channel.runPendingTasks();
+
+        // 第一次限流的定时器到期，但它所属的那次限流已经结束
+        Thread.sleep(300);
+        channel.runScheduledPendingTasks();
+        assertTrue(channel.isOpen());
+
+        Thread.sleep(300);
+        channel.runScheduledPendingTasks();
+        assertFalse(channel.isOpen());
+    }
+}
@@ -0,0 +1,89 @@
+package com.sirius.game.gateway;
+
+import com.sirius.game.proto.CSLogin;
+import com.sirius.game.proto.CSSendMessage;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameMessageCodecTest {
+
+    private final GameMessage message = GameMessage.newBuilder()
+            .setType(MessageType.CS_LOGIN)
+            .setCsLogin(CSLogin.newBuilder()
+                    .setUsername("alice")
+                    .setPassword("secret")
+                    .setTimestamp(1700000000000L))
+            .build();
+
+    @Test
+    public void testDecodeHeapBuffer() throws Exception {
+        assertEquals(message, GameMessageCodec.decode(Buffer.buffer(message.toByteArray())));
+    }
+
+    @Test
+    public void testDecodeDirectBuffer() throws Exception {
+        ByteBuf direct = Unpooled.directBuffer();
+        direct.writeBytes(message.toByteArray());
+        try {
+            assertEquals(message, GameMessageCodec.decode(VertxInternals.buffer(direct)));
+        } finally {
+            direct.release();
+        }
+    }
+
+    @Test
+    public void testDecodeCompositeBuffer() throws Exception {
+        byte[] bytes = message.toByteArray();
+        int half = bytes.length / 2;
+        ByteBuf composite = Unpooled.wrappedBuffer(
+                Arrays.copyOfRange(bytes, 0, half),
+                Arrays.copyOfRange(bytes, half, bytes.length));
+        Buffer buffer = VertxInternals.buffer(composite);
+        assertEquals(message, GameMessageCodec.decode(buffer));
+        // 按流读取不移动Buffer自身的读下标，同一帧可以先peek再decode
+        assertEquals(message, GameMessageCodec.decode(buffer));
+    }
+
+    @Test
+    public void testEncodeIntoDirectBuffer() throws Exception {
+        ByteBuf encoded = GameMessageCodec.encode(message);
+        try {
+            assertTrue(encoded.isDirect());
+            assertEquals(message.getSerializedSize(), encoded.readableBytes());
+            assertEquals(message, GameMessageCodec.decode(VertxInternals.buffer(encoded)));
+        } finally {
+            encoded.release();
+        }
+    }
+
+    @Test
+    public void testPeekLogin() throws Exception {
+        FrameHeader header = GameMessageCodec.peek(Buffer.buffer(message.toByteArray()));
+        assertEquals(MessageType.CS_LOGIN, header.type());
+        assertEquals("alice", header.routingKey());
+    }
+
+    @Test
+    public void testPeekSendMessage() throws Exception {
+        GameMessage sendMessage = GameMessage.newBuilder()
+                .setType(MessageType.CS_SEND_MESSAGE)
+                .setCsSendMessage(CSSendMessage.newBuilder()
+                        .setFrom("alice")
+                        .setTo("bob")
+                        .setContent("hello"))
+                .build();
+        FrameHeader header = GameMessageCodec.peek(Buffer.buffer(sendMessage.toByteArray()));
+        assertEquals(MessageType.CS_SEND_MESSAGE, header.type());
+        assertNull(header.routingKey());
+    }
+}
@@ -0,0 +1,102 @@
+package com.sirius.game.gateway;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplayBufferTest {
+
+    private static long append(ReplayBuffer buffer, String content) {
+        ByteBuf frame = Unpooled.copiedBuffer(content, StandardCharsets.UTF_8);
+        try {
+            return buffer.append(frame);
+        } finally {
+            frame.release();
+        }
+    }
+
+    private static String content(ReplayBuffer.Frame frame) {
+        try {
+            return frame.payload().toString(StandardCharsets.UTF_8);
+        } finally {
+            frame.payload().release();
+        }
+    }
+
+    @Test
+    public void testReplaySince() {
+        ReplayBuffer buffer = new ReplayBuffer(8, 64);
+        try {
+            assertEquals(1, append(buffer, "a"));
+            assertEquals(2, append(buffer, "b"));
+            assertEquals(3, append(buffer, "c"));
+
+            List<ReplayBuffer.Frame> frames = buffer.since(1);
+            assertEquals(2, frames.size());
+            assertEquals(2, frames.get(0).seq());
+            assertEquals("b", content(frames.get(0)));
+            assertEquals("c", content(frames.get(1)));
+            assertTrue(buffer.since(3).isEmpty());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testEvictByCount() {
+        ReplayBuffer buffer = new ReplayBuffer(2, 64);
+        try {
+            append(buffer, "a");
+            append(buffer, "b");
+            append(buffer, "c");
+
+            assertNull(buffer.since(0));
+            List<ReplayBuffer.Frame> frames = buffer.since(1);
+            assertEquals("b", content(frames.get(0)));
+            assertEquals("c", content(frames.get(1)));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testEvictByBytesAcrossWrap() {
+        ReplayBuffer buffer = new ReplayBuffer(8, 10);
+        try {
+            append(buffer, "1234");
+            append(buffer, "5678");
+            // 放不下时淘汰最早的帧，新帧跨过环形缓冲区末尾
+            append(buffer, "abcdef");
+
+            assertNull(buffer.since(0));
+            List<ReplayBuffer.Frame> frames = buffer.since(1);
+            assertEquals(2, frames.size());
+            assertEquals("5678", content(frames.get(0)));
+            assertEquals("abcdef", content(frames.get(1)));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void testOversizedFrameBreaksContinuity() {
+        ReplayBuffer buffer = new ReplayBuffer(8, 4);
+        try {
+            append(buffer, "ab");
+            assertEquals(2, append(buffer, "too large"));
+
+            assertNull(buffer.since(1));
+            assertTrue(buffer.since(2).isEmpty());
+            assertNull(buffer.since(3));
+        } finally {
+            buffer.release();
+        }
+    }
+}
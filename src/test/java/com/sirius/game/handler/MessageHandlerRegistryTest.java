@@ -0,0 +1,88 @@
+package com.sirius.game.handler;
+
+import com.sirius.game.proto.CSLogin;
+import com.sirius.game.proto.CSSendMessage;
+import com.sirius.game.proto.GameMessage;
+import com.sirius.game.proto.MessageType;
+import com.sirius.game.proto.SCReceiveMessage;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageHandlerRegistryTest {
+
+    static class Handlers {
+
+        @MessageHandler(MessageType.CS_LOGIN)
+        String onLogin(CSLogin csLogin) {
+            return "login:" + csLogin.getUsername();
+        }
+
+        @MessageHandler(MessageType.CS_SEND_MESSAGE)
+        String onSend(CSSendMessage csSendMessage) {
+            return "send:" + csSendMessage.getContent();
+        }
+    }
+
+    private final MessageHandlerRegistry<Handlers, String> registry =
+            MessageHandlerRegistry.scan(Handlers.class, MethodHandles.lookup());
+
+    @Test
+    public void testDispatchByType() throws Exception {
+        GameMessage login = GameMessage.newBuilder()
+                .setType(MessageType.CS_LOGIN)
+                .setCsLogin(CSLogin.newBuilder().setUsername("alice"))
+                .build();
+        GameMessage send = GameMessage.newBuilder()
+                .setType(MessageType.CS_SEND_MESSAGE)
+                .setCsSendMessage(CSSendMessage.newBuilder().setContent("hello"))
+                .build();
+
+        assertEquals("login:alice", registry.dispatch(new Handlers(), login));
+        assertEquals("send:hello", registry.dispatch(new Handlers(), send));
+    }
+
+    @Test
+    public void testUnregisteredType() throws Exception {
+        assertTrue(registry.supports(MessageType.CS_LOGIN));
+        assertFalse(registry.supports(MessageType.SC_LOGIN_RESULT));
+        assertNull(registry.dispatch(new Handlers(), GameMessage.newBuilder().setType(MessageType.UNKNOWN).build()));
+    }
+
+    @Test
+    public void testRejectMismatchedPayload() throws Exception {
+        GameMessage mismatched = GameMessage.newBuilder()
+                .setType(MessageType.CS_LOGIN)
+                .setCsSendMessage(CSSendMessage.newBuilder().setContent("hello"))
+                .build();
+
+        assertNull(registry.dispatch(new Handlers(), mismatched));
+        assertNull(registry.dispatch(new Handlers(), GameMessage.newBuilder().setType(MessageType.CS_LOGIN).build()));
+    }
+
+    static class ChannelHandlers {
+
+        @MessageHandler(MessageType.SC_CHANNEL_MESSAGE)
+        String onChannel(SCReceiveMessage message) {
+            return "channel:" + message.getContent();
+        }
+    }
+
+    @Test
+    public void testResolvePayloadByFieldNumber() throws Exception {
+        // SCReceiveMessage同时是sc_receive_message和sc_channel_message的类型
+        MessageHandlerRegistry<ChannelHandlers, String> channels =
+                MessageHandlerRegistry.scan(ChannelHandlers.class, MethodHandles.lookup());
+        GameMessage message = GameMessage.newBuilder()
+                .setType(MessageType.SC_CHANNEL_MESSAGE)
+                .setScChannelMessage(SCReceiveMessage.newBuilder().setContent("hi"))
+                .build();
+
+        assertEquals("channel:hi", channels.dispatch(new ChannelHandlers(), message));
+    }
+}
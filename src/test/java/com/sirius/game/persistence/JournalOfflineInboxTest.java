@@ -0,0 +1,33 @@
+package com.sirius.game.persistence;
+
+import com.sirius.game.proto.SCReceiveMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournalOfflineInboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testInvalidRecipientsAreNotStored() throws Exception {
+        try (SegmentedJournal journal = new SegmentedJournal(directory, new JournalOptions().setSegmentSize(4096))) {
+            JournalOfflineInbox inbox = new JournalOfflineInbox(journal);
+            SCReceiveMessage message = SCReceiveMessage.newBuilder().setFrom("alice").setContent("hello").build();
+
+            for (String playerId : List.of("", " ", "bob\n", "b".repeat(200))) {
+                assertFalse(inbox.store(playerId, message));
+                assertTrue(journal.read(playerId).get().events().isEmpty());
+            }
+            assertTrue(inbox.store("bob", message));
+            assertEquals(List.of(message), inbox.take("bob").toCompletableFuture().get());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.sirius.game.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SegmentedJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static JournalOptions options(int segmentSize) {
+        return new JournalOptions().setSegmentSize(segmentSize).setFlushIntervalMicros(0).setMaxBatch(16);
+    }
+
+    @Test
+    public void testReadReturnsEventsAfterLatestSnapshot() throws Exception {
+        try (SegmentedJournal journal = new SegmentedJournal(directory, options(4096))) {
+            journal.append(SegmentedJournal.EVENT, "alice", bytes("e1"));
+            journal.append(SegmentedJournal.SNAPSHOT, "alice", bytes("s1"));
+            journal.append(SegmentedJournal.EVENT, "alice", bytes("e2"));
+            journal.append(SegmentedJournal.EVENT, "bob", bytes("b1")).get();
+
+            SegmentedJournal.Entries entries = journal.read("alice").get();
+            assertArrayEquals(bytes("s1"), entries.snapshot());
+            assertEquals(1, entries.events().size());
+            assertArrayEquals(bytes("e2"), entries.events().get(0));
+
+            SegmentedJournal.Entries bob = journal.read("bob").get();
+            assertNull(bob.snapshot());
+            assertArrayEquals(bytes("b1"), bob.events().get(0));
+        }
+    }
+
+    @Test
+    public void testRecoverAfterReopen() throws Exception {
+        try (SegmentedJournal journal = new SegmentedJournal(directory, options(4096))) {
+            journal.append(SegmentedJournal.SNAPSHOT, "alice", bytes("s1"));
+            journal.append(SegmentedJournal.EVENT, "alice", bytes("e1")).get();
+        }
+        try (SegmentedJournal journal = new SegmentedJournal(directory, options(4096))) {
+            journal.append(SegmentedJournal.EVENT, "alice", bytes("e2"));
+            SegmentedJournal.Entries entries = journal.read("alice").get();
+            assertArrayEquals(bytes("s1"), entries.snapshot());
+            List<byte[]> events = entries.events();
+            assertEquals(2, events.size());
+            assertArrayEquals(bytes("e1"), events.get(0));
+            assertArrayEquals(bytes("e2"), events.get(1));
+        }
+    }
+
+    @Test
+    public void testSupersededSegmentsAreDeleted() throws Exception {
+        try (SegmentedJournal journal = new SegmentedJournal(directory, options(64))) {
+            // 每条记录26字节，一个分段放两条
+            for (int i = 0; i < 6; i++) {
+                journal.append(SegmentedJournal.SNAPSHOT, "alice", bytes("snapshot-" + i)).get();
+            }
+            assertArrayEquals(bytes("snapshot-5"), journal.read("alice").get().snapshot());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testTakeClearsEntries() throws Exception {
+        try (SegmentedJournal journal = new SegmentedJournal(directory, options(4096))) {
+            journal.append(SegmentedJournal.EVENT, "alice", bytes("m1"));
+            journal.append(SegmentedJournal.EVENT, "alice", bytes("m2"));
+            assertEquals(2, journal.take("alice").get().events().size());
+            assertTrue(journal.take("alice").get().events().isEmpty());
+        }
+        try (SegmentedJournal journal = new SegmentedJournal(directory, options(4096))) {
+            assertTrue(journal.read("alice").get().events().isEmpty());
+        }
+    }
+
+    @Test
+    public void testMaxEventsPerIdDropsOldest() throws Exception {
+        try (SegmentedJournal journal = new SegmentedJournal(directory, options(4096).setMaxEventsPerId(2))) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(SegmentedJournal.EVENT, "alice", bytes("m" + i));
+            }
+            List<byte[]> events = journal.read("alice").get().events();
+            assertEquals(2, events.size());
+            assertArrayEquals(bytes("m3"), events.get(0));
+            assertArrayEquals(bytes("m4"), events.get(1));
+        }
+    }
+
+    @Test
+    public void testEveryAppendCompletesWhenClosedConcurrently() throws Exception {
+        SegmentedJournal journal = new SegmentedJournal(directory, options(1 << 20));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        Thread appender = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                futures.add(journal.append(SegmentedJournal.EVENT, "alice", bytes("m" + i)));
+                started.countDown();
+            }
+        });
+        appender.start();
+        started.await();
+        journal.close();
+        appender.join();
+
+        // 关闭前入队的都已落盘，之后的都直接失败，不会有永远不完成的future
+        for (CompletableFuture<Void> future : futures) {
+            future.handle((result, failure) -> null).get(1, TimeUnit.SECONDS);
+        }
+        assertTrue(journal.append(SegmentedJournal.EVENT, "alice", bytes("late")).isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,74 @@
+package com.sirius.game.score;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LeaderboardTest {
+
+    @Test
+    public void testRankTopAndAround() {
+        Leaderboard leaderboard = new Leaderboard(4);
+        leaderboard.add("alice", 30);
+        leaderboard.add("bob", 50);
+        leaderboard.add("carol", 30);
+        leaderboard.add("dave", 10);
+        leaderboard.add("erin", 40);
+
+        // 同分按playerId排序
+        assertEquals(List.of(
+                new LeaderboardEntry(1, "bob", 50),
+                new LeaderboardEntry(2, "erin", 40),
+                new LeaderboardEntry(3, "alice", 30)), leaderboard.top(3));
+        assertEquals(new LeaderboardEntry(4, "carol", 30), leaderboard.rank("carol"));
+        assertNull(leaderboard.rank("nobody"));
+
+        assertEquals(List.of(
+                new LeaderboardEntry(2, "erin", 40),
+                new LeaderboardEntry(3, "alice", 30),
+                new LeaderboardEntry(4, "carol", 30)), leaderboard.around("alice", 1));
+
+        leaderboard.add("dave", 100);
+        assertEquals(new LeaderboardEntry(1, "dave", 110), leaderboard.rank("dave"));
+        assertEquals(5, leaderboard.size());
+    }
+
+    @Test
+    public void testMatchesFullSort() {
+        Leaderboard leaderboard = new Leaderboard();
+        Map<String, Integer> scores = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String playerId = "p" + random.nextInt(1000);
+            int delta = random.nextInt(200) - 50;
+            scores.merge(playerId, delta, Integer::sum);
+            leaderboard.add(playerId, delta);
+        }
+
+        List<LeaderboardEntry> expected = new ArrayList<>();
+        scores.forEach((playerId, score) -> expected.add(new LeaderboardEntry(0, playerId, score)));
+        expected.sort(Leaderboard.ORDER);
+        List<LeaderboardEntry> top = leaderboard.top(50);
+        for (int i = 0; i < expected.size(); i++) {
+            LeaderboardEntry entry = expected.get(i);
+            assertEquals(new LeaderboardEntry(i + 1, entry.playerId(), entry.score()), leaderboard.rank(entry.playerId()));
+            if (i < top.size()) {
+                assertEquals(entry.playerId(), top.get(i).playerId());
+            }
+        }
+        LeaderboardEntry middle = expected.get(500);
+        List<LeaderboardEntry> window = leaderboard.around(middle.playerId(), 3);
+        assertEquals(7, window.size());
+        for (int i = 0; i < window.size(); i++) {
+            assertEquals(expected.get(497 + i).playerId(), window.get(i).playerId());
+            assertEquals(498 + i, window.get(i).rank());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.sirius.game.score;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sirius.game.proto.ScoreBatch;
+import com.sirius.game.proto.ScoreOp;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScoreBatchReaderTest {
+
+    private static final List<ScoreDelta> EXPECTED = List.of(
+            new ScoreDelta("alice", 10, "op-1"),
+            new ScoreDelta("bob", -3, ""));
+
+    @Test
+    public void testReadNdjson() throws Exception {
+        String body = """
+                {"playerId":"alice","delta":10,"opId":"op-1"}
+
+                {"playerId":"bob","delta":-3}
+                """;
+        assertEquals(EXPECTED, ScoreBatchReader.readNdjson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), new ObjectMapper(), 10));
+    }
+
+    @Test
+    public void testReadProtobuf() throws Exception {
+        byte[] body = ScoreBatch.newBuilder()
+                .addOps(ScoreOp.newBuilder().setPlayerId("alice").setDelta(10).setOpId("op-1"))
+                .addOps(ScoreOp.newBuilder().setPlayerId("bob").setDelta(-3))
+                .build()
+                .toByteArray();
+        assertEquals(EXPECTED, ScoreBatchReader.readProtobuf(new ByteArrayInputStream(body), 10));
+        assertThrows(IllegalArgumentException.class, () -> ScoreBatchReader.readProtobuf(new ByteArrayInputStream(body), 1));
+    }
+}
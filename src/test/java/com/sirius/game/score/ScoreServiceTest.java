@@ -0,0 +1,71 @@
+package com.sirius.game.score;
+
+import com.sirius.game.common.VirtualGameClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScoreServiceTest {
+
+    private static final long TTL = 60_000L;
+
+    @Test
+    public void testApplyBatch() {
+        VirtualGameClock clock = new VirtualGameClock(0, 1);
+        ScoreService service = new ScoreService(clock, 4, List.of("daily=1d"), "1970-01-01T00:00:00Z", 2, 0, TTL, 100);
+
+        List<ScoreResult> results = service.applyBatch(List.of(
+                new ScoreDelta("alice", 10, "op-1"),
+                new ScoreDelta("bob", 5, "op-2"),
+                new ScoreDelta("alice", -3, "op-3"),
+                new ScoreDelta("alice", 10, "op-1"),
+                new ScoreDelta("", 1, "op-4"),
+                new ScoreDelta("bob", 1, "")));
+        assertEquals(List.of(
+                new ScoreResult("op-1", "alice", 10, ScoreResult.Status.APPLIED),
+                new ScoreResult("op-2", "bob", 5, ScoreResult.Status.APPLIED),
+                new ScoreResult("op-3", "alice", 7, ScoreResult.Status.APPLIED),
+                new ScoreResult("op-1", "alice", 7, ScoreResult.Status.DUPLICATE),
+                new ScoreResult("op-4", "", 0, ScoreResult.Status.INVALID),
+                new ScoreResult("", "bob", 6, ScoreResult.Status.APPLIED)), results);
+        assertEquals(7, service.window("daily").view(0).rank("alice").score());
+
+        // 重试同一批次不再生效，超过两代ttl后opId可以重新使用
+        assertEquals(ScoreResult.Status.DUPLICATE, service.applyBatch(List.of(new ScoreDelta("bob", 5, "op-2"))).get(0).status());
+        clock.advance(2 * TTL);
+        assertEquals(11, service.applyBatch(List.of(new ScoreDelta("bob", 5, "op-2"))).get(0).score());
+    }
+
+    @Test
+    public void testFailedApplyReleasesOpIds() {
+        // 允许读取指定次数后抛出异常，模拟应用到一半失败
+        AtomicInteger allowed = new AtomicInteger(Integer.MAX_VALUE);
+        VirtualGameClock clock = new VirtualGameClock(0, 1) {
+            @Override
+            public long millis() {
+                if (allowed.getAndDecrement() <= 0) {
+                    throw new IllegalStateException("clock failure");
+                }
+                return super.millis();
+            }
+        };
+        ScoreService service = new ScoreService(clock, 4, List.of("daily=1d", "weekly=7d"), "1970-01-01T00:00:00Z",
+                2, 0, TTL, 100);
+
+        // 第一次读取用于claim，第二次取得日榜，第三次在取得周榜时失败
+        allowed.set(2);
+        assertThrows(IllegalStateException.class, () -> service.applyBatch(List.of(new ScoreDelta("alice", 10, "op-1"))));
+        allowed.set(Integer.MAX_VALUE);
+        assertEquals(0, service.score("alice"));
+
+        ScoreResult retry = service.applyBatch(List.of(new ScoreDelta("alice", 10, "op-1"))).get(0);
+        assertEquals(new ScoreResult("op-1", "alice", 10, ScoreResult.Status.APPLIED), retry);
+        // 失败的那次没有留下任何窗口写入，重试后不会重复计分
+        assertEquals(10, service.window("daily").view(0).rank("alice").score());
+        assertEquals(10, service.window("weekly").view(0).rank("alice").score());
+    }
+}
@@ -0,0 +1,65 @@
+package com.sirius.game.score;
+
+import com.sirius.game.common.VirtualGameClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class WindowedLeaderboardTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
+    @Test
+    public void testWindowsRotateAndFreeze() throws Exception {
+        VirtualGameClock clock = new VirtualGameClock(0, 1);
+        WindowedLeaderboard daily = new WindowedLeaderboard("daily", DAY, 0, 4, 2, 0, clock);
+
+        daily.update("alice", score -> score + 10);
+        clock.advance(DAY);
+        daily.update("alice", score -> score + 3);
+        daily.update("bob", score -> score + 5);
+
+        assertEquals(new LeaderboardEntry(2, "alice", 3), daily.view(0).rank("alice"));
+        assertEquals(new LeaderboardEntry(1, "alice", 10), daily.view(1).rank("alice"));
+        assertNull(daily.view(1).rank("bob"));
+
+        // 冻结在后台异步完成
+        for (int i = 0; i < 100 && !(daily.view(1) instanceof LeaderboardSnapshot); i++) {
+            Thread.sleep(10);
+        }
+        assertInstanceOf(LeaderboardSnapshot.class, daily.view(1));
+
+        clock.advance(DAY);
+        daily.update("carol", score -> score + 1);
+        clock.advance(DAY);
+        // 只保留最近2个已结束窗口，最早的窗口被丢弃
+        assertEquals(1, daily.view(1).size());
+        assertEquals(2, daily.view(2).size());
+        assertNull(daily.view(3));
+    }
+
+    @Test
+    public void testLateWriteAfterFreezeMovesToCurrentWindow() throws Exception {
+        VirtualGameClock clock = new VirtualGameClock(0, 1);
+        WindowedLeaderboard daily = new WindowedLeaderboard("daily", DAY, 0, 4, 2, 0, clock);
+        daily.update("alice", score -> score + 10);
+        // 换榜前读到的旧引用，冻结之后才写入
+        Leaderboard stale = daily.live();
+
+        clock.advance(DAY);
+        daily.update("bob", score -> score + 1);
+        for (int i = 0; i < 100 && !(daily.view(1) instanceof LeaderboardSnapshot); i++) {
+            Thread.sleep(10);
+        }
+        assertInstanceOf(LeaderboardSnapshot.class, daily.view(1));
+
+        ScoreDelta late = new ScoreDelta("carol", 7, "");
+        daily.addAll(stale, stale.stripeOf("carol"), List.of(late));
+        assertEquals(7, daily.view(0).rank("carol").score());
+        assertNull(daily.view(1).rank("carol"));
+    }
+}